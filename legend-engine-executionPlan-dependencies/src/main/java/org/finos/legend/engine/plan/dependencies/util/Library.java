@@ -27,9 +27,11 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
@@ -824,16 +826,107 @@ public class Library
         }
     }
 
+    /**
+     * Same as {@link #removeDuplicates(List, Function, BiPredicate)}, but values equal according to eql must have the
+     * same hash key, so that eql is only evaluated within a hash bucket.
+     * <p>
+     * Unlike {@link #removeDuplicates(List, Function, BiPredicate)} with a key, which keeps elements whose key is null
+     * and gives that null to eql, elements with a null key (or null elements when there is no key) are dropped, so that
+     * neither hashKey nor eql is given a null.
+     * <p>
+     * Nothing in this repository calls it: it is meant for generated plan code that knows a hash key consistent with eql.
+     */
+    public static <T, V> List<T> removeDuplicates(List<T> col, Function<T, V> key, BiPredicate<V, V> eql, Function<? super V, ?> hashKey)
+    {
+        Map<Object, List<V>> seen = new HashMap<Object, List<V>>();
+        List<T> result = new ArrayList<T>();
+        for (T t : col)
+        {
+            V v = t == null ? null : key == null ? (V) t : key.apply(t);
+            if (v == null)
+            {
+                continue;
+            }
+            List<V> bucket = seen.computeIfAbsent(hashKey.apply(v), k -> new ArrayList<V>(1));
+            if (Library.noneMatch(bucket, v, eql))
+            {
+                bucket.add(v);
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #removeDuplicates(List, Function, BiPredicate)}, but values are equal when the comparator returns 0.
+     * The first occurrence of each value is kept, in the original order.
+     * <p>
+     * As for {@link #removeDuplicates(List, Function, BiPredicate, Function)}, elements with a null key (or null elements
+     * when there is no key) are dropped, so that the comparator is never given a null. The overload without a comparator
+     * keeps elements whose key is null.
+     * <p>
+     * Nothing in this repository calls it: it is meant for generated plan code that knows a comparator consistent with eql.
+     */
+    public static <T, V> List<T> removeDuplicatesByComparator(List<T> col, Function<T, V> key, Comparator<? super V> comparator)
+    {
+        List<T> elements = new ArrayList<T>(col.size());
+        List<V> values = new ArrayList<V>(col.size());
+        for (T t : col)
+        {
+            V v = t == null ? null : key == null ? (V) t : key.apply(t);
+            if (v != null)
+            {
+                elements.add(t);
+                values.add(v);
+            }
+        }
+        int size = elements.size();
+        Integer[] positions = new Integer[size];
+        for (int i = 0; i < size; i++)
+        {
+            positions[i] = i;
+        }
+        // The sort is stable so the first occurrence of a value comes first among its duplicates
+        Arrays.sort(positions, (Integer i, Integer j) -> comparator.compare(values.get(i), values.get(j)));
+        boolean[] kept = new boolean[size];
+        for (int i = 0; i < size; i++)
+        {
+            kept[positions[i]] = i == 0 || comparator.compare(values.get(positions[i - 1]), values.get(positions[i])) != 0;
+        }
+        List<T> result = new ArrayList<T>();
+        for (int i = 0; i < size; i++)
+        {
+            if (kept[i])
+            {
+                result.add(elements.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static <V> boolean noneMatch(List<V> values, V value, BiPredicate<V, V> eql)
+    {
+        for (V v : values)
+        {
+            if (eql.test(v, value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static <T> Predicate<T> distinctByKey(Function<T, ?> key)
     {
         Set<Object> seen = ConcurrentHashMap.newKeySet();
         return (T t) -> seen.add(key.apply(t));
     }
 
+    // Compares each value with every value kept so far: the overloads taking a hash key or a comparator avoid this
     public static <V> Predicate<V> distinctByEql(BiPredicate<V, V> eql)
     {
         List<V> seen = new ArrayList<V>();
-        return (V v) -> seen.stream().noneMatch((V vv) -> eql.test(vv, v)) && seen.add(v);
+        return (V v) -> Library.noneMatch(seen, v, eql) && seen.add(v);
     }
 
     public static <T> T first(T in)
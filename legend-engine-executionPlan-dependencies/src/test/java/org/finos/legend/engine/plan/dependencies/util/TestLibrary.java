@@ -1,7 +1,11 @@
 package org.finos.legend.engine.plan.dependencies.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -27,5 +31,47 @@ public class TestLibrary {
         List<String> expected = Arrays.asList("abc", "abc", "abc");
         Assert.assertEquals(expected, res);
     }
-}
 
+    @Test
+    public void testRemoveDuplicatesWithEql() {
+        List<String> col = Arrays.asList("a", "B", "b", "c", "A", "C", "d");
+        List<String> expected = Arrays.asList("a", "B", "c", "d");
+        Assert.assertEquals(expected, Library.removeDuplicates(col, null, String::equalsIgnoreCase));
+        Assert.assertEquals(expected, Library.removeDuplicates(col, null, String::equalsIgnoreCase, String::toLowerCase));
+        Assert.assertEquals(expected, Library.removeDuplicatesByComparator(col, null, String.CASE_INSENSITIVE_ORDER));
+    }
+
+    @Test
+    public void testRemoveDuplicatesWithKeyAndEql() {
+        List<Integer> col = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            col.add(i);
+        }
+        Collections.shuffle(col, new Random(42));
+        List<Integer> expected = new ArrayList<>();
+        boolean[] seen = new boolean[1000];
+        for (Integer i : col) {
+            if (!seen[i % 1000]) {
+                seen[i % 1000] = true;
+                expected.add(i);
+            }
+        }
+        Assert.assertEquals(expected, Library.removeDuplicates(col, (Integer i) -> i % 1000, Integer::equals, (Integer i) -> i));
+        Assert.assertEquals(expected, Library.removeDuplicatesByComparator(col, (Integer i) -> i % 1000, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void testRemoveDuplicatesWithNullValues() {
+        List<String> col = Arrays.asList("b", null, "a", "B", null, "c");
+        List<String> expected = Arrays.asList("b", "a", "c");
+        Assert.assertEquals(expected, Library.removeDuplicates(col, null, String::equalsIgnoreCase, String::toLowerCase));
+        Assert.assertEquals(expected, Library.removeDuplicatesByComparator(col, null, String.CASE_INSENSITIVE_ORDER));
+
+        // Elements whose key is null are dropped rather than given to the hash key or the comparator
+        List<String> keyed = Arrays.asList("b", "a", "", "B", "c");
+        Assert.assertEquals(expected, Library.removeDuplicates(keyed, (String x) -> x.isEmpty() ? null : x, String::equalsIgnoreCase, String::toLowerCase));
+        Assert.assertEquals(expected, Library.removeDuplicatesByComparator(keyed, (String x) -> x.isEmpty() ? null : x, String.CASE_INSENSITIVE_ORDER));
+        // whereas the overload without a hash key or a comparator keeps them, and gives their null key to eql
+        Assert.assertEquals(Arrays.asList("b", "a", "", "c"), Library.removeDuplicates(keyed, (String x) -> x.isEmpty() ? null : x, (String x, String y) -> x == null ? y == null : x.equalsIgnoreCase(y)));
+    }
+}
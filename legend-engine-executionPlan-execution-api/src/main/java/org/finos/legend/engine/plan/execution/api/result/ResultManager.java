@@ -53,7 +53,12 @@ public class ResultManager
         }
         else if (result instanceof StreamingResult)
         {
-            return Response.ok((StreamingOutput) outputStream -> ((StreamingResult) result).stream(outputStream, format)).build();
+            Response.ResponseBuilder response = Response.ok((StreamingOutput) outputStream -> ((StreamingResult) result).stream(outputStream, format));
+            if (format == SerializationFormat.COLUMNAR)
+            {
+                response.type(MediaType.APPLICATION_OCTET_STREAM_TYPE);
+            }
+            return response.build();
         }
         else if (result instanceof ConstantResult)
         {
@@ -20,4 +20,9 @@ public class ConnectionException extends RuntimeException
     {
         super(e);
     }
+
+    public ConnectionException(String message)
+    {
+        super(message);
+    }
 }
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.AuthenticationStatistics;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecification;
@@ -28,6 +29,23 @@ public class RelationalExecutorInfo
 {
     private ConcurrentMutableMap<ConnectionKey, DataSourceSpecification> dbSpecByKey;
     private ConcurrentMutableMap<String, DataSourceSpecification> dataSourceSpecifications;
+    private final RelationalExecutorSettings settings;
+
+    public RelationalExecutorInfo()
+    {
+        this(new RelationalExecutorSettings());
+    }
+
+    public RelationalExecutorInfo(RelationalExecutorSettings settings)
+    {
+        this.settings = settings;
+    }
+
+    @JsonIgnore
+    public RelationalExecutorSettings getSettings()
+    {
+        return this.settings;
+    }
 
     public void setDbSpecByKey(ConcurrentMutableMap<ConnectionKey, DataSourceSpecification> dbSpecByKey)
     {
@@ -76,7 +94,8 @@ public class RelationalExecutorInfo
                                         }
                                 ).toList(),
                                 k.getTwo().getDataSourceSpecificationStatistics(),
-                                k.getTwo().getAuthenticationStrategy().getAuthenticationStatistics()
+                                k.getTwo().getAuthenticationStrategy().getAuthenticationStatistics(),
+                                new ConnectionBudget(k.getTwo().getConnectionBudget(), k.getTwo().getAvailableConnectionBudget())
                         )
         ).toList();
     }
@@ -86,14 +105,31 @@ public class RelationalExecutorInfo
         public Object connectionKey;
         public DataSourceSpecificationStatistics dataSourceSpecificationStatistics;
         public AuthenticationStatistics authenticationStatistics;
+        public ConnectionBudget connectionBudget;
+        public int poolCount;
         public Object pools;
 
-        public KeyAndPools(ConnectionKey connectionKey, Object two, DataSourceSpecificationStatistics dataSourceSpecificationStatistics, AuthenticationStatistics authenticationStatistics)
+        public KeyAndPools(ConnectionKey connectionKey, List<?> two, DataSourceSpecificationStatistics dataSourceSpecificationStatistics, AuthenticationStatistics authenticationStatistics, ConnectionBudget connectionBudget)
         {
             this.connectionKey = connectionKey;
             this.pools = two;
+            this.poolCount = two.size();
             this.authenticationStatistics = authenticationStatistics;
             this.dataSourceSpecificationStatistics = dataSourceSpecificationStatistics;
+            this.connectionBudget = connectionBudget;
+        }
+    }
+
+    class ConnectionBudget
+    {
+        // 0 when the number of connections is not limited
+        public int maximumConnections;
+        public int availableConnections;
+
+        public ConnectionBudget(int maximumConnections, int availableConnections)
+        {
+            this.maximumConnections = maximumConnections;
+            this.availableConnections = availableConnections;
         }
     }
 
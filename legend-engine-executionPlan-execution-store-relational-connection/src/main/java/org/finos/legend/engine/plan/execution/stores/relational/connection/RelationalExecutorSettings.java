@@ -0,0 +1,175 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of one relational executor: the pools and statements of its connections, its local H2 test databases and
+ * its realized results. They are set before the executor creates any connection and are read by the data source
+ * specifications and results created for it, so executors with different settings can live in the same process.
+ */
+public class RelationalExecutorSettings
+{
+    public static final int DEFAULT_MAX_POOL_SIZE_PER_USER = 100;
+    public static final long DEFAULT_IDLE_POOL_TIMEOUT = TimeUnit.MINUTES.toMillis(30);
+    public static final long DEFAULT_FETCH_BUFFER_SIZE = 4L * 1024 * 1024;
+    public static final long DEFAULT_REALIZED_RESULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    private int maxPoolSizePerUser = DEFAULT_MAX_POOL_SIZE_PER_USER;
+    private int connectionBudget = 0;
+    private long idlePoolTimeout = DEFAULT_IDLE_POOL_TIMEOUT;
+    private int fetchSize = 0;
+    private Map<String, Integer> fetchSizeByDatabaseType = Collections.emptyMap();
+    private boolean adaptiveFetchSize = false;
+    private long fetchBufferSize = DEFAULT_FETCH_BUFFER_SIZE;
+    private boolean localH2FixtureSnapshots = true;
+    private long realizedResultMemoryBudget = DEFAULT_REALIZED_RESULT_MEMORY_BUDGET;
+    private String realizedResultSpillDirectory = System.getProperty("java.io.tmpdir");
+
+    /**
+     * Sets the maximum size of each user pool, the maximum number of connections in use across all the pools of a
+     * data source specification (0 for no limit) and how long an unused pool is kept.
+     */
+    public RelationalExecutorSettings withPools(int maxPoolSizePerUser, int connectionBudget, long idlePoolTimeout)
+    {
+        if (maxPoolSizePerUser <= 0)
+        {
+            throw new IllegalArgumentException("Maximum pool size per user must be positive: " + maxPoolSizePerUser);
+        }
+        if (connectionBudget < 0)
+        {
+            throw new IllegalArgumentException("Connection budget can't be negative: " + connectionBudget);
+        }
+        if (idlePoolTimeout <= 0)
+        {
+            throw new IllegalArgumentException("Idle pool timeout must be positive: " + idlePoolTimeout);
+        }
+        this.maxPoolSizePerUser = maxPoolSizePerUser;
+        this.connectionBudget = connectionBudget;
+        this.idlePoolTimeout = idlePoolTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the fetch size of the statements running queries: the size for a database type if there is one, otherwise
+     * the default size. 0 leaves the choice to the driver. With adaptive fetch sizing, databases supporting it (H2) get
+     * a fetch size computed from the width of the result columns so that one fetch holds about fetchBufferSize bytes.
+     */
+    public RelationalExecutorSettings withFetchSize(int fetchSize, Map<String, Integer> fetchSizeByDatabaseType, boolean adaptiveFetchSize, long fetchBufferSize)
+    {
+        if (fetchSize < 0)
+        {
+            throw new IllegalArgumentException("Fetch size can't be negative: " + fetchSize);
+        }
+        if (fetchBufferSize <= 0)
+        {
+            throw new IllegalArgumentException("Fetch buffer size must be positive: " + fetchBufferSize);
+        }
+        fetchSizeByDatabaseType.forEach((databaseType, size) ->
+        {
+            if (size == null || size < 0)
+            {
+                throw new IllegalArgumentException("Invalid fetch size for " + databaseType + ": " + size);
+            }
+        });
+        this.fetchSize = fetchSize;
+        this.fetchSizeByDatabaseType = Collections.unmodifiableMap(new HashMap<>(fetchSizeByDatabaseType));
+        this.adaptiveFetchSize = adaptiveFetchSize;
+        this.fetchBufferSize = fetchBufferSize;
+        return this;
+    }
+
+    /**
+     * When enabled (the default), the setup SQL of a local H2 test database is run once and the resulting database is
+     * saved as a script, which each new connection then loads in a single statement instead of replaying the setup SQL.
+     */
+    public RelationalExecutorSettings withLocalH2FixtureSnapshots(boolean enabled)
+    {
+        this.localH2FixtureSnapshots = enabled;
+        return this;
+    }
+
+    /**
+     * Sets the memory budget (in bytes) of realized results, and the directory rows over that budget are spilled to.
+     * A null directory keeps the current one.
+     */
+    public RelationalExecutorSettings withRealizedResults(long memoryBudget, String spillDirectory)
+    {
+        if (memoryBudget <= 0)
+        {
+            throw new IllegalArgumentException("Realized result memory budget must be positive: " + memoryBudget);
+        }
+        this.realizedResultMemoryBudget = memoryBudget;
+        if (spillDirectory != null)
+        {
+            this.realizedResultSpillDirectory = spillDirectory;
+        }
+        return this;
+    }
+
+    public int getMaxPoolSizePerUser()
+    {
+        return this.maxPoolSizePerUser;
+    }
+
+    public int getConnectionBudget()
+    {
+        return this.connectionBudget;
+    }
+
+    public long getIdlePoolTimeout()
+    {
+        return this.idlePoolTimeout;
+    }
+
+    public int getFetchSize()
+    {
+        return this.fetchSize;
+    }
+
+    public Map<String, Integer> getFetchSizeByDatabaseType()
+    {
+        return this.fetchSizeByDatabaseType;
+    }
+
+    public boolean isAdaptiveFetchSize()
+    {
+        return this.adaptiveFetchSize;
+    }
+
+    public long getFetchBufferSize()
+    {
+        return this.fetchBufferSize;
+    }
+
+    public boolean isLocalH2FixtureSnapshots()
+    {
+        return this.localH2FixtureSnapshots;
+    }
+
+    public long getRealizedResultMemoryBudget()
+    {
+        return this.realizedResultMemoryBudget;
+    }
+
+    public String getRealizedResultSpillDirectory()
+    {
+        return this.realizedResultSpillDirectory;
+    }
+}
@@ -53,6 +53,11 @@ public abstract class AuthenticationStrategy
         profilesByPools.put(poolName, profiles);
     }
 
+    public static void unregisterProfilesByPool(String poolName)
+    {
+        profilesByPools.remove(poolName);
+    }
+
     public Connection getConnection(DataSourceWithStatistics ds, Subject subject, MutableList<CommonProfile> profiles) throws ConnectionException
     {
         // Refresh the profiles in the pool if they are provided (The profiles were already associated with the Pool at Pool creation)
@@ -19,12 +19,19 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ConnectionExtension;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.AuthenticationStrategy;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.bigquery.BigQueryManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Manager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.snowflake.SnowflakeManager;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
 
@@ -32,6 +39,14 @@ public abstract class DatabaseManager
 {
     private static volatile ConcurrentHashMap<String, DatabaseManager> managersByName; //NOSONAR - ConcurrentHashMap is good enough
 
+    // Adaptive fetch sizing, see RelationalExecutorSettings.withFetchSize
+    private static final int MIN_ADAPTIVE_FETCH_SIZE = 10;
+    private static final int MAX_ADAPTIVE_FETCH_SIZE = 10_000;
+    // Used for columns whose display size is unknown or unbounded (CLOBs, unbounded VARCHARs)
+    private static final int DEFAULT_COLUMN_WIDTH = 64;
+    // Wide columns are rarely full, counting them at their declared size would make fetches too small
+    private static final int MAX_COLUMN_WIDTH = 1024;
+
     private static void initialize()
     {
         if (managersByName == null)
@@ -81,4 +96,71 @@ public abstract class DatabaseManager
     {
         return true;
     }
+
+    /**
+     * Whether the driver honours a fetch size set on an open result set, which adaptive fetch sizing relies on. Only
+     * H2 opts in: the Snowflake and BigQuery drivers size their result pages themselves.
+     */
+    public boolean supportsAdaptiveFetchSize()
+    {
+        return false;
+    }
+
+    public int getFetchSize(RelationalExecutorSettings settings)
+    {
+        Map<String, Integer> sizes = settings.getFetchSizeByDatabaseType();
+        for (String id : this.getIds())
+        {
+            Integer size = sizes.get(id);
+            if (size != null)
+            {
+                return size;
+            }
+        }
+        return settings.getFetchSize();
+    }
+
+    /**
+     * Creates a forward only, read only statement with the fetch size of the settings.
+     */
+    public Statement createStatement(Connection connection, RelationalExecutorSettings settings) throws SQLException
+    {
+        Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        this.applyFetchSize(statement, settings);
+        return statement;
+    }
+
+    public void applyFetchSize(Statement statement, RelationalExecutorSettings settings) throws SQLException
+    {
+        int size = this.getFetchSize(settings);
+        if (size > 0)
+        {
+            statement.setFetchSize(size);
+        }
+    }
+
+    /**
+     * Resizes the fetches of an open result set from the width of its columns when adaptive fetch sizing is enabled
+     * and supported. Later fetches then hold about the fetch buffer size of the settings.
+     */
+    public void adaptFetchSize(ResultSet resultSet, RelationalExecutorSettings settings) throws SQLException
+    {
+        if (!settings.isAdaptiveFetchSize() || !this.supportsAdaptiveFetchSize())
+        {
+            return;
+        }
+        resultSet.setFetchSize(adaptiveFetchSize(resultSet.getMetaData(), settings.getFetchBufferSize()));
+    }
+
+    static int adaptiveFetchSize(ResultSetMetaData metaData, long fetchBufferSize) throws SQLException
+    {
+        long rowWidth = 0;
+        for (int i = 1; i <= metaData.getColumnCount(); i++)
+        {
+            int displaySize = metaData.getColumnDisplaySize(i);
+            rowWidth += displaySize <= 0 || displaySize == Integer.MAX_VALUE ? DEFAULT_COLUMN_WIDTH : Math.min(displaySize, MAX_COLUMN_WIDTH);
+        }
+        long rows = fetchBufferSize / Math.max(rowWidth, 1);
+        return (int) Math.max(MIN_ADAPTIVE_FETCH_SIZE, Math.min(MAX_ADAPTIVE_FETCH_SIZE, rows));
+    }
 }
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands;
 
+import java.util.Collections;
 import java.util.List;
 
 public abstract class RelationalDatabaseCommands
@@ -27,6 +28,13 @@ public abstract class RelationalDatabaseCommands
 
     public abstract List<String> createAndLoadTempTable(String tableName, List<Column> columns, String optionalCSVFileLocation);
 
+    public abstract List<String> createTempTable(String tableName, List<Column> columns);
+
+    public String insertIntoTempTable(String tableName, int columnCount)
+    {
+        return "INSERT INTO " + tableName + " VALUES (" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+    }
+
     public abstract <T> T accept(RelationalDatabaseCommandsVisitor<T> visitor);
 
     public abstract IngestionMethod getDefaultIngestionMethod();
@@ -37,6 +37,12 @@ public class BigQueryCommands extends RelationalDatabaseCommands
         throw new UnsupportedOperationException("not yet implemented");
     }
 
+    @Override
+    public List<String> createTempTable(String tableName, List<Column> columns)
+    {
+        throw new UnsupportedOperationException("not yet implemented");
+    }
+
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
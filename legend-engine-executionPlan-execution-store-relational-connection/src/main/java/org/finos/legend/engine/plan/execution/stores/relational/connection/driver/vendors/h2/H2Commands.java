@@ -37,10 +37,16 @@ public class H2Commands extends RelationalDatabaseCommands
         return Lists.mutable.with("CREATE LOCAL TEMPORARY TABLE " + tableName + "(" + columns.stream().map(c -> c.name + " " + c.type).collect(Collectors.joining(", ")) + ") AS SELECT * FROM CSVREAD('" + optionalCSVFileLocation + "');");
     }
 
+    @Override
+    public List<String> createTempTable(String tableName, List<Column> columns)
+    {
+        return Lists.mutable.with("CREATE LOCAL TEMPORARY TABLE " + tableName + "(" + columns.stream().map(c -> c.name + " " + c.type).collect(Collectors.joining(", ")) + ");");
+    }
+
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
-        return IngestionMethod.CLIENT_FILE;
+        return IngestionMethod.PREPARED_BATCH_INSERT;
     }
 
     @Override
@@ -70,4 +70,10 @@ public class H2Manager extends DatabaseManager
     {
         return false;
     }
+
+    @Override
+    public boolean supportsAdaptiveFetchSize()
+    {
+        return true;
+    }
 }
@@ -1,11 +1,13 @@
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.snowflake;
 
+import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class SnowflakeCommands extends RelationalDatabaseCommands
 {
@@ -21,6 +23,12 @@ public class SnowflakeCommands extends RelationalDatabaseCommands
         throw new UnsupportedOperationException("not yet implemented");
     }
 
+    @Override
+    public List<String> createTempTable(String tableName, List<Column> columns)
+    {
+        return Lists.mutable.with("CREATE TEMPORARY TABLE " + tableName + "(" + columns.stream().map(c -> c.name + " " + c.type).collect(Collectors.joining(", ")) + ")");
+    }
+
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
@@ -14,7 +14,9 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ConnectionException;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorInfo;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 
 import com.codahale.metrics.MetricRegistry;
@@ -37,9 +39,16 @@ import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.security.auth.Subject;
 import javax.sql.DataSource;
 
@@ -58,15 +67,22 @@ public abstract class DataSourceSpecification
     protected static final int HIKARICP_MAX_POOL_SIZE = 100;
     protected static final int HIKARICP_MIN_IDLE = 0;
 
+    // Idle pools of all the specifications are evicted by a single task, started with the first specification
+    private static final long IDLE_POOL_EVICTION_PERIOD = TimeUnit.MINUTES.toMillis(1);
+    private static volatile ScheduledExecutorService idlePoolEviction;
+
     protected org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecificationKey datasourceKey;
     private DatabaseManager databaseManager;
     private AuthenticationStrategy authenticationStrategy;
     protected Properties extraDatasourceProperties;
+    private final RelationalExecutorSettings settings;
 
     private KeyLockManager<String> keyLockManager = KeyLockManager.newManager();
     private ConcurrentMutableMap<String, org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceWithStatistics> connectionPoolByUser = ConcurrentHashMap.newMap();
 
     private org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecificationStatistics dataSourceSpecificationStatistics = new org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecificationStatistics();
+    // Connections handed out across all the pools of this specification, null when there is no budget
+    private final Semaphore connectionBudgetPermits;
 
     public static String DATASOURCE_SPEC_INSTANCE = "DATASOURCE_SPEC_INSTANCE";
     private static final ConcurrentMutableMap<String, DataSourceSpecification> dataSourceSpecifications = ConcurrentHashMap.newMap();
@@ -78,7 +94,10 @@ public abstract class DataSourceSpecification
         this.authenticationStrategy = authenticationStrategy;
         this.extraDatasourceProperties = new Properties();
         this.extraDatasourceProperties.putAll(extraUserProperties);
+        this.settings = relationalExecutorInfo.getSettings();
+        this.connectionBudgetPermits = this.settings.getConnectionBudget() > 0 ? new Semaphore(this.settings.getConnectionBudget(), true) : null;
         relationalExecutorInfo.setDataSourceSpecifications(dataSourceSpecifications);
+        startIdlePoolEviction();
 
         synchronized (DataSourceSpecification.class)
         {
@@ -90,6 +109,69 @@ public abstract class DataSourceSpecification
         LOGGER.info("Create new {}", this);
     }
 
+    private static void startIdlePoolEviction()
+    {
+        if (idlePoolEviction == null)
+        {
+            synchronized (DataSourceSpecification.class)
+            {
+                if (idlePoolEviction == null)
+                {
+                    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r ->
+                    {
+                        Thread thread = new Thread(r, "Idle connection pool eviction");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.scheduleWithFixedDelay(DataSourceSpecification::evictIdlePools, IDLE_POOL_EVICTION_PERIOD, IDLE_POOL_EVICTION_PERIOD, TimeUnit.MILLISECONDS);
+                    idlePoolEviction = executor;
+                }
+            }
+        }
+    }
+
+    private static void evictIdlePools()
+    {
+        try
+        {
+            long now = System.currentTimeMillis();
+            dataSourceSpecifications.forEachValue(specification -> specification.evictIdlePools(now - specification.settings.getIdlePoolTimeout()));
+        }
+        catch (Exception e)
+        {
+            // Keep the task scheduled
+            LOGGER.warn("Error while evicting idle connection pools", e);
+        }
+    }
+
+    void evictIdlePools(long idleSince)
+    {
+        this.connectionPoolByUser.forEachKeyValue((user, dataSourceWithStatistics) ->
+        {
+            if (dataSourceWithStatistics.getLastUsed() < idleSince && dataSourceWithStatistics.closeIfUnused())
+            {
+                this.connectionPoolByUser.remove(user, dataSourceWithStatistics);
+                if (dataSourceWithStatistics.getDataSource() instanceof HikariDataSource)
+                {
+                    AuthenticationStrategy.unregisterProfilesByPool(((HikariDataSource) dataSourceWithStatistics.getDataSource()).getPoolName());
+                }
+                this.dataSourceSpecificationStatistics.evictedPools.incrementAndGet();
+                MetricsHandler.observeCount("evicted connection pools");
+                LOGGER.info("Evicted idle connection pool of {} from {}", user, this);
+            }
+        });
+    }
+
+    public int getConnectionBudget()
+    {
+        return this.connectionBudgetPermits == null ? 0 : this.settings.getConnectionBudget();
+    }
+
+    public int getAvailableConnectionBudget()
+    {
+        return this.connectionBudgetPermits == null ? 0 : this.connectionBudgetPermits.availablePermits();
+    }
+
     private String buildInstanceKey()
     {
         return this.datasourceKey.shortId()+"_"+this.authenticationStrategy.getKey().shortId();
@@ -168,25 +250,117 @@ public abstract class DataSourceSpecification
             LOGGER.debug("connectionPoolByUser Size {} Keys {}", connectionPoolByUser.size(), connectionPoolByUser.keySet());
             // ---------------------
 
-            org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceWithStatistics dataSourceWithStatistics = connectionPoolByUser.get(principal);
-            if (dataSourceWithStatistics == null)
+            String user = getUserNameFromPrincipal(principal);
+            org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceWithStatistics dataSourceWithStatistics;
+            do
+            {
+                dataSourceWithStatistics = connectionPoolByUser.get(user);
+                if (dataSourceWithStatistics == null)
+                {
+                    synchronized (keyLockManager.getLock(user))
+                    {
+                        dataSourceWithStatistics = exec.value();
+                    }
+                }
+            }
+            // The pool was evicted in between, the next attempt builds a new one
+            while (!dataSourceWithStatistics.retain());
+
+            try
             {
-                synchronized (keyLockManager.getLock(getUserNameFromPrincipal(principal)))
+                // Logs and traces and stats -----
+                scope.span().setTag("Pool", dataSourceWithStatistics.getDataSource().toString());
+                LOGGER.info("Found {}", dataSourceWithStatistics.getDataSource());
+                dataSourceWithStatistics.requestConnection();
+                // -------------------------------
+
+                long start = System.currentTimeMillis();
+                acquireConnectionBudget();
+                Connection connection;
+                try
+                {
+                    connection = authenticationStrategy.getConnection(dataSourceWithStatistics, subject, profiles);
+                }
+                catch (RuntimeException e)
                 {
-                    dataSourceWithStatistics = exec.value();
+                    releaseConnectionBudget();
+                    throw e;
                 }
+                dataSourceWithStatistics.getStatistics().recordConnectionWait(System.currentTimeMillis() - start);
+                return this.connectionBudgetPermits == null ? connection : withConnectionBudget(connection);
+            }
+            finally
+            {
+                dataSourceWithStatistics.release();
             }
+        }
+    }
 
-            // Logs and traces and stats -----
-            scope.span().setTag("Pool", dataSourceWithStatistics.getDataSource().toString());
-            LOGGER.info("Found {}", dataSourceWithStatistics.getDataSource());
-            dataSourceWithStatistics.requestConnection();
-            // -------------------------------
+    private void acquireConnectionBudget()
+    {
+        if (this.connectionBudgetPermits == null || this.connectionBudgetPermits.tryAcquire())
+        {
+            return;
+        }
+        this.dataSourceSpecificationStatistics.connectionBudgetWaits.incrementAndGet();
+        long start = System.currentTimeMillis();
+        try
+        {
+            boolean acquired = this.connectionBudgetPermits.tryAcquire(this.authenticationStrategy.getConnectionTimeout(), TimeUnit.MILLISECONDS);
+            this.dataSourceSpecificationStatistics.connectionBudgetWaitTimeMillis.addAndGet(System.currentTimeMillis() - start);
+            if (!acquired)
+            {
+                this.dataSourceSpecificationStatistics.connectionBudgetTimeouts.incrementAndGet();
+                throw new ConnectionException("All " + this.settings.getConnectionBudget() + " connections of " + this + " are in use");
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ConnectionException(e);
+        }
+    }
 
-            return authenticationStrategy.getConnection(dataSourceWithStatistics, subject, profiles);
+    private void releaseConnectionBudget()
+    {
+        if (this.connectionBudgetPermits != null)
+        {
+            this.connectionBudgetPermits.release();
         }
     }
 
+    // Gives the budget back when the connection is closed
+    private Connection withConnectionBudget(Connection connection)
+    {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(DataSourceSpecification.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) ->
+        {
+            if ("close".equals(method.getName()) && closed.compareAndSet(false, true))
+            {
+                try
+                {
+                    return method.invoke(connection, args);
+                }
+                catch (InvocationTargetException e)
+                {
+                    throw e.getCause();
+                }
+                finally
+                {
+                    releaseConnectionBudget();
+                }
+            }
+            try
+            {
+                return method.invoke(connection, args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+        });
+    }
+
     protected HikariDataSource buildDataSource(String host, int port, String databaseName, MutableList<CommonProfile> profiles)
     {
         try (Scope scope = GlobalTracer.get().buildSpan("Create Pool").startActive(true))
@@ -204,7 +378,7 @@ public abstract class DataSourceSpecification
             HikariConfig jdbcConfig = new HikariConfig();
             jdbcConfig.setDriverClassName(databaseManager.getDriver());
             jdbcConfig.setPoolName(poolName);
-            jdbcConfig.setMaximumPoolSize(HIKARICP_MAX_POOL_SIZE);
+            jdbcConfig.setMaximumPoolSize(this.settings.getMaxPoolSizePerUser());
             jdbcConfig.setMinimumIdle(HIKARICP_MIN_IDLE);
             jdbcConfig.setJdbcUrl(this.databaseManager.buildURL(host, port, databaseName, properties, this.authenticationStrategy));
             jdbcConfig.setConnectionTimeout(authenticationStrategy.getConnectionTimeout());
@@ -14,7 +14,14 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class DataSourceSpecificationStatistics
 {
     public int builtConnections;
+    public final AtomicLong evictedPools = new AtomicLong();
+    // Requests which had to wait for the connection budget, and how long they waited in total
+    public final AtomicLong connectionBudgetWaits = new AtomicLong();
+    public final AtomicLong connectionBudgetWaitTimeMillis = new AtomicLong();
+    public final AtomicLong connectionBudgetTimeouts = new AtomicLong();
 }
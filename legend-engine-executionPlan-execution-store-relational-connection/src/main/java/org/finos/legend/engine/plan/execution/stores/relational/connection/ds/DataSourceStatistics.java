@@ -14,7 +14,18 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class DataSourceStatistics
 {
     public int requestConnections;
+    // Time spent waiting for connections (pool and connection budget)
+    public final AtomicLong totalConnectionWaitTimeMillis = new AtomicLong();
+    public final AtomicLong maxConnectionWaitTimeMillis = new AtomicLong();
+
+    void recordConnectionWait(long waitTimeMillis)
+    {
+        this.totalConnectionWaitTimeMillis.addAndGet(waitTimeMillis);
+        this.maxConnectionWaitTimeMillis.accumulateAndGet(waitTimeMillis, Math::max);
+    }
 }
@@ -14,12 +14,21 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
 import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DataSourceWithStatistics
 {
+    private static final int CLOSED = -1;
+
     private DataSourceStatistics statistics = new DataSourceStatistics();
     private DataSource dataSource;
+    // Number of threads currently getting a connection from the pool, or CLOSED once the pool has been evicted
+    private final AtomicInteger users = new AtomicInteger();
+    private volatile long lastUsed = System.currentTimeMillis();
 
     public DataSourceWithStatistics(DataSource dataSource)
     {
@@ -40,6 +49,60 @@ public class DataSourceWithStatistics
     {
         statistics.requestConnections++;
     }
+
+    public long getLastUsed()
+    {
+        return this.lastUsed;
+    }
+
+    /**
+     * Marks the pool as in use, returns false if it has been closed (in which case a new pool should be built).
+     */
+    boolean retain()
+    {
+        while (true)
+        {
+            int current = this.users.get();
+            if (current == CLOSED)
+            {
+                return false;
+            }
+            if (this.users.compareAndSet(current, current + 1))
+            {
+                return true;
+            }
+        }
+    }
+
+    void release()
+    {
+        this.lastUsed = System.currentTimeMillis();
+        this.users.decrementAndGet();
+    }
+
+    /**
+     * Closes the pool if no thread is getting a connection from it and none of its connections is in use.
+     */
+    boolean closeIfUnused()
+    {
+        if (!this.users.compareAndSet(0, CLOSED))
+        {
+            return false;
+        }
+        if (this.dataSource instanceof HikariDataSource)
+        {
+            HikariDataSource hikariDataSource = (HikariDataSource) this.dataSource;
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            if (pool != null && pool.getActiveConnections() > 0)
+            {
+                this.lastUsed = System.currentTimeMillis();
+                this.users.set(0);
+                return false;
+            }
+            hikariDataSource.close();
+        }
+        return true;
+    }
 }
 
 
@@ -29,9 +29,15 @@ import org.pac4j.core.profile.CommonProfile;
 
 import javax.security.auth.Subject;
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.*;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 
 public class LocalH2DataSourceSpecification extends DataSourceSpecification
@@ -52,9 +58,15 @@ public class LocalH2DataSourceSpecification extends DataSourceSpecification
         }
     }
 
+    private static final Driver DRIVER = org.h2.Driver.load();
+    private static final ConcurrentMap<LocalH2DataSourceSpecificationKey, FixtureSnapshot> fixtureSnapshotsByKey = new ConcurrentHashMap<>();
+    // See RelationalExecutorSettings.withLocalH2FixtureSnapshots
+    private final boolean fixtureSnapshots;
+
     public LocalH2DataSourceSpecification(LocalH2DataSourceSpecificationKey key, DatabaseManager databaseManager, AuthenticationStrategy authenticationStrategy, RelationalExecutorInfo relationalExecutorInfo)
     {
         super(key, databaseManager, authenticationStrategy, new Properties(), relationalExecutorInfo);
+        this.fixtureSnapshots = relationalExecutorInfo.getSettings().isLocalH2FixtureSnapshots();
     }
 
     @Override
@@ -66,10 +78,14 @@ public class LocalH2DataSourceSpecification extends DataSourceSpecification
     @Override
     protected Connection getConnection(Subject subject, MutableList<CommonProfile> profiles, String principal, Function0<DataSourceWithStatistics> exec)
     {
+        LocalH2DataSourceSpecificationKey _key = (LocalH2DataSourceSpecificationKey) this.datasourceKey;
+        if (this.fixtureSnapshots && _key.getTestDataSetupSqls() != null && !_key.getTestDataSetupSqls().isEmpty())
+        {
+            return fixtureSnapshotsByKey.computeIfAbsent(_key, k -> new FixtureSnapshot(this.newDatabaseURL(), this.authenticationStrategy, k.getTestDataSetupSqls())).newConnection();
+        }
         try
         {
             HikariDataSource dataSource = this.buildDataSource("127.0.0.1", port, "", null);
-            LocalH2DataSourceSpecificationKey _key = (LocalH2DataSourceSpecificationKey) this.datasourceKey;
             Connection connection = dataSource.getConnection();
             if (_key.getTestDataSetupSqls() != null && !_key.getTestDataSetupSqls().isEmpty())
             {
@@ -90,6 +106,75 @@ public class LocalH2DataSourceSpecification extends DataSourceSpecification
         }
     }
 
+    private String newDatabaseURL()
+    {
+        // The empty database name makes each connection open its own private database (see above)
+        return this.getDatabaseManager().buildURL("127.0.0.1", port, "", new Properties(), this.authenticationStrategy);
+    }
+
+    /**
+     * The test data of a key, saved once as an H2 script. H2 can't clone an in-memory database so each connection
+     * still gets a private database, but loading it is a single RUNSCRIPT run by the server.
+     */
+    private static class FixtureSnapshot
+    {
+        private final String url;
+        private final Properties connectionProperties = new Properties();
+        private final String script;
+
+        private FixtureSnapshot(String url, AuthenticationStrategy authenticationStrategy, List<String> testDataSetupSqls)
+        {
+            this.url = url;
+            this.connectionProperties.setProperty("user", authenticationStrategy.getLogin());
+            this.connectionProperties.setProperty("password", authenticationStrategy.getPassword());
+            try
+            {
+                Path scriptFile = Files.createTempFile("legend_h2_fixture_", ".sql");
+                scriptFile.toFile().deleteOnExit();
+                this.script = scriptFile.toAbsolutePath().toString().replace("\\", "/").replace("'", "''");
+                try (Connection connection = this.open(); Statement statement = connection.createStatement())
+                {
+                    for (String sql : testDataSetupSqls)
+                    {
+                        statement.executeUpdate(sql);
+                    }
+                    statement.execute("SCRIPT NOPASSWORDS NOSETTINGS TO '" + this.script + "'");
+                }
+            }
+            catch (IOException | SQLException e)
+            {
+                throw new RuntimeException("Error while creating the H2 test data snapshot", e);
+            }
+        }
+
+        private Connection open() throws SQLException
+        {
+            return DRIVER.connect(this.url, this.connectionProperties);
+        }
+
+        private Connection newConnection()
+        {
+            try
+            {
+                Connection connection = this.open();
+                try (Statement statement = connection.createStatement())
+                {
+                    statement.execute("RUNSCRIPT FROM '" + this.script + "'");
+                }
+                catch (SQLException e)
+                {
+                    connection.close();
+                    throw e;
+                }
+                return connection;
+            }
+            catch (SQLException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     private static class WrappedH2Connection implements Connection
     {
         private Connection conn;
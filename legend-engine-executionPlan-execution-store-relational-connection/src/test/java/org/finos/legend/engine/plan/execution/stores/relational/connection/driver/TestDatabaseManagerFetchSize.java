@@ -0,0 +1,77 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.driver;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+public class TestDatabaseManagerFetchSize
+{
+    @Test
+    public void testDatabaseTypeFetchSizeOverridesDefault()
+    {
+        DatabaseManager h2 = DatabaseManager.fromString("H2");
+        Assert.assertEquals(0, h2.getFetchSize(new RelationalExecutorSettings()));
+
+        RelationalExecutorSettings defaultSize = new RelationalExecutorSettings().withFetchSize(500, Maps.mutable.empty(), false, RelationalExecutorSettings.DEFAULT_FETCH_BUFFER_SIZE);
+        Assert.assertEquals(500, h2.getFetchSize(defaultSize));
+
+        RelationalExecutorSettings databaseTypeSize = new RelationalExecutorSettings().withFetchSize(500, Maps.mutable.with("H2", 2000), false, RelationalExecutorSettings.DEFAULT_FETCH_BUFFER_SIZE);
+        Assert.assertEquals(2000, h2.getFetchSize(databaseTypeSize));
+        Assert.assertEquals(500, DatabaseManager.fromString("Snowflake").getFetchSize(databaseTypeSize));
+        // Settings are held per executor, the first ones are unchanged
+        Assert.assertEquals(500, h2.getFetchSize(defaultSize));
+    }
+
+    @Test
+    public void testStatementIsForwardOnlyWithFetchSize() throws Exception
+    {
+        RelationalExecutorSettings settings = new RelationalExecutorSettings().withFetchSize(250, Maps.mutable.empty(), false, RelationalExecutorSettings.DEFAULT_FETCH_BUFFER_SIZE);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:");
+             Statement statement = DatabaseManager.fromString("H2").createStatement(connection, settings))
+        {
+            Assert.assertEquals(ResultSet.TYPE_FORWARD_ONLY, statement.getResultSetType());
+            Assert.assertEquals(ResultSet.CONCUR_READ_ONLY, statement.getResultSetConcurrency());
+            Assert.assertEquals(250, statement.getFetchSize());
+        }
+    }
+
+    @Test
+    public void testAdaptiveFetchSizeFollowsColumnWidth() throws Exception
+    {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:");
+             Statement statement = connection.createStatement())
+        {
+            statement.execute("create table narrow(id INT)");
+            statement.execute("create table wide(a VARCHAR(1000), b VARCHAR(1000), c VARCHAR(1000))");
+            try (ResultSet narrow = statement.executeQuery("select * from narrow"))
+            {
+                Assert.assertEquals(10_000, DatabaseManager.adaptiveFetchSize(narrow.getMetaData(), 1024 * 1024));
+            }
+            try (ResultSet wide = statement.executeQuery("select * from wide"))
+            {
+                Assert.assertEquals(1024 * 1024 / 3000, DatabaseManager.adaptiveFetchSize(wide.getMetaData(), 1024 * 1024));
+                Assert.assertEquals(10, DatabaseManager.adaptiveFetchSize(wide.getMetaData(), 1024));
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorInfo;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.TestDatabaseAuthenticationStrategy;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Manager;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.EmbeddedH2DataSourceSpecification;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.keys.EmbeddedH2DataSourceSpecificationKey;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.sql.Connection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class TestDataSourceSpecificationPools
+{
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testIdlePoolsAreEvicted() throws Exception
+    {
+        DataSourceSpecification specification = buildSpecification(new RelationalExecutorSettings());
+        try (Connection connection = specification.getConnectionUsingProfiles(null))
+        {
+            Assert.assertEquals(1, specification.getConnectionPoolByUser().size());
+            // Pools with connections in use are kept
+            specification.evictIdlePools(Long.MAX_VALUE);
+            Assert.assertEquals(1, specification.getConnectionPoolByUser().size());
+        }
+
+        HikariDataSource dataSource = (HikariDataSource) specification.getConnectionPoolByUser().valuesView().getFirst().getDataSource();
+        specification.evictIdlePools(Long.MAX_VALUE);
+        Assert.assertTrue(specification.getConnectionPoolByUser().isEmpty());
+        Assert.assertTrue(dataSource.isClosed());
+        Assert.assertEquals(1, specification.getDataSourceSpecificationStatistics().evictedPools.get());
+
+        // A new pool is built for the next request
+        try (Connection connection = specification.getConnectionUsingProfiles(null))
+        {
+            Assert.assertFalse(connection.isClosed());
+        }
+        Assert.assertEquals(1, specification.getConnectionPoolByUser().size());
+    }
+
+    @Test
+    public void testConnectionBudget() throws Exception
+    {
+        DataSourceSpecification specification = buildSpecification(new RelationalExecutorSettings().withPools(5, 1, RelationalExecutorSettings.DEFAULT_IDLE_POOL_TIMEOUT));
+        Assert.assertEquals(1, specification.getConnectionBudget());
+        // The budget belongs to the specifications of the executor it was set for
+        Assert.assertEquals(0, buildSpecification(new RelationalExecutorSettings()).getConnectionBudget());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            Future<Connection> second;
+            try (Connection first = specification.getConnectionUsingProfiles(null))
+            {
+                Assert.assertEquals(0, specification.getAvailableConnectionBudget());
+                second = executor.submit(() -> specification.getConnectionUsingProfiles(null));
+                try
+                {
+                    second.get(500, TimeUnit.MILLISECONDS);
+                    Assert.fail("Expected to wait for the connection budget");
+                }
+                catch (TimeoutException expected)
+                {
+                    // the budget is used by the first connection
+                }
+            }
+            try (Connection connection = second.get(10, TimeUnit.SECONDS))
+            {
+                Assert.assertFalse(connection.isClosed());
+            }
+            Assert.assertEquals(1, specification.getAvailableConnectionBudget());
+            Assert.assertEquals(1, specification.getDataSourceSpecificationStatistics().connectionBudgetWaits.get());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private DataSourceSpecification buildSpecification(RelationalExecutorSettings settings) throws Exception
+    {
+        return new EmbeddedH2DataSourceSpecification(
+                new EmbeddedH2DataSourceSpecificationKey("testDB", tempFolder.newFolder()),
+                new H2Manager(),
+                new TestDatabaseAuthenticationStrategy(),
+                new RelationalExecutorInfo(settings));
+    }
+}
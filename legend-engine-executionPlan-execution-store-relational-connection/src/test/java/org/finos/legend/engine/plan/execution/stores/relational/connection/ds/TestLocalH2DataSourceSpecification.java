@@ -0,0 +1,87 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorInfo;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.TestDatabaseAuthenticationStrategy;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Manager;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.LocalH2DataSourceSpecification;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.keys.LocalH2DataSourceSpecificationKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class TestLocalH2DataSourceSpecification
+{
+    @Test
+    public void testConnectionsLoadTheTestDataSnapshot() throws Exception
+    {
+        DataSourceSpecification specification = buildSpecification(true);
+        try (Connection first = specification.getConnectionUsingProfiles(null); Connection second = specification.getConnectionUsingProfiles(null))
+        {
+            Assert.assertEquals("Peter,John", names(first));
+            try (Statement statement = first.createStatement())
+            {
+                statement.executeUpdate("insert into person (id, name) values (3, 'Anthony')");
+            }
+            Assert.assertEquals("Peter,John,Anthony", names(first));
+            // Each connection has its own copy of the test data
+            Assert.assertEquals("Peter,John", names(second));
+        }
+        try (Connection connection = buildSpecification(true).getConnectionUsingProfiles(null))
+        {
+            Assert.assertEquals("Peter,John", names(connection));
+        }
+    }
+
+    @Test
+    public void testConnectionsReplayTheSetupSqlWithoutSnapshots() throws Exception
+    {
+        try (Connection connection = buildSpecification(false).getConnectionUsingProfiles(null))
+        {
+            Assert.assertEquals("Peter,John", names(connection));
+        }
+    }
+
+    private static String names(Connection connection) throws SQLException
+    {
+        StringBuilder names = new StringBuilder();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select name from person order by id"))
+        {
+            while (resultSet.next())
+            {
+                names.append(names.length() == 0 ? "" : ",").append(resultSet.getString(1));
+            }
+        }
+        return names.toString();
+    }
+
+    private static DataSourceSpecification buildSpecification(boolean fixtureSnapshots)
+    {
+        return new LocalH2DataSourceSpecification(
+                new LocalH2DataSourceSpecificationKey(Lists.mutable.with(
+                        "create table person (id integer primary key, name varchar(100))",
+                        "insert into person (id, name) values (1, 'Peter'), (2, 'John')")),
+                new H2Manager(),
+                new TestDatabaseAuthenticationStrategy(),
+                new RelationalExecutorInfo(new RelationalExecutorSettings().withLocalH2FixtureSnapshots(fixtureSnapshots)));
+    }
+}
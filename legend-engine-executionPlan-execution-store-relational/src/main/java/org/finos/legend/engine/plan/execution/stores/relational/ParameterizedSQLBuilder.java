@@ -0,0 +1,228 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
+import org.finos.legend.engine.plan.execution.result.date.EngineDate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.Timestamp;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the FreeMarker placeholders of a SQL template into JDBC {@code ?} parameters so that the query text stays
+ * the same across executions and the database can reuse its plan.
+ * <p>
+ * Only plain references to scalar plan parameters are rewritten: {@code '${name}'} for strings and dates and
+ * {@code ${name}} for numbers and booleans. Each parameter is bound with the SQL type of the literal it replaces
+ * (VARCHAR, DATE, TIMESTAMP, INTEGER, BIGINT, DOUBLE, DECIMAL or BOOLEAN). Anything else is left to FreeMarker and
+ * rendered inline as before: collections, template functions, expressions, null values, quoted numbers and booleans
+ * (whose type the database infers from the column they are compared to) and placeholders inside a larger SQL string
+ * literal such as {@code '%${name}%'}. Templates containing FreeMarker directives are not rewritten at all as a
+ * directive may drop or repeat a placeholder.
+ */
+public class ParameterizedSQLBuilder
+{
+    private static final Pattern PLACEHOLDER = Pattern.compile("'\\$\\{([A-Za-z_][A-Za-z0-9_]*)}'|\\$\\{([A-Za-z_][A-Za-z0-9_]*)}");
+    private static final Pattern SQL_DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern SQL_TIMESTAMP = Pattern.compile("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}(\\.\\d{1,9})?");
+
+    private final String sql;
+    private final MutableList<Object> parameters;
+    private final MutableList<JDBCType> parameterTypes;
+
+    private ParameterizedSQLBuilder(String sql, MutableList<Object> parameters, MutableList<JDBCType> parameterTypes)
+    {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Returns the template with the eligible placeholders replaced by {@code ?}, or null when nothing could be
+     * parameterized.
+     */
+    public static ParameterizedSQLBuilder parameterize(String sqlTemplate, ExecutionState executionState, String databaseTimeZone)
+    {
+        if (sqlTemplate == null || sqlTemplate.contains("<#") || sqlTemplate.contains("<@") || sqlTemplate.contains("?"))
+        {
+            return null;
+        }
+        MutableList<Object> parameters = Lists.mutable.empty();
+        MutableList<JDBCType> parameterTypes = Lists.mutable.empty();
+        StringBuffer sql = new StringBuffer(sqlTemplate.length());
+        Matcher matcher = PLACEHOLDER.matcher(sqlTemplate);
+        boolean inLiteral = false;
+        int scanned = 0;
+        while (matcher.find())
+        {
+            inLiteral = isInLiteral(sqlTemplate, scanned, matcher.start(), inLiteral);
+            scanned = matcher.start();
+            boolean quoted = matcher.group(1) != null;
+            // A quoted placeholder next to another quote is part of a literal with an escaped quote ('a''${name}')
+            boolean partOfLiteral = inLiteral || (quoted && (isQuote(sqlTemplate, matcher.start() - 1) || isQuote(sqlTemplate, matcher.end())));
+            Object value = partOfLiteral ? null : parameterValue(executionState.getResults().get(quoted ? matcher.group(1) : matcher.group(2)), quoted, databaseTimeZone);
+            JDBCType type = value == null ? null : parameterType(value);
+            if (type == null)
+            {
+                matcher.appendReplacement(sql, Matcher.quoteReplacement(matcher.group()));
+            }
+            else
+            {
+                parameters.add(value);
+                parameterTypes.add(type);
+                matcher.appendReplacement(sql, "?");
+            }
+        }
+        if (parameters.isEmpty())
+        {
+            return null;
+        }
+        matcher.appendTail(sql);
+        return new ParameterizedSQLBuilder(sql.toString(), parameters, parameterTypes);
+    }
+
+    // Follows the SQL string literals from start to end, skipping the FreeMarker expressions which may hold quotes
+    private static boolean isInLiteral(String sqlTemplate, int start, int end, boolean inLiteral)
+    {
+        int i = start;
+        while (i < end)
+        {
+            char c = sqlTemplate.charAt(i);
+            if (c == '$' && i + 1 < end && sqlTemplate.charAt(i + 1) == '{')
+            {
+                int depth = 1;
+                i += 2;
+                while (i < end && depth > 0)
+                {
+                    char e = sqlTemplate.charAt(i);
+                    depth += e == '{' ? 1 : e == '}' ? -1 : 0;
+                    i++;
+                }
+            }
+            else
+            {
+                inLiteral ^= c == '\'';
+                i++;
+            }
+        }
+        return inLiteral;
+    }
+
+    private static boolean isQuote(String sqlTemplate, int index)
+    {
+        return index >= 0 && index < sqlTemplate.length() && sqlTemplate.charAt(index) == '\'';
+    }
+
+    private static Object parameterValue(Result result, boolean quoted, String databaseTimeZone)
+    {
+        if (!(result instanceof ConstantResult))
+        {
+            return null;
+        }
+        Object value = ((ConstantResult) result).getValue();
+        if (value instanceof Number || value instanceof Boolean)
+        {
+            // Quoted, they are character literals the database converts to the type of the column they meet
+            return quoted ? null : value;
+        }
+        if (!quoted)
+        {
+            // A bare string may be a SQL fragment rather than a literal
+            return null;
+        }
+        if (value instanceof String)
+        {
+            // Bound as is: the escaping done by ResultNormalizer is only needed for inline literals
+            return value;
+        }
+        if (value instanceof PureDate || value instanceof EngineDate)
+        {
+            // The inline literal, in the database time zone, read back as a JDBC date or timestamp
+            String literal = (String) ResultNormalizer.normalizeToSql(value, databaseTimeZone);
+            if (SQL_DATE.matcher(literal).matches())
+            {
+                return Date.valueOf(literal);
+            }
+            if (SQL_TIMESTAMP.matcher(literal).matches())
+            {
+                return Timestamp.valueOf(literal);
+            }
+        }
+        return null;
+    }
+
+    private static JDBCType parameterType(Object value)
+    {
+        if (value instanceof String)
+        {
+            return JDBCType.VARCHAR;
+        }
+        if (value instanceof Date)
+        {
+            return JDBCType.DATE;
+        }
+        if (value instanceof Timestamp)
+        {
+            return JDBCType.TIMESTAMP;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+        {
+            return JDBCType.INTEGER;
+        }
+        if (value instanceof Long)
+        {
+            return JDBCType.BIGINT;
+        }
+        if (value instanceof Double || value instanceof Float)
+        {
+            return JDBCType.DOUBLE;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger)
+        {
+            return JDBCType.DECIMAL;
+        }
+        if (value instanceof Boolean)
+        {
+            return JDBCType.BOOLEAN;
+        }
+        return null;
+    }
+
+    public String getSql()
+    {
+        return this.sql;
+    }
+
+    public MutableList<Object> getParameters()
+    {
+        return this.parameters;
+    }
+
+    public MutableList<JDBCType> getParameterTypes()
+    {
+        return this.parameterTypes;
+    }
+}
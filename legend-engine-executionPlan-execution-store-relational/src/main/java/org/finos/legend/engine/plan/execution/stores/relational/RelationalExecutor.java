@@ -22,9 +22,10 @@ import org.finos.legend.engine.plan.execution.stores.relational.config.Relationa
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.manager.ConnectionManagerSelector;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorInfo;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
-import freemarker.template.Configuration;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import freemarker.template.Template;
 import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
@@ -38,6 +39,7 @@ import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeClassRe
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeResultHelper;
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeTDSResultHelper;
 import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
+import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerTemplateCache;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
@@ -58,26 +60,32 @@ import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
-import java.io.StringReader;
 import java.io.StringWriter;
 import java.sql.Connection;
+import java.sql.JDBCType;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class RelationalExecutor
 {
     public static final String DEFAULT_DB_TIME_ZONE = "GMT";
+    private static final long GRAPH_FETCH_CHILD_THREAD_KEEP_ALIVE_SECONDS = 60;
 
     private ConnectionManagerSelector connectionManager;
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
     private RelationalExecutionConfiguration relationalExecutionConfiguration;
     private RelationalExecutorInfo relationalExecutorInfo;
     private MutableList<Function2<ExecutionState, List<Map<String, Object>>,Result>> resultInterpreterExtensions;
+    private volatile ExecutorService graphFetchChildExecutor;
 
     private static final MutableMap<String, String> DATA_TYPE_RELATIONAL_TYPE_MAP = Maps.mutable.empty();
 
@@ -96,7 +104,12 @@ public class RelationalExecutor
 
     public RelationalExecutor(TemporaryTestDbConfiguration temporarytestdb, RelationalExecutionConfiguration relationalExecutionConfiguration)
     {
-        this.relationalExecutorInfo = new RelationalExecutorInfo();
+        RelationalExecutorSettings settings = new RelationalExecutorSettings()
+                .withPools(relationalExecutionConfiguration.connectionPoolMaxSizePerUser, relationalExecutionConfiguration.connectionBudgetPerDataSource, relationalExecutionConfiguration.idleConnectionPoolTimeout)
+                .withFetchSize(relationalExecutionConfiguration.fetchSize, relationalExecutionConfiguration.fetchSizeByDatabaseType, relationalExecutionConfiguration.adaptiveFetchSize, relationalExecutionConfiguration.fetchBufferSize)
+                .withLocalH2FixtureSnapshots(relationalExecutionConfiguration.localH2FixtureSnapshots)
+                .withRealizedResults(relationalExecutionConfiguration.realizedResultMemoryBudget, relationalExecutionConfiguration.tempPath);
+        this.relationalExecutorInfo = new RelationalExecutorInfo(settings);
         this.connectionManager = new ConnectionManagerSelector(temporarytestdb, relationalExecutionConfiguration.oauthProfiles, this.relationalExecutorInfo);
         this.relationalExecutionConfiguration = relationalExecutionConfiguration;
         this.resultInterpreterExtensions = Iterate.addAllTo(ServiceLoader.load(ResultInterpreterExtension.class), Lists.mutable.empty()).collect(ResultInterpreterExtension::additionalResultBuilder);
@@ -117,6 +130,36 @@ public class RelationalExecutor
         return this.connectionManager;
     }
 
+    /**
+     * Executor used to run sibling graph fetch child queries concurrently, or null when
+     * {@link RelationalExecutionConfiguration#graphFetchChildParallelism} does not allow it.
+     * Its threads stop once idle, so an executor which is no longer used does not need to be shut down.
+     */
+    public ExecutorService getGraphFetchChildExecutor()
+    {
+        int parallelism = this.relationalExecutionConfiguration.graphFetchChildParallelism;
+        if (parallelism <= 1)
+        {
+            return null;
+        }
+        ExecutorService executor = this.graphFetchChildExecutor;
+        if (executor == null)
+        {
+            synchronized (this)
+            {
+                executor = this.graphFetchChildExecutor;
+                if (executor == null)
+                {
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism, GRAPH_FETCH_CHILD_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("graph-fetch-child-%d").setDaemon(true).build());
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    executor = threadPoolExecutor;
+                    this.graphFetchChildExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     public Result execute(RelationalExecutionNode node, MutableList<CommonProfile> profiles, ExecutionState executionState)
     {
         Connection connectionManagerConnection;
@@ -137,7 +180,7 @@ public class RelationalExecutor
         {
             if ((ExecutionNodeTDSResultHelper.isResultTDS(node) || (ExecutionNodeResultHelper.isResultSizeRangeSet(node) && !ExecutionNodeResultHelper.isSingleRecordResult(node))) && !executionState.transformAllocation)
             {
-                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutorInfo.getSettings());
             }
             else if (node.isResultVoid())
             {
@@ -146,7 +189,7 @@ public class RelationalExecutor
             else
             {
                 // Refactor and clean up the flush to Constant
-                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutorInfo.getSettings());
 
                 if (node.isResultPrimitiveType())
                 {
@@ -201,7 +244,7 @@ public class RelationalExecutor
         }
         else
         {
-            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutorInfo.getSettings());
         }
     }
 
@@ -239,7 +282,7 @@ public class RelationalExecutor
             return new VoidRelationalResult(executionState.activities, connectionManagerConnection, profiles);
         }
 
-        return new SQLExecutionResult(executionState.activities, node, databaseType, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+        return new SQLExecutionResult(executionState.activities, node, databaseType, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutorInfo.getSettings());
     }
 
     private void prepareForSQLExecution(ExecutionNode node, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, MutableList<CommonProfile> profiles, ExecutionState executionState)
@@ -269,6 +312,19 @@ public class RelationalExecutor
             throw new RuntimeException("Relational execution not supported on external server");
         }
 
+        List<Object> parameters = null;
+        List<JDBCType> parameterTypes = null;
+        if (this.relationalExecutionConfiguration.preparedStatementExecution)
+        {
+            ParameterizedSQLBuilder parameterizedSQL = ParameterizedSQLBuilder.parameterize(sqlQuery, executionState, databaseTimeZone);
+            if (parameterizedSQL != null)
+            {
+                sqlQuery = parameterizedSQL.getSql();
+                parameters = parameterizedSQL.getParameters();
+                parameterTypes = parameterizedSQL.getParameterTypes();
+            }
+        }
+
         try
         {
             sqlQuery = FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone);
@@ -283,9 +339,9 @@ public class RelationalExecutor
             LOGGER.info("Exception while reprocessing SQL Query. Detail: " + e.getMessage() + ".");
         }
 
-        LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars [" + executionState.getResults().keySet() + "]: " + sqlQuery).toString());
+        LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars [" + executionState.getResults().keySet() + "]: " + sqlQuery + (parameters == null ? "" : " with parameters " + parameters)).toString());
 
-        executionState.activities.add(new RelationalExecutionActivity(sqlQuery));
+        executionState.activities.add(new RelationalExecutionActivity(sqlQuery, parameters, parameterTypes));
     }
 
     private void prepareTempTable(Connection connectionManagerConnection, StreamingResult res, String tempTableName, String databaseTypeName, String databaseTimeZone, List<String> tempTableList)
@@ -357,9 +413,7 @@ public class RelationalExecutor
         String result = "";
         try
         {
-            Configuration cfg = new Configuration();
-            cfg.setNumberFormat("computer");
-            Template t = new Template("sqlTemplate", new StringReader(templateFunctions + "\n" + query), cfg);
+            Template t = FreeMarkerTemplateCache.getSqlTemplate(templateFunctions, query);
             StringWriter stringWriter = new StringWriter();
             t.process(vars, stringWriter);
             result = stringWriter.toString();
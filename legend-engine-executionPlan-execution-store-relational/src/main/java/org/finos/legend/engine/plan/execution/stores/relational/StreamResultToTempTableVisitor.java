@@ -41,6 +41,7 @@ import org.slf4j.Logger;
 
 import java.io.ByteArrayOutputStream;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -87,7 +88,46 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         {
             ingestionMethod = h2Commands.getDefaultIngestionMethod();
         }
-        if (ingestionMethod == IngestionMethod.CLIENT_FILE)
+        if (ingestionMethod == IngestionMethod.PREPARED_BATCH_INSERT && !((result instanceof RelationalResult) || (result instanceof RealizedRelationalResult)))
+        {
+            // Object results are only supported through their CSV serializers
+            ingestionMethod = IngestionMethod.CLIENT_FILE;
+        }
+        if (ingestionMethod == IngestionMethod.PREPARED_BATCH_INSERT)
+        {
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute(h2Commands.dropTempTable(tableName));
+                if (result instanceof RelationalResult)
+                {
+                    RelationalResult relationalResult = (RelationalResult) result;
+                    List<Column> columns = (result.getResultBuilder() instanceof TDSBuilder) ?
+                            relationalResult.getTdsColumns().stream().map(c -> new Column(c.name, c.relationalType)).collect(Collectors.toList()) :
+                            relationalResult.getSQLResultColumns().stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+                    h2Commands.createTempTable(tableName, columns).forEach(x -> checkedExecute(statement, x));
+                    batchInsertResultSet(relationalResult.resultSet, h2Commands.insertIntoTempTable(tableName, columns.size()), columns.size());
+                }
+                else
+                {
+                    RealizedRelationalResult realizedRelationalResult = (RealizedRelationalResult) result;
+                    List<Column> columns = realizedRelationalResult.columns.stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+                    h2Commands.createTempTable(tableName, columns).forEach(x -> checkedExecute(statement, x));
+                    batchInsertRealizedRelationalResult(realizedRelationalResult, h2Commands.insertIntoTempTable(tableName, columns.size()), columns.size());
+                }
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException(e);
+            }
+            finally
+            {
+                if (result instanceof RelationalResult)
+                {
+                    result.close();
+                }
+            }
+        }
+        else if (ingestionMethod == IngestionMethod.CLIENT_FILE)
         {
             try (TemporaryFile tempFile = new TemporaryFile(config.tempPath))
             {
@@ -241,6 +281,62 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         }
     }
 
+    private void batchInsertResultSet(ResultSet source, String insertSql, int columnCount) throws SQLException
+    {
+        LOGGER.info(new LogInfo(null, LoggingEventType.EXECUTION_RELATIONAL_COMMIT, insertSql, 0.0d).toString());
+        int batchSize = Math.max(1, this.config.tempTableInsertBatchSize);
+        try (PreparedStatement statement = this.connection.prepareStatement(insertSql))
+        {
+            int rowsInBatch = 0;
+            while (source.next())
+            {
+                for (int c = 1; c <= columnCount; c++)
+                {
+                    statement.setObject(c, source.getObject(c));
+                }
+                statement.addBatch();
+                if (++rowsInBatch == batchSize)
+                {
+                    statement.executeBatch();
+                    rowsInBatch = 0;
+                }
+            }
+            if (rowsInBatch > 0)
+            {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private void batchInsertRealizedRelationalResult(RealizedRelationalResult realizedRelationalResult, String insertSql, int columnCount) throws SQLException
+    {
+        LOGGER.info(new LogInfo(null, LoggingEventType.EXECUTION_RELATIONAL_COMMIT, insertSql, 0.0d).toString());
+        int batchSize = Math.max(1, this.config.tempTableInsertBatchSize);
+        try (PreparedStatement statement = this.connection.prepareStatement(insertSql))
+        {
+            int rowsInBatch = 0;
+            for (List<Object> row : realizedRelationalResult.resultSetRows)
+            {
+                for (int c = 1; c <= columnCount; c++)
+                {
+                    // Same values as the CSV serializer would write
+                    Object value = row.get(c - 1);
+                    statement.setObject(c, (value == null) ? null : ResultNormalizer.normalizeToSql(value, this.databaseTimeZone));
+                }
+                statement.addBatch();
+                if (++rowsInBatch == batchSize)
+                {
+                    statement.executeBatch();
+                    rowsInBatch = 0;
+                }
+            }
+            if (rowsInBatch > 0)
+            {
+                statement.executeBatch();
+            }
+        }
+    }
+
     private String parseObjectForInsert(Object value)
     {  //TODO:: This probably doesn't work for complex types
         return value instanceof CharSequence ? "'" + value.toString() + "'" : value.toString();
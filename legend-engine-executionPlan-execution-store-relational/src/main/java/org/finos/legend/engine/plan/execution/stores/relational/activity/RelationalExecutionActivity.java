@@ -14,14 +14,104 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.activity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
 
 public class RelationalExecutionActivity extends ExecutionActivity
 {
     public String sql;
+    // Values bound to the ? parameters of sql, null when the SQL is executed as a plain statement
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<Object> parameters;
+    // SQL types the parameters are bound with
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<JDBCType> parameterTypes;
 
     public RelationalExecutionActivity(String sqlQuery)
     {
         this.sql = sqlQuery;
     }
+
+    public RelationalExecutionActivity(String sqlQuery, List<Object> parameters, List<JDBCType> parameterTypes)
+    {
+        this.sql = sqlQuery;
+        this.parameters = parameters;
+        this.parameterTypes = parameterTypes;
+    }
+
+    @JsonIgnore
+    public boolean isParameterized()
+    {
+        return this.parameters != null;
+    }
+
+    /**
+     * Creates the statement used to run this activity: a {@link PreparedStatement} with its parameters bound when the
+     * SQL is parameterized, a plain {@link Statement} otherwise.
+     */
+    public Statement createStatement(Connection connection) throws SQLException
+    {
+        return this.isParameterized() ? this.bind(connection.prepareStatement(this.sql)) : connection.createStatement();
+    }
+
+    /**
+     * Same as {@link #createStatement(Connection)} for a query: the statement is forward only, read only and uses the
+     * fetch size the settings give for the database.
+     */
+    public Statement createQueryStatement(Connection connection, DatabaseManager databaseManager, RelationalExecutorSettings settings) throws SQLException
+    {
+        if (!this.isParameterized())
+        {
+            return databaseManager.createStatement(connection, settings);
+        }
+        PreparedStatement preparedStatement = this.bind(connection.prepareStatement(this.sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY));
+        try
+        {
+            databaseManager.applyFetchSize(preparedStatement, settings);
+        }
+        catch (SQLException e)
+        {
+            preparedStatement.close();
+            throw e;
+        }
+        return preparedStatement;
+    }
+
+    private PreparedStatement bind(PreparedStatement preparedStatement) throws SQLException
+    {
+        try
+        {
+            for (int i = 0; i < this.parameters.size(); i++)
+            {
+                preparedStatement.setObject(i + 1, this.parameters.get(i), this.parameterTypes.get(i).getVendorTypeNumber());
+            }
+        }
+        catch (SQLException e)
+        {
+            preparedStatement.close();
+            throw e;
+        }
+        return preparedStatement;
+    }
+
+    public ResultSet executeQuery(Statement statement) throws SQLException
+    {
+        return this.isParameterized() ? ((PreparedStatement) statement).executeQuery() : statement.executeQuery(this.sql);
+    }
+
+    public boolean execute(Statement statement) throws SQLException
+    {
+        return this.isParameterized() ? ((PreparedStatement) statement).execute() : statement.execute(this.sql);
+    }
 }
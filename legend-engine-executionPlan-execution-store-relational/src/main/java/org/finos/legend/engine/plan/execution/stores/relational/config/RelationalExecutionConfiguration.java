@@ -14,17 +14,71 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.config;
 
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.OAuthProfile;
 
 import io.dropwizard.Configuration;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 
 import java.util.List;
+import java.util.Map;
 
 public class RelationalExecutionConfiguration extends Configuration
 {
     public String tempPath;
     public List<OAuthProfile> oauthProfiles = Lists.mutable.empty();
+    /**
+     * Maximum number of sibling graph fetch child queries run concurrently. The first child uses the connection of its
+     * parent and every other child a connection of its own while it runs, so connection pools need that much headroom.
+     * A value of 1 (the default) runs them one after another on the request thread.
+     */
+    public int graphFetchChildParallelism = 1;
+    /**
+     * Number of rows sent per JDBC batch when loading temp tables with {@code PREPARED_BATCH_INSERT}.
+     */
+    public int tempTableInsertBatchSize = 1000;
+    /**
+     * Memory (in bytes) realized relational results may hold before spilling rows to {@link #tempPath}.
+     */
+    public long realizedResultMemoryBudget = RelationalExecutorSettings.DEFAULT_REALIZED_RESULT_MEMORY_BUDGET;
+    /**
+     * Maximum number of connections in the pool of each user of a data source.
+     */
+    public int connectionPoolMaxSizePerUser = RelationalExecutorSettings.DEFAULT_MAX_POOL_SIZE_PER_USER;
+    /**
+     * Maximum number of connections in use across all the user pools of a data source. 0 (the default) means no limit.
+     */
+    public int connectionBudgetPerDataSource = 0;
+    /**
+     * Time (in milliseconds) after which a user pool without any connection in use is closed.
+     */
+    public long idleConnectionPoolTimeout = RelationalExecutorSettings.DEFAULT_IDLE_POOL_TIMEOUT;
+    /**
+     * Bind the scalar plan parameters of the generated SQL as JDBC parameters of a {@link java.sql.PreparedStatement}
+     * instead of rendering them inline, so that repeated queries share the same text. Collection parameters are still
+     * rendered inline.
+     */
+    public boolean preparedStatementExecution = false;
+    /**
+     * Number of rows fetched per round trip by queries. 0 (the default) uses the default of the database.
+     */
+    public int fetchSize = 0;
+    /**
+     * Fetch size by database type (H2, Snowflake...), overriding {@link #fetchSize}.
+     */
+    public Map<String, Integer> fetchSizeByDatabaseType = Maps.mutable.empty();
+    /**
+     * Size the fetches of the databases supporting it (H2) from the width of the result columns, so that each fetch holds
+     * about {@link #fetchBufferSize} bytes.
+     */
+    public boolean adaptiveFetchSize = false;
+    public long fetchBufferSize = RelationalExecutorSettings.DEFAULT_FETCH_BUFFER_SIZE;
+    /**
+     * Run the setup SQL of each local H2 test database once and load the saved result in the new connections, instead
+     * of replaying the setup SQL on every connection.
+     */
+    public boolean localH2FixtureSnapshots = true;
 
     public RelationalExecutionConfiguration()
     {
@@ -21,6 +21,7 @@ import org.finos.legend.engine.plan.execution.stores.relational.RelationalExecut
 import org.finos.legend.engine.plan.execution.stores.relational.activity.AggregationAwareActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.blockConnection.BlockConnection;
 import org.finos.legend.engine.plan.execution.stores.relational.blockConnection.BlockConnectionContext;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 
@@ -85,6 +86,10 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -491,7 +496,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         boolean childrenExist = node.children != null && !node.children.isEmpty();
 
                         String tempTableName = node.tempTableName;
-                        RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
+                        RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns, this.getExecutorSettings());
 
                         /* Create and populate double strategy map with key being object with its PK getters */
                         DoubleStrategyHashMap<Object, Object, SQLExecutionResult> rootMap = new DoubleStrategyHashMap<>(
@@ -575,7 +580,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     if (!parentObjects.isEmpty())
                     {
                         String parentTempTableName = node.parentTempTableName;
-                        RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns);
+                        RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns, this.getExecutorSettings());
 
                         List<Method> crossKeyGetters = executor.parentCrossKeyGetters();
                         int parentKeyCount = crossKeyGetters.size();
@@ -595,7 +600,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                         String tempTableName = childrenExist ? node.tempTableName : null;
                         RealizedRelationalResult realizedRelationalResult = childrenExist ?
-                                RealizedRelationalResult.emptyRealizedRelationalResult(node.columns) :
+                                RealizedRelationalResult.emptyRealizedRelationalResult(node.columns, this.getExecutorSettings()) :
                                 null;
                         DatabaseConnection databaseConnection = childResult.getSQLExecutionNode().connection;
                         String databaseType = childResult.getDatabaseType();
@@ -727,7 +732,12 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
     private void createTempTableFromRealizedRelationalResultInBlockConnection(RealizedRelationalResult realizedRelationalResult, String tempTableName, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone)
     {
-        RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.Relational);
+        this.createTempTableFromRealizedRelationalResultInBlockConnection(this.executionState, realizedRelationalResult, tempTableName, databaseConnection, databaseType, databaseTimeZone);
+    }
+
+    private void createTempTableFromRealizedRelationalResultInBlockConnection(ExecutionState state, RealizedRelationalResult realizedRelationalResult, String tempTableName, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone)
+    {
+        RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) state.getStoreExecutionState(StoreType.Relational);
         DatabaseManager databaseManager = DatabaseManager.fromString(databaseType);
         BlockConnection blockConnection = relationalStoreExecutionState.getBlockConnectionContext().getBlockConnection(relationalStoreExecutionState, databaseConnection, this.profiles);
         databaseManager.relationalDatabaseSupport().accept(RelationalDatabaseCommandsVisitorBuilder.getStreamResultToTempTableVisitor(relationalStoreExecutionState.getRelationalExecutor().getRelationalExecutionConfiguration(), blockConnection, realizedRelationalResult, tempTableName, databaseTimeZone));
@@ -752,6 +762,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         realizedRelationalResult.addRow(pkRowNormalized, pkRowTransformed);
     }
 
+    private RelationalExecutorSettings getExecutorSettings()
+    {
+        return ((RelationalStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.Relational)).getRelationalExecutor().getRelationalExecutorInfo().getSettings();
+    }
+
     private Class<?> getExecuteClass(ExecutionNode node)
     {
         if (!(node.implementation instanceof JavaPlatformImplementation))
@@ -1029,7 +1044,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                     String tempTableName = childrenExist ? ((RelationalTempTableGraphFetchExecutionNode) node).tempTableName : null;
                     RealizedRelationalResult realizedRelationalResult = childrenExist ?
-                            RealizedRelationalResult.emptyRealizedRelationalResult(((RelationalTempTableGraphFetchExecutionNode) node).columns) :
+                            RealizedRelationalResult.emptyRealizedRelationalResult(((RelationalTempTableGraphFetchExecutionNode) node).columns, this.getExecutorSettings()) :
                             null;
                     DatabaseConnection databaseConnection = childResult.getSQLExecutionNode().connection;
                     String databaseType = childResult.getDatabaseType();
@@ -1197,7 +1212,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                         if (!instancesToDeepFetchAndCache.isEmpty())
                         {
-                            RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
+                            RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns, getExecutorSettings());
                             DoubleStrategyHashMap<Object, Object, SQLExecutionResult> rootMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters));
                             for (Pair<IGraphInstance<? extends IReferencedObject>, ExecutionCache<GraphFetchCacheKey, Object>> instanceAndCache : instancesToDeepFetchAndCache)
                             {
@@ -1300,7 +1315,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 childObjects.add(child);
                 relationalGraphObjectsBatch.addObjectMemoryUtilization(childGraphInstance.instanceSize());
 
-                nodeSpecifics.addChildToParent(parent, child, DefaultExecutionNodeContext.factory().create(this.executionState, null));
+                // Sibling children may be adding to the same parent concurrently
+                synchronized (parent)
+                {
+                    nodeSpecifics.addChildToParent(parent, child, DefaultExecutionNodeContext.factory().create(this.executionState, null));
+                }
             }
 
             childResult.close();
@@ -1359,7 +1378,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
             DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters));
-            RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
+            RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns, this.getExecutorSettings());
 
             /* Prepare for reading */
             nodeSpecifics.prepare(childResultSet, childSqlResult.getDatabaseTimeZone(), ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection));
@@ -1408,7 +1427,10 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     throw new RuntimeException("Cannot find the parent for child");
                 }
 
-                nodeSpecifics.addChildToParent(parent, child, DefaultExecutionNodeContext.factory().create(this.executionState, null));
+                synchronized (parent)
+                {
+                    nodeSpecifics.addChildToParent(parent, child, DefaultExecutionNodeContext.factory().create(this.executionState, null));
+                }
             }
 
             relationalGraphObjectsBatch.setObjectsForNodeIndex(node.nodeIndex, childObjects);
@@ -1512,7 +1534,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 {
                     Map<Object, List<Object>> parentToChildMap = new HashMap<>();
 
-                    RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns);
+                    RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns, this.getExecutorSettings());
                     List<Method> crossKeyGetters = nodeSpecifics.parentCrossKeyGetters();
 
                     for (Object parentObject : parentsToDeepFetch)
@@ -1537,7 +1559,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     );
                     parentsToDeepFetch.forEach((o) -> parentMap.getIfAbsentPut(o, ArrayList::new).add(o));
 
-                    RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
+                    RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns, this.getExecutorSettings());
 
                     List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
                     DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(
@@ -1648,13 +1670,118 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         else
         {
             String tempTableName = DatabaseManager.fromString(databaseType).relationalDatabaseSupport().processTempTableName(node.tempTableName);
-            RelationalExecutionNodeExecutor.this.createTempTableFromRealizedRelationalResultInBlockConnection(realizedRelationalResult, tempTableName, databaseConnection, databaseType, databaseTimeZone);
+            // Children of a node already run concurrently with their siblings stay sequential, which bounds the extra connections of a batch
+            ExecutorService childExecutor = ((node.children.size() > 1) && !relationalGraphObjectsBatch.isFork()) ? ((RelationalStoreExecutionState) state.getStoreExecutionState(StoreType.Relational)).getRelationalExecutor().getGraphFetchChildExecutor() : null;
+            this.createTempTableFromRealizedRelationalResultInBlockConnection(state, realizedRelationalResult, tempTableName, databaseConnection, databaseType, databaseTimeZone);
             state.addResult(node.tempTableName, new PreparedTempTableResult(tempTableName));
 
             relationalGraphObjectsBatch.setNodeObjectsHashMap(node.nodeIndex, nodeObjectsMap);
             relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, nodePrimaryKeyGetters);
 
-            node.children.forEach(x -> x.accept(new ExecutionNodeExecutor(this.profiles, state)));
+            if (childExecutor == null)
+            {
+                node.children.forEach(x -> x.accept(new ExecutionNodeExecutor(this.profiles, state)));
+            }
+            else
+            {
+                this.executeTempTableNodeChildrenConcurrently(node, realizedRelationalResult, tempTableName, databaseConnection, databaseType, databaseTimeZone, nodeObjectsMap, nodePrimaryKeyGetters, state, childExecutor);
+            }
+        }
+    }
+
+    /*
+     * The first child runs on the calling thread, in the block connection holding the parent temp table. Temp tables
+     * only live in the connection which created them, so every other child runs in its own block connection with its
+     * own copy of the parent temp table. These children also get their own copy of the parent hash map (as they switch
+     * its second key hashing strategy to their result set), their own result map and their own activities.
+     * All children work on forks of the graph objects batch, so none of them runs its own children concurrently.
+     * Tasks which have not been picked up by the executor yet are run by the calling thread.
+     */
+    private void executeTempTableNodeChildrenConcurrently(RelationalTempTableGraphFetchExecutionNode node, RealizedRelationalResult realizedRelationalResult, String tempTableName, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> nodeObjectsMap, List<Method> nodePrimaryKeyGetters, ExecutionState state, ExecutorService childExecutor)
+    {
+        RelationalGraphObjectsBatch relationalGraphObjectsBatch = (RelationalGraphObjectsBatch) state.graphObjectsBatch;
+        List<ExecutionState> childStates = new ArrayList<>(node.children.size());
+        List<FutureTask<Result>> childTasks = new ArrayList<>(node.children.size());
+
+        for (RelationalGraphFetchExecutionNode childNode : node.children)
+        {
+            RelationalGraphObjectsBatch childBatch = relationalGraphObjectsBatch.fork();
+            if (childTasks.isEmpty())
+            {
+                ExecutionState childState = new ExecutionState(state);
+                childState.graphObjectsBatch = childBatch;
+                childTasks.add(new FutureTask<>(() -> childNode.accept(new ExecutionNodeExecutor(this.profiles, childState))));
+                continue;
+            }
+
+            DoubleStrategyHashMap<Object, Object, SQLExecutionResult> childParentMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(nodePrimaryKeyGetters));
+            childParentMap.putAll(nodeObjectsMap);
+            childBatch.setNodeObjectsHashMap(node.nodeIndex, childParentMap);
+
+            ExecutionState childState = new ExecutionState(state, new HashMap<>(state.getResults()));
+            childState.activities = Lists.mutable.empty();
+            childState.graphObjectsBatch = childBatch;
+            RelationalStoreExecutionState childStoreExecutionState = (RelationalStoreExecutionState) childState.getStoreExecutionState(StoreType.Relational);
+            childStoreExecutionState.setBlockConnectionContext(new BlockConnectionContext());
+            childStoreExecutionState.setRetainConnection(true);
+            childStates.add(childState);
+
+            childTasks.add(new FutureTask<>(() ->
+            {
+                try
+                {
+                    this.createTempTableFromRealizedRelationalResultInBlockConnection(childState, realizedRelationalResult, tempTableName, databaseConnection, databaseType, databaseTimeZone);
+                    return childNode.accept(new ExecutionNodeExecutor(this.profiles, childState));
+                }
+                finally
+                {
+                    childStoreExecutionState.getBlockConnectionContext().unlockAllBlockConnections();
+                    childStoreExecutionState.getBlockConnectionContext().closeAllBlockConnectionsAsync();
+                }
+            }));
+        }
+
+        for (FutureTask<Result> childTask : childTasks.subList(1, childTasks.size()))
+        {
+            try
+            {
+                childExecutor.execute(childTask);
+            }
+            catch (RejectedExecutionException ignored)
+            {
+                // run by the calling thread below
+            }
+        }
+
+        RuntimeException failure = null;
+        for (FutureTask<Result> childTask : childTasks)
+        {
+            childTask.run();
+            try
+            {
+                childTask.get();
+            }
+            catch (ExecutionException e)
+            {
+                if (failure == null)
+                {
+                    failure = (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                if (failure == null)
+                {
+                    failure = new RuntimeException(e);
+                }
+            }
+        }
+        childStates.forEach(childState -> state.activities.addAll(childState.activities));
+
+        if (failure != null)
+        {
+            throw failure;
         }
     }
 
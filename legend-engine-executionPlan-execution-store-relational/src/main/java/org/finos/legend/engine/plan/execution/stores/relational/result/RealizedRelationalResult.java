@@ -24,10 +24,13 @@ import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.builder.Builder;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -39,7 +42,10 @@ public class RealizedRelationalResult extends StreamingResult
     public List<List<Object>> resultSetRows;
     public List<List<Object>> transformedRows;
 
-    private static final int DEFAULT_ROW_LIMIT = 1000;
+    private RelationalExecutorSettings executorSettings;
+    private RealizedRowBuffer resultSetRowBuffer;
+    // null while transformed rows are the result set rows
+    private RealizedRowBuffer transformedRowBuffer;
 
     public RealizedRelationalResult(RelationalResult relationalResult) throws SQLException
     {
@@ -48,38 +54,37 @@ public class RealizedRelationalResult extends StreamingResult
         this.columns = relationalResult.getSQLResultColumns();
         int columnCount = this.columns.size();
 
-        this.transformedRows = Lists.mutable.empty();
-        this.resultSetRows = Lists.mutable.empty();
+        this.executorSettings = relationalResult.getExecutorSettings();
+        this.resultSetRowBuffer = new RealizedRowBuffer(columnCount, this.executorSettings);
+        this.transformedRowBuffer = relationalResult.setTransformers.allSatisfy(RealizedRelationalResult::isIdentity) ? null : new RealizedRowBuffer(columnCount, this.executorSettings);
         ResultSet resultSet = relationalResult.resultSet;
-        int rowCount = 0;
         try
         {
+            Object[] resultSetRow = new Object[columnCount];
+            Object[] transformedRow = new Object[columnCount];
+            List<Object> resultSetRowView = Arrays.asList(resultSetRow);
+            List<Object> transformedRowView = Arrays.asList(transformedRow);
             while (resultSet.next())
             {
-                if (rowCount > 1000)
+                MutableList<Function<Object, Object>> transformers = relationalResult.getTransformers();
+                for (int i = 1; i <= columnCount; i++)
                 {
-                    throw new RuntimeException("Too many rows returned. Realization of relational results currently supports results with up to " + DEFAULT_ROW_LIMIT + " rows.");
+                    Object value = relationalResult.getValue(i);
+                    resultSetRow[i - 1] = value;
+                    transformedRow[i - 1] = transformers.get(i - 1).valueOf(value);
                 }
-
-                List<Object> transformedRow = Lists.mutable.empty();
-                List<Object> resultSetRow = Lists.mutable.empty();
-                MutableList<Function<Object, Object>> transformers = relationalResult.getTransformers();
-                for (int i = 1; i <= columnCount - 1; i++)
+                this.resultSetRowBuffer.add(resultSetRowView);
+                if (this.transformedRowBuffer != null)
                 {
-                    transformedRow.add(transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
-                    resultSetRow.add(relationalResult.getValue(i));
+                    this.transformedRowBuffer.add(transformedRowView);
                 }
-                transformedRow.add(transformers.get(columnCount - 1).valueOf(relationalResult.getValue(columnCount)));
-                resultSetRow.add(relationalResult.getValue(columnCount));
-                transformedRows.add(transformedRow);
-                resultSetRows.add(resultSetRow);
-                rowCount += 1;
             }
         }
         finally
         {
             relationalResult.close();
         }
+        this.initRowViews();
     }
 
     private RealizedRelationalResult()
@@ -94,20 +99,30 @@ public class RealizedRelationalResult extends StreamingResult
     }
 
 
-    public static RealizedRelationalResult emptyRealizedRelationalResult(List<SQLResultColumn> resultColumns)
+    public static RealizedRelationalResult emptyRealizedRelationalResult(List<SQLResultColumn> resultColumns, RelationalExecutorSettings executorSettings)
     {
         RealizedRelationalResult realizedRelationalResult = new RealizedRelationalResult();
         realizedRelationalResult.columns = resultColumns;
-        realizedRelationalResult.transformedRows = Lists.mutable.empty();
-        realizedRelationalResult.resultSetRows = Lists.mutable.empty();
+        realizedRelationalResult.executorSettings = executorSettings;
+        realizedRelationalResult.resultSetRowBuffer = new RealizedRowBuffer(resultColumns.size(), executorSettings);
+        realizedRelationalResult.initRowViews();
 
         return realizedRelationalResult;
     }
 
     public void addRow(List<Object> resultSetRow, List<Object> transformedRow)
     {
-        this.resultSetRows.add(resultSetRow);
-        this.transformedRows.add(transformedRow);
+        if ((this.transformedRowBuffer == null) && !sameValues(resultSetRow, transformedRow))
+        {
+            this.transformedRowBuffer = new RealizedRowBuffer(this.columns.size(), this.executorSettings);
+            this.resultSetRows.forEach(this.transformedRowBuffer::add);
+            this.initRowViews();
+        }
+        this.resultSetRowBuffer.add(resultSetRow);
+        if (this.transformedRowBuffer != null)
+        {
+            this.transformedRowBuffer.add(transformedRow);
+        }
     }
 
     public List<Map<String, Object>> getRowValueMaps(boolean withTransform)
@@ -137,4 +152,35 @@ public class RealizedRelationalResult extends StreamingResult
     {
         throw new UnsupportedOperationException("Not yet implemented!");
     }
-}
\ No newline at end of file
+
+    private void initRowViews()
+    {
+        this.resultSetRows = this.resultSetRowBuffer.asList();
+        this.transformedRows = (this.transformedRowBuffer == null) ? this.resultSetRows : this.transformedRowBuffer.asList();
+    }
+
+    private static boolean isIdentity(SetImplTransformers setImplTransformers)
+    {
+        return setImplTransformers.transformers.allSatisfy(t -> t == SetImplTransformers.IDENTITY_TRANSFORMER);
+    }
+
+    private static boolean sameValues(List<Object> left, List<Object> right)
+    {
+        if (left == right)
+        {
+            return true;
+        }
+        if (left.size() != right.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < left.size(); i++)
+        {
+            if (left.get(i) != right.get(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
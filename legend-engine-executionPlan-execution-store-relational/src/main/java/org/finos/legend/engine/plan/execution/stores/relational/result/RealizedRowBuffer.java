@@ -0,0 +1,1038 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Row storage of {@link RealizedRelationalResult}s.
+ * <p>
+ * Rows are kept in chunks of {@link #CHUNK_SIZE} rows, each column of a chunk in a primitive array chosen from the
+ * values it holds (falling back to an object array for mixed or unknown value types). Column arrays start small and
+ * double as rows are added, so small results do not pay for full chunks. Once the full chunks held in
+ * memory exceed the configured budget, the oldest ones are written to a file in the spill directory and read back
+ * through a memory mapping of that file. The file itself is removed straight away: the mapping keeps the data
+ * reachable for as long as the buffer is.
+ */
+public final class RealizedRowBuffer
+{
+    static final int CHUNK_SIZE = 4096;
+    static final int INITIAL_COLUMN_CAPACITY = 16;
+
+    private final int columnCount;
+    private final long budget;
+    private final String spillDirectory;
+    private final MutableList<Chunk> chunks = Lists.mutable.empty();
+    private final MutableList<MappedByteBuffer> spilledChunks = Lists.mutable.empty();
+    private volatile DecodedChunk lastDecodedChunk;
+    private long inMemorySize;
+    private int size;
+
+    public RealizedRowBuffer(int columnCount, RelationalExecutorSettings settings)
+    {
+        this(columnCount, settings.getRealizedResultMemoryBudget(), settings.getRealizedResultSpillDirectory());
+    }
+
+    RealizedRowBuffer(int columnCount, long budget)
+    {
+        this(columnCount, budget, System.getProperty("java.io.tmpdir"));
+    }
+
+    private RealizedRowBuffer(int columnCount, long budget, String spillDirectory)
+    {
+        this.columnCount = columnCount;
+        this.budget = budget;
+        this.spillDirectory = spillDirectory;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public int getColumnCount()
+    {
+        return this.columnCount;
+    }
+
+    public void add(List<?> row)
+    {
+        if (row.size() != this.columnCount)
+        {
+            throw new IllegalArgumentException("Expected a row of " + this.columnCount + " values, got " + row.size());
+        }
+        int offset = this.size % CHUNK_SIZE;
+        if (offset == 0)
+        {
+            this.chunks.add(new Chunk(this.columnCount));
+        }
+        Chunk chunk = this.chunks.getLast();
+        for (int c = 0; c < this.columnCount; c++)
+        {
+            chunk.columns[c] = chunk.columns[c].set(offset, row.get(c));
+        }
+        chunk.rowCount++;
+        this.size++;
+        if (chunk.rowCount == CHUNK_SIZE)
+        {
+            this.inMemorySize += chunk.estimateSize();
+            this.enforceBudget();
+        }
+    }
+
+    public Object get(int row, int column)
+    {
+        return this.chunkForRow(row).columns[column].get(row % CHUNK_SIZE);
+    }
+
+    public List<Object> getRow(int row)
+    {
+        if (row < 0 || row >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Row: " + row + ", size: " + this.size);
+        }
+        return new RowView(this.chunkForRow(row), row % CHUNK_SIZE);
+    }
+
+    /**
+     * Live list view of the rows of this buffer. Adding to the view adds to the buffer.
+     */
+    public List<List<Object>> asList()
+    {
+        return new AbstractList<List<Object>>()
+        {
+            @Override
+            public List<Object> get(int index)
+            {
+                return RealizedRowBuffer.this.getRow(index);
+            }
+
+            @Override
+            public int size()
+            {
+                return RealizedRowBuffer.this.size;
+            }
+
+            @Override
+            public boolean add(List<Object> row)
+            {
+                RealizedRowBuffer.this.add(row);
+                return true;
+            }
+        };
+    }
+
+    public boolean hasSpilled()
+    {
+        return this.spilledChunks.anySatisfy(b -> b != null);
+    }
+
+    public void clear()
+    {
+        this.chunks.clear();
+        this.spilledChunks.clear();
+        this.lastDecodedChunk = null;
+        this.inMemorySize = 0;
+        this.size = 0;
+    }
+
+    private Chunk chunkForRow(int row)
+    {
+        int chunkIndex = row / CHUNK_SIZE;
+        Chunk chunk = this.chunks.get(chunkIndex);
+        if (chunk != null)
+        {
+            return chunk;
+        }
+        DecodedChunk decoded = this.lastDecodedChunk;
+        if (decoded == null || decoded.index != chunkIndex)
+        {
+            decoded = new DecodedChunk(chunkIndex, Chunk.read(this.spilledChunks.get(chunkIndex).duplicate(), this.columnCount));
+            this.lastDecodedChunk = decoded;
+        }
+        return decoded.chunk;
+    }
+
+    private void enforceBudget()
+    {
+        // Only called once the last chunk is full, so every chunk can be spilled
+        for (int i = 0; (this.inMemorySize > this.budget) && (i < this.chunks.size()); i++)
+        {
+            Chunk chunk = this.chunks.get(i);
+            if ((chunk != null) && chunk.isSpillable())
+            {
+                this.spill(i, chunk);
+            }
+        }
+        if (this.inMemorySize > this.budget)
+        {
+            throw new RuntimeException("Too many rows returned. Realization of relational results is limited to " + this.budget + " bytes of values that can not be spilled to disk.");
+        }
+    }
+
+    private void spill(int chunkIndex, Chunk chunk)
+    {
+        Path file = null;
+        try
+        {
+            file = Files.createTempFile(Paths.get(this.spillDirectory), "realizedResult", ".chunk");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file))))
+            {
+                chunk.write(out);
+            }
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+            {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            while (this.spilledChunks.size() <= chunkIndex)
+            {
+                this.spilledChunks.add(null);
+            }
+            this.spilledChunks.set(chunkIndex, buffer);
+            this.chunks.set(chunkIndex, null);
+            this.inMemorySize -= chunk.estimateSize();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            deleteSpillFile(file);
+        }
+    }
+
+    private static void deleteSpillFile(Path file)
+    {
+        if (file != null)
+        {
+            try
+            {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException e)
+            {
+                // Mapped files can not be deleted on some platforms
+                File toDelete = file.toFile();
+                toDelete.deleteOnExit();
+            }
+        }
+    }
+
+    private static final class DecodedChunk
+    {
+        private final int index;
+        private final Chunk chunk;
+
+        private DecodedChunk(int index, Chunk chunk)
+        {
+            this.index = index;
+            this.chunk = chunk;
+        }
+    }
+
+    private static final class RowView extends AbstractList<Object>
+    {
+        private final Chunk chunk;
+        private final int offset;
+
+        private RowView(Chunk chunk, int offset)
+        {
+            this.chunk = chunk;
+            this.offset = offset;
+        }
+
+        @Override
+        public Object get(int index)
+        {
+            return this.chunk.columns[index].get(this.offset);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.chunk.columns.length;
+        }
+    }
+
+    private static final class Chunk
+    {
+        private final Column[] columns;
+        private int rowCount;
+
+        private Chunk(int columnCount)
+        {
+            this.columns = new Column[columnCount];
+            for (int c = 0; c < columnCount; c++)
+            {
+                this.columns[c] = new UnsetColumn();
+            }
+        }
+
+        private boolean isSpillable()
+        {
+            for (Column column : this.columns)
+            {
+                if (column.kind() == Column.OBJECT)
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long estimateSize()
+        {
+            long size = 16;
+            for (Column column : this.columns)
+            {
+                size += column.estimateSize(this.rowCount);
+            }
+            return size;
+        }
+
+        private void write(DataOutputStream out) throws IOException
+        {
+            out.writeInt(this.rowCount);
+            for (Column column : this.columns)
+            {
+                out.writeByte(column.kind());
+                column.write(out, this.rowCount);
+            }
+        }
+
+        private static Chunk read(ByteBuffer in, int columnCount)
+        {
+            Chunk chunk = new Chunk(columnCount);
+            chunk.rowCount = in.getInt();
+            for (int c = 0; c < columnCount; c++)
+            {
+                chunk.columns[c] = Column.read(in.get(), in, chunk.rowCount);
+            }
+            return chunk;
+        }
+    }
+
+    /*
+     * Column storage. Columns are typed by the first non null value they receive, a value of another type turns the
+     * column into an ObjectColumn.
+     */
+    private abstract static class Column
+    {
+        static final byte UNSET = 0;
+        static final byte LONG = 1;
+        static final byte INTEGER = 2;
+        static final byte DOUBLE = 3;
+        static final byte BOOLEAN = 4;
+        static final byte STRING = 5;
+        static final byte DECIMAL = 6;
+        static final byte TIMESTAMP = 7;
+        static final byte DATE = 8;
+        static final byte OBJECT = 9;
+
+        final BitSet nulls = new BitSet();
+
+        abstract byte kind();
+
+        abstract boolean accepts(Object value);
+
+        abstract void reserve(int capacity);
+
+        abstract void setValue(int index, Object value);
+
+        abstract Object getValue(int index);
+
+        abstract long estimateSize(int rowCount);
+
+        abstract void writeValues(DataOutputStream out, int rowCount) throws IOException;
+
+        abstract void readValues(ByteBuffer in, int rowCount);
+
+        Column set(int index, Object value)
+        {
+            if (value == null)
+            {
+                this.reserve(index + 1);
+                this.nulls.set(index);
+                return this;
+            }
+            Column column = this.accepts(value) ? this : this.promote(index, value);
+            column.reserve(index + 1);
+            column.setValue(index, value);
+            return column;
+        }
+
+        Object get(int index)
+        {
+            return this.nulls.get(index) ? null : this.getValue(index);
+        }
+
+        // Length a column array of the given length grows to so that it holds at least the given number of values
+        static int grownCapacity(int length, int capacity)
+        {
+            return Math.min(CHUNK_SIZE, Math.max(capacity, length * 2));
+        }
+
+        private Column promote(int rowCount, Object value)
+        {
+            Column column = (this.kind() == UNSET) ? newColumn(value) : new ObjectColumn();
+            column.reserve(rowCount);
+            for (int i = 0; i < rowCount; i++)
+            {
+                if (this.nulls.get(i))
+                {
+                    column.nulls.set(i);
+                }
+                else
+                {
+                    column.setValue(i, this.getValue(i));
+                }
+            }
+            return column;
+        }
+
+        private void write(DataOutputStream out, int rowCount) throws IOException
+        {
+            long[] words = this.nulls.toLongArray();
+            out.writeInt(words.length);
+            for (long word : words)
+            {
+                out.writeLong(word);
+            }
+            this.writeValues(out, rowCount);
+        }
+
+        private static Column read(byte kind, ByteBuffer in, int rowCount)
+        {
+            Column column = newColumn(kind);
+            long[] words = new long[in.getInt()];
+            for (int i = 0; i < words.length; i++)
+            {
+                words[i] = in.getLong();
+            }
+            column.nulls.or(BitSet.valueOf(words));
+            column.readValues(in, rowCount);
+            return column;
+        }
+
+        private static Column newColumn(Object value)
+        {
+            Class<?> type = value.getClass();
+            if (type == Long.class)
+            {
+                return new LongColumn(LONG);
+            }
+            if (type == Integer.class)
+            {
+                return new IntegerColumn();
+            }
+            if (type == Double.class)
+            {
+                return new DoubleColumn();
+            }
+            if (type == Boolean.class)
+            {
+                return new BooleanColumn();
+            }
+            if (type == String.class)
+            {
+                return new StringColumn(STRING);
+            }
+            if (type == BigDecimal.class)
+            {
+                return new StringColumn(DECIMAL);
+            }
+            if (type == Timestamp.class)
+            {
+                return new TimestampColumn();
+            }
+            if (type == Date.class)
+            {
+                return new LongColumn(DATE);
+            }
+            return new ObjectColumn();
+        }
+
+        private static Column newColumn(byte kind)
+        {
+            switch (kind)
+            {
+                case UNSET:
+                    return new UnsetColumn();
+                case LONG:
+                case DATE:
+                    return new LongColumn(kind);
+                case INTEGER:
+                    return new IntegerColumn();
+                case DOUBLE:
+                    return new DoubleColumn();
+                case BOOLEAN:
+                    return new BooleanColumn();
+                case STRING:
+                case DECIMAL:
+                    return new StringColumn(kind);
+                case TIMESTAMP:
+                    return new TimestampColumn();
+                default:
+                    throw new IllegalStateException("Unexpected spilled column kind: " + kind);
+            }
+        }
+    }
+
+    private static final class UnsetColumn extends Column
+    {
+        @Override
+        byte kind()
+        {
+            return UNSET;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return false;
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return null;
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            return 16;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount)
+        {
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+        }
+    }
+
+    private static final class LongColumn extends Column
+    {
+        private final byte kind;
+        private long[] values = new long[INITIAL_COLUMN_CAPACITY];
+
+        private LongColumn(byte kind)
+        {
+            this.kind = kind;
+        }
+
+        @Override
+        byte kind()
+        {
+            return this.kind;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return value.getClass() == ((this.kind == DATE) ? Date.class : Long.class);
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+            if (capacity > this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, grownCapacity(this.values.length, capacity));
+            }
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            this.values[index] = (this.kind == DATE) ? ((Date) value).getTime() : (Long) value;
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return (this.kind == DATE) ? new Date(this.values[index]) : (Object) this.values[index];
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            return 8L * this.values.length;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            for (int i = 0; i < rowCount; i++)
+            {
+                out.writeLong(this.values[i]);
+            }
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+            this.values = new long[rowCount];
+            for (int i = 0; i < rowCount; i++)
+            {
+                this.values[i] = in.getLong();
+            }
+        }
+    }
+
+    private static final class IntegerColumn extends Column
+    {
+        private int[] values = new int[INITIAL_COLUMN_CAPACITY];
+
+        @Override
+        byte kind()
+        {
+            return INTEGER;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return value.getClass() == Integer.class;
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+            if (capacity > this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, grownCapacity(this.values.length, capacity));
+            }
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            this.values[index] = (Integer) value;
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.values[index];
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            return 4L * this.values.length;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            for (int i = 0; i < rowCount; i++)
+            {
+                out.writeInt(this.values[i]);
+            }
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+            this.values = new int[rowCount];
+            for (int i = 0; i < rowCount; i++)
+            {
+                this.values[i] = in.getInt();
+            }
+        }
+    }
+
+    private static final class DoubleColumn extends Column
+    {
+        private double[] values = new double[INITIAL_COLUMN_CAPACITY];
+
+        @Override
+        byte kind()
+        {
+            return DOUBLE;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return value.getClass() == Double.class;
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+            if (capacity > this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, grownCapacity(this.values.length, capacity));
+            }
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            this.values[index] = (Double) value;
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.values[index];
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            return 8L * this.values.length;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            for (int i = 0; i < rowCount; i++)
+            {
+                out.writeDouble(this.values[i]);
+            }
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+            this.values = new double[rowCount];
+            for (int i = 0; i < rowCount; i++)
+            {
+                this.values[i] = in.getDouble();
+            }
+        }
+    }
+
+    private static final class BooleanColumn extends Column
+    {
+        private final BitSet values = new BitSet();
+
+        @Override
+        byte kind()
+        {
+            return BOOLEAN;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return value.getClass() == Boolean.class;
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            this.values.set(index, (Boolean) value);
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.values.get(index);
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            return rowCount / 8 + 8;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            long[] words = this.values.toLongArray();
+            out.writeInt(words.length);
+            for (long word : words)
+            {
+                out.writeLong(word);
+            }
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+            long[] words = new long[in.getInt()];
+            for (int i = 0; i < words.length; i++)
+            {
+                words[i] = in.getLong();
+            }
+            this.values.or(BitSet.valueOf(words));
+        }
+    }
+
+    private static final class StringColumn extends Column
+    {
+        private final byte kind;
+        private String[] values = new String[INITIAL_COLUMN_CAPACITY];
+
+        private StringColumn(byte kind)
+        {
+            this.kind = kind;
+        }
+
+        @Override
+        byte kind()
+        {
+            return this.kind;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return value.getClass() == ((this.kind == DECIMAL) ? BigDecimal.class : String.class);
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+            if (capacity > this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, grownCapacity(this.values.length, capacity));
+            }
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            this.values[index] = (this.kind == DECIMAL) ? ((BigDecimal) value).toString() : (String) value;
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return (this.kind == DECIMAL) ? new BigDecimal(this.values[index]) : this.values[index];
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            long size = 8L * this.values.length;
+            for (int i = 0; i < rowCount; i++)
+            {
+                if (this.values[i] != null)
+                {
+                    size += 40 + 2L * this.values[i].length();
+                }
+            }
+            return size;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            for (int i = 0; i < rowCount; i++)
+            {
+                if (!this.nulls.get(i))
+                {
+                    byte[] bytes = this.values[i].getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+            this.values = new String[rowCount];
+            for (int i = 0; i < rowCount; i++)
+            {
+                if (!this.nulls.get(i))
+                {
+                    byte[] bytes = new byte[in.getInt()];
+                    in.get(bytes);
+                    this.values[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+        }
+    }
+
+    private static final class TimestampColumn extends Column
+    {
+        private long[] millis = new long[INITIAL_COLUMN_CAPACITY];
+        private int[] nanos = new int[INITIAL_COLUMN_CAPACITY];
+
+        @Override
+        byte kind()
+        {
+            return TIMESTAMP;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return value.getClass() == Timestamp.class;
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+            if (capacity > this.millis.length)
+            {
+                int length = grownCapacity(this.millis.length, capacity);
+                this.millis = Arrays.copyOf(this.millis, length);
+                this.nanos = Arrays.copyOf(this.nanos, length);
+            }
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            Timestamp timestamp = (Timestamp) value;
+            this.millis[index] = timestamp.getTime();
+            this.nanos[index] = timestamp.getNanos();
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            Timestamp timestamp = new Timestamp(this.millis[index]);
+            timestamp.setNanos(this.nanos[index]);
+            return timestamp;
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            return 12L * this.millis.length;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            for (int i = 0; i < rowCount; i++)
+            {
+                out.writeLong(this.millis[i]);
+                out.writeInt(this.nanos[i]);
+            }
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+            this.millis = new long[rowCount];
+            this.nanos = new int[rowCount];
+            for (int i = 0; i < rowCount; i++)
+            {
+                this.millis[i] = in.getLong();
+                this.nanos[i] = in.getInt();
+            }
+        }
+    }
+
+    private static final class ObjectColumn extends Column
+    {
+        private Object[] values = new Object[INITIAL_COLUMN_CAPACITY];
+
+        @Override
+        byte kind()
+        {
+            return OBJECT;
+        }
+
+        @Override
+        boolean accepts(Object value)
+        {
+            return true;
+        }
+
+        @Override
+        void reserve(int capacity)
+        {
+            if (capacity > this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, grownCapacity(this.values.length, capacity));
+            }
+        }
+
+        @Override
+        void setValue(int index, Object value)
+        {
+            this.values[index] = value;
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.values[index];
+        }
+
+        @Override
+        long estimateSize(int rowCount)
+        {
+            // Values are only referenced; count a small object per value
+            return 8L * this.values.length + 32L * rowCount;
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount)
+        {
+            throw new UnsupportedOperationException("Object columns can not be spilled");
+        }
+
+        @Override
+        void readValues(ByteBuffer in, int rowCount)
+        {
+            throw new UnsupportedOperationException("Object columns can not be spilled");
+        }
+    }
+}
@@ -15,9 +15,11 @@
 package org.finos.legend.engine.plan.execution.stores.relational.result;
 
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.result.builder.relation.RelationBuilder;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializer;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToColumnarSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToPureTDSSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToPureTDSToObjectSerializer;
@@ -70,7 +72,6 @@ import java.sql.Types;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.function.Consumer;
 
 public class RelationalResult extends StreamingResult implements IRelationalResult
 {
@@ -91,6 +92,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 
     private final String databaseType;
     private final String databaseTimeZone;
+    private final RelationalExecutorSettings executorSettings;
 
     public Span topSpan;
 
@@ -100,22 +102,26 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 
     public Builder builder;
 
-    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan)
+    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan, RelationalExecutorSettings executorSettings)
     {
         super(activities);
         this.databaseType = databaseType;
         this.databaseTimeZone = databaseTimeZone;
         this.temporaryTables = temporaryTables;
+        this.executorSettings = executorSettings;
         this.topSpan = topSpan;
 
         try
         {
             this.connection = connection;
-            this.statement = connection.createStatement();
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) activities.getLast();
+            DatabaseManager databaseManager = DatabaseManager.fromString(databaseType);
+            this.statement = activity.createQueryStatement(connection, databaseManager, executorSettings);
             long start = System.currentTimeMillis();
-            String sql = ((RelationalExecutionActivity) activities.getLast()).sql;
+            String sql = activity.sql;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, sql).toString());
-            this.resultSet = this.statement.executeQuery(sql);
+            this.resultSet = activity.executeQuery(this.statement);
+            databaseManager.adaptFetchSize(this.resultSet, executorSettings);
             this.executedSQl = sql;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double)System.currentTimeMillis() - start).toString());
             this.resultSetMetaData = resultSet.getMetaData();
@@ -152,6 +158,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         this.databaseType = sqlExecutionResult.getDatabaseType();
         this.databaseTimeZone = sqlExecutionResult.getDatabaseTimeZone();
         this.temporaryTables = sqlExecutionResult.getTemporaryTables();
+        this.executorSettings = sqlExecutionResult.getExecutorSettings();
         this.topSpan = sqlExecutionResult.getTopSpan();
 
         try
@@ -306,21 +313,18 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return this.databaseTimeZone;
     }
 
+    public RelationalExecutorSettings getExecutorSettings()
+    {
+        return this.executorSettings;
+    }
+
     @Override
     public void close()
     {
         if (temporaryTables != null && statement != null)
         {
-            temporaryTables.forEach((Consumer<? super String>) table -> {
-                try
-                {
-                    DatabaseManager databaseManager = DatabaseManager.fromString(this.databaseType);
-                    statement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
-                }
-                catch (Exception ignore)
-                {
-                }
-            });
+            DatabaseManager databaseManager = DatabaseManager.fromString(this.databaseType);
+            StatementHelper.dropTempTables(connection, statement, temporaryTables, databaseManager);
         }
         if (resultSet != null)
         {
@@ -376,6 +380,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return this.columnListForSerializer;
     }
 
+    public SQLResultDBColumnsMetaData getResultDBColumnsMetaData()
+    {
+        return this.resultDBColumnsMetaData;
+    }
+
     public MutableList<Function<Object, Object>> getTransformers() throws SQLException
     {
         return this.setTransformers.size() == 1 ? this.setTransformers.get(0).transformers : this.setTransformers.get(this.resultSet.getInt("u_type")).transformers;
@@ -549,6 +558,8 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 return new RelationalResultToCSVSerializer(this, true);
             case DEFAULT:
                 return new RelationalResultToJsonDefaultSerializer(this);
+            case COLUMNAR:
+                return new RelationalResultToColumnarSerializer(this);
             default:
                 this.close();
                 throw new RuntimeException(format.toString() + " format not currently supported with RelationalResult");
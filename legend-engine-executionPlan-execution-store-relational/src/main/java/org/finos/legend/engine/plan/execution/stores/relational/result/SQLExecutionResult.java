@@ -15,6 +15,7 @@
 package org.finos.legend.engine.plan.execution.stores.relational.result;
 
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 
 import io.opentracing.Span;
@@ -50,6 +51,7 @@ public class SQLExecutionResult extends Result
     private final String databaseTimeZone;
     private final Calendar calendar;
     private final List<String> temporaryTables;
+    private final RelationalExecutorSettings executorSettings;
 
     private final Connection connection;
     private final Statement statement;
@@ -64,7 +66,7 @@ public class SQLExecutionResult extends Result
 
     public Span topSpan;
 
-    public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan)
+    public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan, RelationalExecutorSettings executorSettings)
     {
         super("success", activities);
 
@@ -73,18 +75,22 @@ public class SQLExecutionResult extends Result
         this.databaseTimeZone = databaseTimeZone;
         this.calendar = new GregorianCalendar(TimeZone.getTimeZone(databaseTimeZone));
         this.temporaryTables = temporaryTables;
+        this.executorSettings = executorSettings;
 
         this.topSpan = topSpan;
 
         try
         {
             this.connection = connection;
-            this.statement = connection.createStatement();
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) activities.get(activities.size() - 1);
+            DatabaseManager databaseManager = DatabaseManager.fromString(databaseType);
+            this.statement = activity.createQueryStatement(connection, databaseManager, executorSettings);
 
             long start = System.currentTimeMillis();
-            String sql = ((RelationalExecutionActivity) activities.get(activities.size() - 1)).sql;
+            String sql = activity.sql;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, sql).toString());
-            this.resultSet = this.statement.executeQuery(sql);
+            this.resultSet = activity.executeQuery(this.statement);
+            databaseManager.adaptFetchSize(this.resultSet, executorSettings);
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double)System.currentTimeMillis() - start).toString());
             this.executedSql = sql;
 
@@ -142,6 +148,11 @@ public class SQLExecutionResult extends Result
         return temporaryTables;
     }
 
+    public RelationalExecutorSettings getExecutorSettings()
+    {
+        return this.executorSettings;
+    }
+
     public Connection getConnection()
     {
         return this.connection;
@@ -204,15 +215,7 @@ public class SQLExecutionResult extends Result
         DatabaseManager databaseManager = DatabaseManager.fromString(this.SQLExecutionNode.getDatabaseTypeName());
         if (this.temporaryTables != null && this.statement != null)
         {
-            this.temporaryTables.forEach((Consumer<? super String>) table -> {
-                try
-                {
-                    statement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
-                }
-                catch (Exception ignored)
-                {
-                }
-            });
+            StatementHelper.dropTempTables(this.connection, this.statement, this.temporaryTables, databaseManager);
         }
 
         Consumer<AutoCloseable> closingFunction = (AutoCloseable c) -> {
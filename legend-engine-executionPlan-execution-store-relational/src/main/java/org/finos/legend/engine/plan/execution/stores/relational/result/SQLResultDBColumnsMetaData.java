@@ -37,12 +37,12 @@ public class SQLResultDBColumnsMetaData
         }
     }
 
-    boolean isTimestampColumn(int index)
+    public boolean isTimestampColumn(int index)
     {
         return columnIsOfType(index, Types.TIMESTAMP, "TIMESTAMP");
     }
 
-    boolean isDateColumn(int index)
+    public boolean isDateColumn(int index)
     {
         return columnIsOfType(index, Types.DATE, "DATE");
     }
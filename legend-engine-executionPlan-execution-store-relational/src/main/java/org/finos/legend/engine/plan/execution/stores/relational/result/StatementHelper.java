@@ -0,0 +1,67 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+class StatementHelper
+{
+    private StatementHelper()
+    {
+    }
+
+    /**
+     * Drops the temp tables of a result, ignoring failures. A prepared statement can't run other SQL so a plain
+     * statement is opened for it.
+     */
+    static void dropTempTables(Connection connection, Statement statement, List<String> temporaryTables, DatabaseManager databaseManager)
+    {
+        if (temporaryTables.isEmpty())
+        {
+            return;
+        }
+        if (!(statement instanceof PreparedStatement))
+        {
+            dropTempTables(statement, temporaryTables, databaseManager);
+            return;
+        }
+        try (Statement dropStatement = connection.createStatement())
+        {
+            dropTempTables(dropStatement, temporaryTables, databaseManager);
+        }
+        catch (Exception ignored)
+        {
+        }
+    }
+
+    private static void dropTempTables(Statement statement, List<String> temporaryTables, DatabaseManager databaseManager)
+    {
+        for (String table : temporaryTables)
+        {
+            try
+            {
+                statement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+            }
+            catch (Exception ignored)
+            {
+            }
+        }
+    }
+}
@@ -42,12 +42,13 @@ public class VoidRelationalResult extends Result
 
         try
         {
-            String sql = ((RelationalExecutionActivity) activities.getLast()).sql;
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) activities.getLast();
+            String sql = activity.sql;
             this.connection = connection;
-            this.statement = connection.createStatement();
+            this.statement = activity.createStatement(connection);
             long start = System.currentTimeMillis();
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, sql).toString());
-            this.statement.execute(sql);
+            activity.execute(this.statement);
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double)System.currentTimeMillis() - start).toString());
         }
         catch (SQLException e)
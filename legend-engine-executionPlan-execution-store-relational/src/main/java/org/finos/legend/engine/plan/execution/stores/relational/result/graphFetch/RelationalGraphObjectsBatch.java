@@ -26,12 +26,14 @@ import java.util.Map;
 
 public class RelationalGraphObjectsBatch extends GraphObjectsBatch
 {
+    private final RelationalGraphObjectsBatch parent;
     private Map<Integer, DoubleStrategyHashMap<Object, Object, SQLExecutionResult>> nodeObjectsHashMap;
     private Map<Integer, List<Method>> nodePrimaryKeyGetters;
 
     public RelationalGraphObjectsBatch(long batchIndex)
     {
         super(batchIndex);
+        this.parent = null;
         this.nodeObjectsHashMap = new HashMap<>();
         this.nodePrimaryKeyGetters = new HashMap<>();
     }
@@ -39,13 +41,65 @@ public class RelationalGraphObjectsBatch extends GraphObjectsBatch
     public RelationalGraphObjectsBatch(GraphObjectsBatch graphObjectsBatch)
     {
         super(graphObjectsBatch);
+        this.parent = null;
         this.nodeObjectsHashMap = new HashMap<>();
         this.nodePrimaryKeyGetters = new HashMap<>();
     }
 
+    private RelationalGraphObjectsBatch(RelationalGraphObjectsBatch parent)
+    {
+        super(parent);
+        this.parent = parent;
+        this.nodeObjectsHashMap = new HashMap<>();
+        this.nodePrimaryKeyGetters = new HashMap<>();
+    }
+
+    /**
+     * Creates a view of this batch for a graph fetch child executed concurrently with its siblings. Node objects and
+     * counters are shared with this batch, node hash maps and primary key getters set on the fork are only visible to
+     * the fork (and forks of it).
+     */
+    public RelationalGraphObjectsBatch fork()
+    {
+        return new RelationalGraphObjectsBatch(this);
+    }
+
+    public boolean isFork()
+    {
+        return this.parent != null;
+    }
+
+    @Override
+    public void setObjectsForNodeIndex(int index, List<?> objects)
+    {
+        if (this.parent != null)
+        {
+            this.parent.setObjectsForNodeIndex(index, objects);
+            return;
+        }
+        synchronized (this)
+        {
+            super.setObjectsForNodeIndex(index, objects);
+        }
+    }
+
+    @Override
+    public List<?> getObjectsForNodeIndex(int index)
+    {
+        if (this.parent != null)
+        {
+            return this.parent.getObjectsForNodeIndex(index);
+        }
+        synchronized (this)
+        {
+            return super.getObjectsForNodeIndex(index);
+        }
+    }
+
     public DoubleStrategyHashMap<Object, Object, SQLExecutionResult> getNodeObjectsHashMap(int nodeIndex)
     {
-        return this.nodeObjectsHashMap.get(nodeIndex);
+        DoubleStrategyHashMap<Object, Object, SQLExecutionResult> hashMap = this.nodeObjectsHashMap.get(nodeIndex);
+        return ((hashMap == null) && (this.parent != null)) ? this.parent.getNodeObjectsHashMap(nodeIndex) : hashMap;
     }
 
     public void setNodeObjectsHashMap(int nodeIndex, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> hashMap)
@@ -55,11 +109,53 @@ public class RelationalGraphObjectsBatch extends GraphObjectsBatch
 
     public List<Method> getNodePrimaryKeyGetters(int nodeIndex)
     {
-        return this.nodePrimaryKeyGetters.get(nodeIndex);
+        List<Method> primaryKeyGetters = this.nodePrimaryKeyGetters.get(nodeIndex);
+        return ((primaryKeyGetters == null) && (this.parent != null)) ? this.parent.getNodePrimaryKeyGetters(nodeIndex) : primaryKeyGetters;
     }
 
     public void setNodePrimaryKeyGetters(int nodeIndex, List<Method> primaryKeyGetters)
     {
         this.nodePrimaryKeyGetters.put(nodeIndex, primaryKeyGetters);
     }
+
+    @Override
+    public long getRowCount()
+    {
+        if (this.parent != null)
+        {
+            return this.parent.getRowCount();
+        }
+        synchronized (this)
+        {
+            return super.getRowCount();
+        }
+    }
+
+    @Override
+    public void incrementRowCount()
+    {
+        if (this.parent != null)
+        {
+            this.parent.incrementRowCount();
+            return;
+        }
+        synchronized (this)
+        {
+            super.incrementRowCount();
+        }
+    }
+
+    @Override
+    public void addObjectMemoryUtilization(long memoryBytes)
+    {
+        if (this.parent != null)
+        {
+            this.parent.addObjectMemoryUtilization(memoryBytes);
+            return;
+        }
+        synchronized (this)
+        {
+            super.addObjectMemoryUtilization(memoryBytes);
+        }
+    }
 }
@@ -0,0 +1,232 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.collections.api.block.function.Function;
+import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.SQLResultDBColumnsMetaData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Writes the rows of a relational result with a single set of columns (TDS, relation, data type results) through one
+ * {@link JsonGenerator}. A writer is resolved per column once: columns whose values are not transformed, and for which
+ * the driver reports the same Java class as a primitive getter returns, are read with that getter and written
+ * directly; all others go through their transformer and the object mapper. The output is identical to writing every cell with {@link ObjectMapper#writeValue}.
+ */
+class RelationalResultJsonRowWriter
+{
+    private static final String ROW_START = "{\"values\": [";
+    private static final String ROW_END = "]}";
+
+    private final RelationalResult relationalResult;
+    private final ObjectWriter cellWriter;
+    private final CellWriter[] cellWriters;
+
+    RelationalResultJsonRowWriter(RelationalResult relationalResult, ObjectMapper objectMapper) throws SQLException
+    {
+        this.relationalResult = relationalResult;
+        this.cellWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.cellWriters = buildCellWriters();
+    }
+
+    static boolean supports(RelationalResult relationalResult)
+    {
+        return relationalResult.setTransformers.size() == 1;
+    }
+
+    JsonGenerator createGenerator(OutputStream outputStream) throws IOException
+    {
+        JsonGenerator generator = this.cellWriter.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    void writeRow(JsonGenerator generator) throws IOException, SQLException
+    {
+        generator.writeRaw(ROW_START);
+        for (int i = 0; i < this.cellWriters.length; i++)
+        {
+            if (i > 0)
+            {
+                generator.writeRaw(',');
+            }
+            this.cellWriters[i].write(generator);
+        }
+        generator.writeRaw(ROW_END);
+    }
+
+    private CellWriter[] buildCellWriters() throws SQLException
+    {
+        SetImplTransformers setImplTransformers = this.relationalResult.setTransformers.get(0);
+        CellWriter[] writers = new CellWriter[this.relationalResult.columnCount];
+        for (int i = 1; i <= writers.length; i++)
+        {
+            writers[i - 1] = buildCellWriter(i, setImplTransformers.transformers.get(i - 1));
+        }
+        return writers;
+    }
+
+    private CellWriter buildCellWriter(int columnIndex, Function<Object, Object> transformer) throws SQLException
+    {
+        CellWriter objectWriter = generator -> this.cellWriter.writeValue(generator, transformer.valueOf(this.relationalResult.getValue(columnIndex)));
+
+        SQLResultDBColumnsMetaData columnsMetaData = this.relationalResult.getResultDBColumnsMetaData();
+        boolean passThrough = (transformer == SetImplTransformers.IDENTITY_TRANSFORMER) || (transformer == SetImplTransformers.TEMPORARY_DATATYPE_TRANSFORMER);
+        if (!passThrough || columnsMetaData.isTimestampColumn(columnIndex) || columnsMetaData.isDateColumn(columnIndex))
+        {
+            return objectWriter;
+        }
+
+        // The primitive getters are only used when they return what getObject would, so that the output is unchanged
+        ResultSet resultSet = this.relationalResult.resultSet;
+        String className = this.relationalResult.resultSetMetaData.getColumnClassName(columnIndex);
+        switch (this.relationalResult.resultSetMetaData.getColumnType(columnIndex))
+        {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            {
+                if (!isOneOf(className, Byte.class, Short.class, Integer.class, Long.class))
+                {
+                    return objectWriter;
+                }
+                return generator ->
+                {
+                    long value = resultSet.getLong(columnIndex);
+                    if (resultSet.wasNull())
+                    {
+                        generator.writeNull();
+                    }
+                    else
+                    {
+                        generator.writeNumber(value);
+                    }
+                };
+            }
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            {
+                if (isOneOf(className, Float.class))
+                {
+                    return generator ->
+                    {
+                        float value = resultSet.getFloat(columnIndex);
+                        if (resultSet.wasNull())
+                        {
+                            generator.writeNull();
+                        }
+                        else
+                        {
+                            generator.writeNumber(value);
+                        }
+                    };
+                }
+                if (isOneOf(className, Double.class))
+                {
+                    return generator ->
+                    {
+                        double value = resultSet.getDouble(columnIndex);
+                        if (resultSet.wasNull())
+                        {
+                            generator.writeNull();
+                        }
+                        else
+                        {
+                            generator.writeNumber(value);
+                        }
+                    };
+                }
+                return objectWriter;
+            }
+            case Types.BOOLEAN:
+            {
+                if (!isOneOf(className, Boolean.class))
+                {
+                    return objectWriter;
+                }
+                return generator ->
+                {
+                    boolean value = resultSet.getBoolean(columnIndex);
+                    if (resultSet.wasNull())
+                    {
+                        generator.writeNull();
+                    }
+                    else
+                    {
+                        generator.writeBoolean(value);
+                    }
+                };
+            }
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            {
+                if (!isOneOf(className, String.class))
+                {
+                    return objectWriter;
+                }
+                return generator ->
+                {
+                    String value = resultSet.getString(columnIndex);
+                    if (value == null)
+                    {
+                        generator.writeNull();
+                    }
+                    else
+                    {
+                        generator.writeString(value);
+                    }
+                };
+            }
+            default:
+            {
+                return objectWriter;
+            }
+        }
+    }
+
+    private static boolean isOneOf(String className, Class<?>... classes)
+    {
+        for (Class<?> c : classes)
+        {
+            if (c.getName().equals(className))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private interface CellWriter
+    {
+        void write(JsonGenerator generator) throws IOException, SQLException;
+    }
+}
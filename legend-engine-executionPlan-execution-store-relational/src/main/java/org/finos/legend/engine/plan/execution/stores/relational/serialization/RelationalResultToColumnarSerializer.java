@@ -0,0 +1,531 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import io.opentracing.Scope;
+import io.opentracing.util.GlobalTracer;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.SQLResultDBColumnsMetaData;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.function.ToLongFunction;
+
+/**
+ * Streams a relational result as a sequence of columnar record batches.
+ * <p>
+ * Layout (all numbers big endian):
+ * <pre>
+ * header  := "LGNDCOL" version:byte columnCount:int (name:utf type:byte)*
+ * batch   := rowCount:int (validity:byte[ceil(rowCount / 8)] values)*   -- one entry per column
+ * stream  := header batch* 0:int
+ * </pre>
+ * Values are {@code rowCount} longs for INTEGER (and DATE as epoch days, TIMESTAMP as epoch microseconds, both in
+ * UTC), doubles for FLOAT, a bitmap for BOOLEAN and, for STRING/DECIMAL, {@code rowCount + 1} int offsets followed by
+ * the UTF-8 bytes. Validity bitmaps are LSB first; a cleared bit means null.
+ * <p>
+ * Column types follow the Pure types of TDS columns, so that e.g. a Boolean stored as a number is still written as a
+ * BOOLEAN. The database type is only used when the Pure type does not settle it (Number, Date or non TDS results).
+ */
+public class RelationalResultToColumnarSerializer extends Serializer
+{
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    static final byte[] MAGIC = "LGNDCOL".getBytes(StandardCharsets.US_ASCII);
+    static final byte VERSION = 1;
+
+    static final byte TYPE_INTEGER = 1;
+    static final byte TYPE_FLOAT = 2;
+    static final byte TYPE_BOOLEAN = 3;
+    static final byte TYPE_STRING = 4;
+    static final byte TYPE_DECIMAL = 5;
+    static final byte TYPE_DATE = 6;
+    static final byte TYPE_TIMESTAMP = 7;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private final RelationalResult relationalResult;
+    private final int batchSize;
+
+    public RelationalResultToColumnarSerializer(RelationalResult relationalResult)
+    {
+        this(relationalResult, DEFAULT_BATCH_SIZE);
+    }
+
+    public RelationalResultToColumnarSerializer(RelationalResult relationalResult, int batchSize)
+    {
+        if (batchSize <= 0)
+        {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.relationalResult = relationalResult;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void stream(OutputStream targetStream) throws IOException
+    {
+        try
+        {
+            if (this.relationalResult.setTransformers.size() != 1)
+            {
+                throw new RuntimeException("Columnar serialization is only supported for results with a single set of columns (e.g. TDS)");
+            }
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(targetStream, 1 << 16));
+            ColumnVector[] columns = buildColumns();
+
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(columns.length);
+            List<String> columnNames = this.relationalResult.getColumnListForSerializer();
+            for (int i = 0; i < columns.length; i++)
+            {
+                out.writeUTF(columnNames.get(i));
+                out.writeByte(columns[i].type);
+            }
+
+            int rowCount = 0;
+            try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: columnar batches").startActive(true))
+            {
+                ResultSet resultSet = this.relationalResult.resultSet;
+                int batchRows = 0;
+                while (!resultSet.isClosed() && resultSet.next())
+                {
+                    for (ColumnVector column : columns)
+                    {
+                        column.read(batchRows);
+                    }
+                    batchRows++;
+                    if (batchRows == this.batchSize)
+                    {
+                        writeBatch(out, columns, batchRows);
+                        rowCount += batchRows;
+                        batchRows = 0;
+                    }
+                }
+                if (batchRows > 0)
+                {
+                    writeBatch(out, columns, batchRows);
+                    rowCount += batchRows;
+                }
+                out.writeInt(0);
+                out.flush();
+                scope.span().setTag("rowCount", rowCount);
+                if (this.relationalResult.topSpan != null)
+                {
+                    this.relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
+                }
+            }
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            this.relationalResult.close();
+        }
+    }
+
+    private void writeBatch(DataOutputStream out, ColumnVector[] columns, int rowCount) throws IOException
+    {
+        out.writeInt(rowCount);
+        for (ColumnVector column : columns)
+        {
+            column.write(out, rowCount);
+        }
+    }
+
+    private ColumnVector[] buildColumns() throws SQLException
+    {
+        SetImplTransformers setImplTransformers = this.relationalResult.setTransformers.get(0);
+        MutableList<Function<Object, Object>> transformers = setImplTransformers.transformers;
+        List<TDSColumn> tdsColumns = (this.relationalResult.builder instanceof TDSBuilder) ? this.relationalResult.getTdsColumns() : null;
+
+        ColumnVector[] columns = new ColumnVector[this.relationalResult.columnCount];
+        for (int i = 1; i <= columns.length; i++)
+        {
+            Function<Object, Object> transformer = transformers.get(i - 1);
+            String pureType = (tdsColumns == null) ? null : tdsColumns.get(i - 1).type;
+            if (setImplTransformers.hasEnumTransformer(i - 1))
+            {
+                columns[i - 1] = stringVector(i, transformer);
+            }
+            else
+            {
+                columns[i - 1] = (pureType == null) ? buildColumnFromDatabaseType(i, transformer) : buildColumnFromPureType(i, pureType, transformer);
+            }
+        }
+        return columns;
+    }
+
+    private ColumnVector buildColumnFromPureType(int columnIndex, String pureType, Function<Object, Object> transformer) throws SQLException
+    {
+        switch (pureType)
+        {
+            case "Integer":
+            {
+                return new LongVector(this.batchSize, this.relationalResult.resultSet, columnIndex);
+            }
+            case "Float":
+            {
+                return new DoubleVector(this.batchSize, this.relationalResult.resultSet, columnIndex);
+            }
+            case "Decimal":
+            {
+                return decimalVector(columnIndex);
+            }
+            case "Boolean":
+            {
+                // Booleans are often stored as numbers or characters, which the transformer maps
+                return new BooleanVector(this.batchSize, () -> (Boolean) transformer.valueOf(this.relationalResult.getValue(columnIndex)));
+            }
+            case "StrictDate":
+            {
+                return dateVector(columnIndex);
+            }
+            case "DateTime":
+            {
+                return timestampVector(columnIndex);
+            }
+            case "String":
+            {
+                return stringVector(columnIndex, transformer);
+            }
+            default:
+            {
+                // Number and Date may hold values of different primitive types, which only the database type tells
+                return buildColumnFromDatabaseType(columnIndex, transformer);
+            }
+        }
+    }
+
+    private ColumnVector buildColumnFromDatabaseType(int columnIndex, Function<Object, Object> transformer) throws SQLException
+    {
+        SQLResultDBColumnsMetaData columnsMetaData = this.relationalResult.getResultDBColumnsMetaData();
+        if (columnsMetaData.isTimestampColumn(columnIndex))
+        {
+            return timestampVector(columnIndex);
+        }
+        if (columnsMetaData.isDateColumn(columnIndex))
+        {
+            return dateVector(columnIndex);
+        }
+        ResultSet resultSet = this.relationalResult.resultSet;
+        switch (this.relationalResult.resultSetMetaData.getColumnType(columnIndex))
+        {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            {
+                return new LongVector(this.batchSize, resultSet, columnIndex);
+            }
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            {
+                return new DoubleVector(this.batchSize, resultSet, columnIndex);
+            }
+            case Types.BIT:
+            case Types.BOOLEAN:
+            {
+                return new BooleanVector(this.batchSize, () ->
+                {
+                    boolean value = resultSet.getBoolean(columnIndex);
+                    return resultSet.wasNull() ? null : value;
+                });
+            }
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            {
+                return decimalVector(columnIndex);
+            }
+            default:
+            {
+                return stringVector(columnIndex, transformer);
+            }
+        }
+    }
+
+    private ColumnVector stringVector(int columnIndex, Function<Object, Object> transformer)
+    {
+        return new StringVector(TYPE_STRING, this.batchSize, () ->
+        {
+            Object value = transformer.valueOf(this.relationalResult.getValue(columnIndex));
+            return value == null ? null : value.toString();
+        });
+    }
+
+    private ColumnVector decimalVector(int columnIndex)
+    {
+        ResultSet resultSet = this.relationalResult.resultSet;
+        return new StringVector(TYPE_DECIMAL, this.batchSize, () ->
+        {
+            BigDecimal value = resultSet.getBigDecimal(columnIndex);
+            return value == null ? null : value.toPlainString();
+        });
+    }
+
+    private ColumnVector dateVector(int columnIndex)
+    {
+        // Read at midnight UTC so that the epoch day does not depend on the default time zone of the JVM
+        ResultSet resultSet = this.relationalResult.resultSet;
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        return new TemporalVector(TYPE_DATE, this.batchSize, () -> resultSet.getDate(columnIndex, calendar), value -> Math.floorDiv(((java.sql.Date) value).getTime(), MILLIS_PER_DAY));
+    }
+
+    private ColumnVector timestampVector(int columnIndex)
+    {
+        // As for the other formats, timestamps are read in the time zone of the database, defaulting to GMT
+        ResultSet resultSet = this.relationalResult.resultSet;
+        String databaseTimeZone = this.relationalResult.getRelationalDatabaseTimeZone();
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(databaseTimeZone == null ? "GMT" : databaseTimeZone));
+        return new TemporalVector(TYPE_TIMESTAMP, this.batchSize, () -> resultSet.getTimestamp(columnIndex, calendar), value ->
+        {
+            Timestamp timestamp = (Timestamp) value;
+            return Math.floorDiv(timestamp.getTime(), 1000L) * 1_000_000L + timestamp.getNanos() / 1000;
+        });
+    }
+
+    private interface SQLSupplier<T>
+    {
+        T get() throws SQLException;
+    }
+
+    private abstract static class ColumnVector
+    {
+        private final byte type;
+        private final byte[] validity;
+
+        private ColumnVector(byte type, int capacity)
+        {
+            this.type = type;
+            this.validity = new byte[(capacity + 7) >>> 3];
+        }
+
+        abstract void read(int row) throws SQLException;
+
+        abstract void writeValues(DataOutputStream out, int rowCount) throws IOException;
+
+        void setValid(int row, boolean valid)
+        {
+            if (valid)
+            {
+                this.validity[row >>> 3] |= (byte) (1 << (row & 7));
+            }
+            else
+            {
+                this.validity[row >>> 3] &= (byte) ~(1 << (row & 7));
+            }
+        }
+
+        void write(DataOutputStream out, int rowCount) throws IOException
+        {
+            out.write(this.validity, 0, (rowCount + 7) >>> 3);
+            writeValues(out, rowCount);
+        }
+    }
+
+    private abstract static class AbstractLongVector extends ColumnVector
+    {
+        final long[] values;
+
+        private AbstractLongVector(byte type, int capacity)
+        {
+            super(type, capacity);
+            this.values = new long[capacity];
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            for (int i = 0; i < rowCount; i++)
+            {
+                out.writeLong(this.values[i]);
+            }
+        }
+    }
+
+    private static class LongVector extends AbstractLongVector
+    {
+        private final ResultSet resultSet;
+        private final int columnIndex;
+
+        private LongVector(int capacity, ResultSet resultSet, int columnIndex)
+        {
+            super(TYPE_INTEGER, capacity);
+            this.resultSet = resultSet;
+            this.columnIndex = columnIndex;
+        }
+
+        @Override
+        void read(int row) throws SQLException
+        {
+            long value = this.resultSet.getLong(this.columnIndex);
+            boolean valid = !this.resultSet.wasNull();
+            this.values[row] = valid ? value : 0L;
+            setValid(row, valid);
+        }
+    }
+
+    private static class TemporalVector extends AbstractLongVector
+    {
+        private final SQLSupplier<Object> reader;
+        private final ToLongFunction<Object> converter;
+
+        private TemporalVector(byte type, int capacity, SQLSupplier<Object> reader, ToLongFunction<Object> converter)
+        {
+            super(type, capacity);
+            this.reader = reader;
+            this.converter = converter;
+        }
+
+        @Override
+        void read(int row) throws SQLException
+        {
+            Object value = this.reader.get();
+            this.values[row] = (value == null) ? 0L : this.converter.applyAsLong(value);
+            setValid(row, value != null);
+        }
+    }
+
+    private static class DoubleVector extends ColumnVector
+    {
+        private final double[] values;
+        private final ResultSet resultSet;
+        private final int columnIndex;
+
+        private DoubleVector(int capacity, ResultSet resultSet, int columnIndex)
+        {
+            super(TYPE_FLOAT, capacity);
+            this.values = new double[capacity];
+            this.resultSet = resultSet;
+            this.columnIndex = columnIndex;
+        }
+
+        @Override
+        void read(int row) throws SQLException
+        {
+            double value = this.resultSet.getDouble(this.columnIndex);
+            boolean valid = !this.resultSet.wasNull();
+            this.values[row] = valid ? value : 0d;
+            setValid(row, valid);
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            for (int i = 0; i < rowCount; i++)
+            {
+                out.writeDouble(this.values[i]);
+            }
+        }
+    }
+
+    private static class BooleanVector extends ColumnVector
+    {
+        private final byte[] values;
+        private final SQLSupplier<Boolean> reader;
+
+        private BooleanVector(int capacity, SQLSupplier<Boolean> reader)
+        {
+            super(TYPE_BOOLEAN, capacity);
+            this.values = new byte[(capacity + 7) >>> 3];
+            this.reader = reader;
+        }
+
+        @Override
+        void read(int row) throws SQLException
+        {
+            Boolean value = this.reader.get();
+            if (value != null && value)
+            {
+                this.values[row >>> 3] |= (byte) (1 << (row & 7));
+            }
+            else
+            {
+                this.values[row >>> 3] &= (byte) ~(1 << (row & 7));
+            }
+            setValid(row, value != null);
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            out.write(this.values, 0, (rowCount + 7) >>> 3);
+        }
+    }
+
+    private static class StringVector extends ColumnVector
+    {
+        private final byte[][] values;
+        private final SQLSupplier<String> reader;
+
+        private StringVector(byte type, int capacity, SQLSupplier<String> reader)
+        {
+            super(type, capacity);
+            this.values = new byte[capacity][];
+            this.reader = reader;
+        }
+
+        @Override
+        void read(int row) throws SQLException
+        {
+            String value = this.reader.get();
+            this.values[row] = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+            setValid(row, value != null);
+        }
+
+        @Override
+        void writeValues(DataOutputStream out, int rowCount) throws IOException
+        {
+            int offset = 0;
+            out.writeInt(offset);
+            for (int i = 0; i < rowCount; i++)
+            {
+                offset += (this.values[i] == null) ? 0 : this.values[i].length;
+                out.writeInt(offset);
+            }
+            for (int i = 0; i < rowCount; i++)
+            {
+                if (this.values[i] != null)
+                {
+                    out.write(this.values[i]);
+                }
+            }
+            Arrays.fill(this.values, 0, rowCount, null);
+        }
+    }
+}
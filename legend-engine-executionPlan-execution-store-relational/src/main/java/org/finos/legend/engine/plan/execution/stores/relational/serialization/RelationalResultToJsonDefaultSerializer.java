@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.serialization;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.AggregationAwareActivity;
@@ -40,6 +41,7 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
 {
     private final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
     private final RelationalResult relationalResult;
+    private final boolean useRowWriter;
     private final byte[] b_builder = "{\"builder\": ".getBytes();
     private final byte[] b_generation = ", \"generationInfo\": ".getBytes();
     private final byte[] b_activities = ", \"activities\": [".getBytes();
@@ -52,8 +54,14 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
     private final byte[] b_endResult = "}".getBytes();
 
     public RelationalResultToJsonDefaultSerializer(RelationalResult relationalResult)
+    {
+        this(relationalResult, true);
+    }
+
+    RelationalResultToJsonDefaultSerializer(RelationalResult relationalResult, boolean useRowWriter)
     {
         this.relationalResult = relationalResult;
+        this.useRowWriter = useRowWriter;
         this.objectMapper.registerSubtypes(new NamedType(AggregationAwareActivity.class, "aggregationAware"));
         this.objectMapper.registerSubtypes(new NamedType(RelationalExecutionActivity.class, "relational"));
         Iterate.addAllTo(ServiceLoader.load(ResultInterpreterExtension.class), Lists.mutable.empty()).flatCollect(ResultInterpreterExtension::additionalMappers).forEach(e -> this.objectMapper.registerSubtypes(new NamedType(e.getOne(),e.getTwo())));
@@ -93,6 +101,11 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
 
     private void streamRows(OutputStream outputStream) throws Exception
     {
+        if (useRowWriter && RelationalResultJsonRowWriter.supports(relationalResult))
+        {
+            streamRowsWithRowWriter(outputStream);
+            return;
+        }
         int rowCount = 0;
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: Fetch first row").startActive(true))
         {
@@ -118,6 +131,37 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
         }
     }
 
+    private void streamRowsWithRowWriter(OutputStream outputStream) throws Exception
+    {
+        RelationalResultJsonRowWriter rowWriter = new RelationalResultJsonRowWriter(relationalResult, objectMapper);
+        int rowCount = 0;
+        try (JsonGenerator generator = rowWriter.createGenerator(outputStream))
+        {
+            try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: Fetch first row").startActive(true))
+            {
+                if (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
+                {
+                    rowWriter.writeRow(generator);
+                    rowCount++;
+                }
+            }
+            try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: remaining rows").startActive(true))
+            {
+                while (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
+                {
+                    generator.writeRaw(',');
+                    rowWriter.writeRow(generator);
+                    rowCount++;
+                }
+                scope.span().setTag("rowCount", rowCount);
+                if (relationalResult.topSpan != null)
+                {
+                    relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
+                }
+            }
+        }
+    }
+
     private void processRow(OutputStream outputStream) throws IOException, SQLException
     {
         outputStream.write(b_values);
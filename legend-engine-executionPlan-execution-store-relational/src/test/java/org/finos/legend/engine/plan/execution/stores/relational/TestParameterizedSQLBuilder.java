@@ -0,0 +1,115 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.Timestamp;
+
+public class TestParameterizedSQLBuilder
+{
+    @Test
+    public void testScalarParametersAreBound()
+    {
+        ExecutionState state = newState();
+        state.addResult("name", new ConstantResult("O'Brien"));
+        state.addResult("age", new ConstantResult(42L));
+        ParameterizedSQLBuilder sql = ParameterizedSQLBuilder.parameterize("select * from person where name = '${name}' and age > ${age}", state, "GMT");
+        Assert.assertNotNull(sql);
+        Assert.assertEquals("select * from person where name = ? and age > ?", sql.getSql());
+        Assert.assertEquals(Lists.mutable.with("O'Brien", 42L), sql.getParameters());
+        Assert.assertEquals(Lists.mutable.with(JDBCType.VARCHAR, JDBCType.BIGINT), sql.getParameterTypes());
+    }
+
+    @Test
+    public void testDatesAreBoundAsDatesAndTimestamps()
+    {
+        ExecutionState state = newState();
+        state.addResult("day", new ConstantResult(PureDate.newPureDate(2020, 1, 2)));
+        state.addResult("time", new ConstantResult(PureDate.newPureDate(2020, 1, 2, 3, 4, 5)));
+        ParameterizedSQLBuilder sql = ParameterizedSQLBuilder.parameterize("select * from trade where tradeDate = '${day}' and settled < '${time}'", state, "GMT");
+        Assert.assertNotNull(sql);
+        Assert.assertEquals("select * from trade where tradeDate = ? and settled < ?", sql.getSql());
+        Assert.assertEquals(Lists.mutable.with(Date.valueOf("2020-01-02"), Timestamp.valueOf("2020-01-02 03:04:05")), sql.getParameters());
+        Assert.assertEquals(Lists.mutable.with(JDBCType.DATE, JDBCType.TIMESTAMP), sql.getParameterTypes());
+    }
+
+    @Test
+    public void testQuotedNumbersStayInline()
+    {
+        ExecutionState state = newState();
+        state.addResult("code", new ConstantResult(42L));
+        state.addResult("age", new ConstantResult(42L));
+        ParameterizedSQLBuilder sql = ParameterizedSQLBuilder.parameterize("select * from person where code = '${code}' and age > ${age}", state, "GMT");
+        Assert.assertNotNull(sql);
+        Assert.assertEquals("select * from person where code = '${code}' and age > ?", sql.getSql());
+        Assert.assertEquals(Lists.mutable.with(42L), sql.getParameters());
+    }
+
+    @Test
+    public void testPlaceholdersInsideStringLiteralsStayInline()
+    {
+        ExecutionState state = newState();
+        state.addResult("n", new ConstantResult(7L));
+        state.addResult("name", new ConstantResult("Peter"));
+        String template = "select * from person where code like '%${n}%' and note = 'it''s ${n}' and title = 'a''${name}' and name = '${name}' and age > ${n}";
+        ParameterizedSQLBuilder sql = ParameterizedSQLBuilder.parameterize(template, state, "GMT");
+        Assert.assertNotNull(sql);
+        Assert.assertEquals("select * from person where code like '%${n}%' and note = 'it''s ${n}' and title = 'a''${name}' and name = ? and age > ?", sql.getSql());
+        Assert.assertEquals(Lists.mutable.with("Peter", 7L), sql.getParameters());
+    }
+
+    @Test
+    public void testCollectionsAndFunctionsStayInline()
+    {
+        ExecutionState state = newState();
+        state.addResult("names", new ConstantResult(Lists.mutable.with("a", "b")));
+        state.addResult("age", new ConstantResult(42L));
+        String template = "select * from person where name in (${renderCollection(names \",\" \"'\" \"'\")}) and name <> '${names}' and age > ${age}";
+        ParameterizedSQLBuilder sql = ParameterizedSQLBuilder.parameterize(template, state, "GMT");
+        Assert.assertNotNull(sql);
+        Assert.assertEquals("select * from person where name in (${renderCollection(names \",\" \"'\" \"'\")}) and name <> '${names}' and age > ?", sql.getSql());
+        Assert.assertEquals(Lists.mutable.with(42L), sql.getParameters());
+    }
+
+    @Test
+    public void testBareStringsStayInline()
+    {
+        ExecutionState state = newState();
+        state.addResult("table", new ConstantResult("person"));
+        Assert.assertNull(ParameterizedSQLBuilder.parameterize("select * from ${table}", state, "GMT"));
+    }
+
+    @Test
+    public void testDirectivesAreNotParameterized()
+    {
+        ExecutionState state = newState();
+        state.addResult("age", new ConstantResult(42L));
+        Assert.assertNull(ParameterizedSQLBuilder.parameterize("select * from person<#if age??> where age > ${age}</#if>", state, "GMT"));
+    }
+
+    private static ExecutionState newState()
+    {
+        return new ExecutionState(Maps.mutable.empty(), Lists.mutable.empty(), Lists.mutable.empty());
+    }
+}
@@ -0,0 +1,157 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestPreparedStatementExecution
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final int port = DynamicPortGenerator.generatePort();
+
+    @Before
+    public void setUp() throws Exception
+    {
+        Class.forName("org.h2.Driver");
+        AlloyH2Server.startServer(port);
+        try (Connection connection = new RelationalStoreState(port).getRelationalExecutor().getConnectionManager().getTestDatabaseConnection();
+             Statement statement = connection.createStatement())
+        {
+            statement.executeUpdate("drop table if exists person");
+            statement.executeUpdate("create table person(id INT, name VARCHAR(100), joined DATE)");
+            statement.executeUpdate("insert into person values (1, 'Anna', '2019-06-01')");
+            statement.executeUpdate("insert into person values (2, 'Maria', '2020-02-01')");
+            statement.executeUpdate("insert into person values (3, 'O''Brien', '2020-03-01')");
+            statement.executeUpdate("insert into person values (4, 'Bob', '2021-01-01')");
+            statement.executeUpdate("insert into person values (5, 'Sarah', '2021-05-05')");
+        }
+    }
+
+    @Test
+    public void testParametersAreBoundWithTheirType() throws Exception
+    {
+        RelationalResult result = execute(true, "O'Brien");
+        try
+        {
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) result.activities.get(result.activities.size() - 1);
+            Assert.assertEquals(Lists.mutable.with("O'Brien", 1L, Date.valueOf("2020-01-01")), activity.parameters);
+            Assert.assertEquals(Lists.mutable.with(JDBCType.VARCHAR, JDBCType.BIGINT, JDBCType.DATE), activity.parameterTypes);
+            // The placeholder inside a larger literal is rendered inline
+            Assert.assertTrue(activity.sql, activity.sql.contains("like '%a%'"));
+            Assert.assertEquals(Lists.mutable.with(2, 5), ids(result));
+        }
+        finally
+        {
+            result.close();
+        }
+    }
+
+    @Test
+    public void testPreparedAndInlineExecutionsReturnTheSameRows() throws Exception
+    {
+        RelationalResult prepared = execute(true, "Bob");
+        RelationalResult inline = execute(false, "Bob");
+        try
+        {
+            Assert.assertNotNull(((RelationalExecutionActivity) prepared.activities.get(prepared.activities.size() - 1)).parameters);
+            Assert.assertNull(((RelationalExecutionActivity) inline.activities.get(inline.activities.size() - 1)).parameters);
+            Assert.assertEquals(Lists.mutable.with(2, 3, 5), ids(prepared));
+            Assert.assertEquals(ids(prepared), ids(inline));
+        }
+        finally
+        {
+            prepared.close();
+            inline.close();
+        }
+    }
+
+    private static List<Object> ids(RelationalResult result) throws Exception
+    {
+        List<Object> ids = new ArrayList<>();
+        while (result.resultSet.next())
+        {
+            ids.add(result.resultSet.getObject(1));
+        }
+        return ids;
+    }
+
+    private RelationalResult execute(boolean preparedStatementExecution, String name) throws Exception
+    {
+        RelationalExecutionConfiguration config = new RelationalExecutionConfiguration("/tmp/");
+        config.preparedStatementExecution = preparedStatementExecution;
+        String plan = "{\n" +
+                "  \"rootExecutionNode\": {\n" +
+                "    \"sqlQuery\": \"select id as \\\"id\\\" from person where name <> '${name}' and id > ${minId} and name like '%${pattern}%' and joined >= '${since}' order by 1\",\n" +
+                "    \"resultColumns\": [\n" +
+                "      {\"label\": \"\\\"id\\\"\", \"dataType\": \"INT\"}\n" +
+                "    ],\n" +
+                "    \"connection\": {\n" +
+                "       \"_type\": \"RelationalDatabaseConnection\",\n" +
+                "       \"type\": \"H2\",\n" +
+                "       \"authenticationStrategy\" : {\n" +
+                "           \"_type\" : \"test\"\n" +
+                "       },\n" +
+                "       \"datasourceSpecification\" : {\n" +
+                "           \"_type\" : \"static\",\n" +
+                "           \"databaseName\" : \"testDB\",\n" +
+                "           \"host\":\"127.0.0.1\",\n" +
+                "           \"port\" : \"" + port + "\"\n" +
+                "       }\n" +
+                "    },\n" +
+                "    \"_type\": \"relational\",\n" +
+                "    \"resultType\": {\n" +
+                "      \"_type\": \"tds\",\n" +
+                "      \"tdsColumns\": [\n" +
+                "        {\"name\": \"id\", \"type\": \"Integer\", \"relationalType\": \"INT\"}\n" +
+                "      ]\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+        SingleExecutionPlan executionPlan = objectMapper.readValue(plan, SingleExecutionPlan.class);
+        RelationalStoreState state = new RelationalStoreState(new TemporaryTestDbConfiguration(port), config);
+        ExecutionState executionState = new ExecutionState(Maps.mutable.empty(), Lists.mutable.withAll(executionPlan.templateFunctions), Lists.mutable.with(new RelationalStoreExecutionState(state)));
+        executionState.addResult("name", new ConstantResult(name));
+        executionState.addResult("minId", new ConstantResult(1L));
+        executionState.addResult("pattern", new ConstantResult("a"));
+        executionState.addResult("since", new ConstantResult(PureDate.newPureDate(2020, 1, 1)));
+        return (RelationalResult) executionPlan.rootExecutionNode.accept(new ExecutionNodeExecutor(null, executionState));
+    }
+}
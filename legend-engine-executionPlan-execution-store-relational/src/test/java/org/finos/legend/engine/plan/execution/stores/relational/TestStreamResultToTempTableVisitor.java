@@ -0,0 +1,165 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.StreamingResult;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Commands;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestStreamResultToTempTableVisitor
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final int port = DynamicPortGenerator.generatePort();
+    private final RelationalExecutionConfiguration config = new RelationalExecutionConfiguration("/tmp/");
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        Class.forName("org.h2.Driver");
+        AlloyH2Server.startServer(port);
+        this.connection = new RelationalStoreState(port).getRelationalExecutor().getConnectionManager().getTestDatabaseConnection();
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.executeUpdate("drop table if exists sourceTable");
+            statement.executeUpdate("create table sourceTable(id INT, name VARCHAR(100), amount DOUBLE, tradeDate DATE, settled TIMESTAMP)");
+            statement.executeUpdate("insert into sourceTable values (1, 'O''Brien', 1.5, '2020-01-02', '2020-01-02 03:04:05.123')");
+            statement.executeUpdate("insert into sourceTable values (2, 'a,b', -0.1, '1999-12-31', '1970-01-01 00:00:00')");
+            statement.executeUpdate("insert into sourceTable values (3, null, null, null, null)");
+            statement.executeUpdate("insert into sourceTable values (4, 'é', 1e10, '2021-06-30', '2021-06-30 23:59:59')");
+            statement.executeUpdate("insert into sourceTable values (5, '', 0, '2000-02-29', '2000-02-29 12:00:00')");
+        }
+        // A small batch size so that several batches are sent
+        this.config.tempTableInsertBatchSize = 2;
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        this.connection.close();
+    }
+
+    @Test
+    public void testH2DefaultsToPreparedBatchInsert()
+    {
+        Assert.assertEquals(IngestionMethod.PREPARED_BATCH_INSERT, new H2Commands().getDefaultIngestionMethod());
+    }
+
+    @Test
+    public void testRelationalResultIsBatchInserted() throws Exception
+    {
+        load(execute(), "tempFromRelationalResult");
+        Assert.assertEquals(read("sourceTable"), read("tempFromRelationalResult"));
+    }
+
+    @Test
+    public void testRealizedRelationalResultIsBatchInserted() throws Exception
+    {
+        load((StreamingResult) execute().realizeInMemory(), "tempFromRealizedResult");
+        Assert.assertEquals(read("sourceTable"), read("tempFromRealizedResult"));
+    }
+
+    private void load(StreamingResult result, String tableName)
+    {
+        StreamResultToTempTableVisitor visitor = new StreamResultToTempTableVisitor(this.config, this.connection, result, tableName, "GMT");
+        new H2Commands().accept(visitor);
+        Assert.assertEquals(IngestionMethod.PREPARED_BATCH_INSERT, visitor.ingestionMethod);
+    }
+
+    private List<List<Object>> read(String tableName) throws Exception
+    {
+        List<List<Object>> rows = new ArrayList<>();
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from " + tableName + " order by 1"))
+        {
+            while (resultSet.next())
+            {
+                List<Object> row = new ArrayList<>();
+                for (int i = 1; i <= 5; i++)
+                {
+                    row.add(resultSet.getObject(i));
+                }
+                rows.add(row);
+            }
+        }
+        Assert.assertEquals(5, rows.size());
+        return rows;
+    }
+
+    private RelationalResult execute() throws Exception
+    {
+        String plan = "{\n" +
+                "  \"rootExecutionNode\": {\n" +
+                "    \"sqlQuery\": \"select id as \\\"id\\\", name as \\\"name\\\", amount as \\\"amount\\\", tradeDate as \\\"tradeDate\\\", settled as \\\"settled\\\" from sourceTable\",\n" +
+                "    \"resultColumns\": [\n" +
+                "      {\"label\": \"\\\"id\\\"\", \"dataType\": \"INT\"},\n" +
+                "      {\"label\": \"\\\"name\\\"\", \"dataType\": \"VARCHAR(100)\"},\n" +
+                "      {\"label\": \"\\\"amount\\\"\", \"dataType\": \"DOUBLE\"},\n" +
+                "      {\"label\": \"\\\"tradeDate\\\"\", \"dataType\": \"DATE\"},\n" +
+                "      {\"label\": \"\\\"settled\\\"\", \"dataType\": \"TIMESTAMP\"}\n" +
+                "    ],\n" +
+                "    \"connection\": {\n" +
+                "       \"_type\": \"RelationalDatabaseConnection\",\n" +
+                "       \"type\": \"H2\",\n" +
+                "       \"authenticationStrategy\" : {\n" +
+                "           \"_type\" : \"test\"\n" +
+                "       },\n" +
+                "       \"datasourceSpecification\" : {\n" +
+                "           \"_type\" : \"static\",\n" +
+                "           \"databaseName\" : \"testDB\",\n" +
+                "           \"host\":\"127.0.0.1\",\n" +
+                "           \"port\" : \"" + port + "\"\n" +
+                "       }\n" +
+                "    },\n" +
+                "    \"_type\": \"relational\",\n" +
+                "    \"resultType\": {\n" +
+                "      \"_type\": \"tds\",\n" +
+                "      \"tdsColumns\": [\n" +
+                "        {\"name\": \"id\", \"type\": \"Integer\", \"relationalType\": \"INT\"},\n" +
+                "        {\"name\": \"name\", \"type\": \"String\", \"relationalType\": \"VARCHAR(100)\"},\n" +
+                "        {\"name\": \"amount\", \"type\": \"Float\", \"relationalType\": \"DOUBLE\"},\n" +
+                "        {\"name\": \"tradeDate\", \"type\": \"StrictDate\", \"relationalType\": \"DATE\"},\n" +
+                "        {\"name\": \"settled\", \"type\": \"DateTime\", \"relationalType\": \"TIMESTAMP\"}\n" +
+                "      ]\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+        SingleExecutionPlan executionPlan = objectMapper.readValue(plan, SingleExecutionPlan.class);
+        return (RelationalResult) executionPlan.rootExecutionNode.accept(new ExecutionNodeExecutor(null, new ExecutionState(Maps.mutable.empty(), Lists.mutable.withAll(executionPlan.templateFunctions), Lists.mutable.with(new RelationalStoreExecutionState(new RelationalStoreState(port))))));
+    }
+}
@@ -0,0 +1,118 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.RelationalExecutorSettings;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class TestRealizedRowBuffer
+{
+    @Test
+    public void testRowsAreRestoredAfterSpilling()
+    {
+        RealizedRowBuffer buffer = new RealizedRowBuffer(6, 1024 * 1024);
+        List<List<Object>> expected = new ArrayList<>();
+        for (int i = 0; i < 5 * RealizedRowBuffer.CHUNK_SIZE; i++)
+        {
+            Timestamp timestamp = new Timestamp(1600000000000L + i);
+            timestamp.setNanos(123456789);
+            List<Object> row = Arrays.asList((i % 7 == 0) ? null : (long) i, (i % 3 == 0) ? null : "value" + i, i / 3.0d, i % 2 == 0, new BigDecimal(i + ".25"), timestamp);
+            expected.add(row);
+            buffer.add(row);
+        }
+
+        Assert.assertTrue(buffer.hasSpilled());
+        Assert.assertEquals(expected.size(), buffer.size());
+        Assert.assertEquals(expected, buffer.asList());
+    }
+
+    @Test
+    public void testColumnsGrowPastTrailingNulls()
+    {
+        RealizedRowBuffer buffer = new RealizedRowBuffer(3, 1024);
+        List<List<Object>> expected = new ArrayList<>();
+        for (int i = 0; i < 2 * RealizedRowBuffer.CHUNK_SIZE; i++)
+        {
+            // Values are sparse so that column arrays are shorter than the row count when chunks are spilled
+            boolean hasValue = (i % RealizedRowBuffer.CHUNK_SIZE) < RealizedRowBuffer.INITIAL_COLUMN_CAPACITY + 1;
+            List<Object> row = Arrays.asList(hasValue ? (long) i : null, hasValue ? "value" + i : null, hasValue ? new Timestamp(i) : null);
+            expected.add(row);
+            buffer.add(row);
+        }
+
+        Assert.assertTrue(buffer.hasSpilled());
+        Assert.assertEquals(expected, buffer.asList());
+    }
+
+    @Test
+    public void testMixedValueTypes()
+    {
+        RealizedRowBuffer buffer = new RealizedRowBuffer(1, new RelationalExecutorSettings());
+        buffer.add(Collections.singletonList(null));
+        buffer.add(Collections.singletonList(1));
+        buffer.add(Collections.singletonList("two"));
+        buffer.add(Collections.singletonList(3L));
+        Assert.assertEquals(Arrays.asList(null, 1, "two", 3L), Lists.mutable.withAll(buffer.asList()).collect(row -> row.get(0)));
+    }
+
+    @Test
+    public void testBudgetIsEnforcedForValuesThatCanNotBeSpilled()
+    {
+        RealizedRowBuffer buffer = new RealizedRowBuffer(1, 1024);
+        try
+        {
+            for (int i = 0; i < RealizedRowBuffer.CHUNK_SIZE; i++)
+            {
+                buffer.add(Collections.singletonList(new Object()));
+            }
+            Assert.fail("Expected the memory budget to be exceeded");
+        }
+        catch (RuntimeException e)
+        {
+            Assert.assertTrue(e.getMessage().startsWith("Too many rows returned."));
+        }
+    }
+
+    @Test
+    public void testRowValueMaps()
+    {
+        RealizedRelationalResult result = RealizedRelationalResult.emptyRealizedRelationalResult(Arrays.asList(new SQLResultColumn("\"first\"", "VARCHAR(10)"), new SQLResultColumn("second", "INTEGER")));
+        result.addRow(Arrays.asList("a", 1), Arrays.asList("a", 1));
+        result.addRow(Arrays.asList("b", 2), Arrays.asList("B", 2));
+
+        List<Map<String, Object>> rows = result.getRowValueMaps(false);
+        Assert.assertEquals(2, rows.size());
+        Assert.assertEquals("b", rows.get(1).get("first"));
+        Assert.assertEquals(2, rows.get(1).get("second"));
+        Assert.assertEquals("B", result.getRowValueMaps(true).get(1).get("first"));
+        Assert.assertEquals("a", result.getRowValueMaps(true).get(0).get("first"));
+
+        rows.get(0).put("third", true);
+        Assert.assertEquals(3, rows.get(0).size());
+        Assert.assertEquals(true, rows.get(0).get("third"));
+        Assert.assertEquals("a", rows.get(0).get("first"));
+    }
+}
@@ -0,0 +1,138 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.AlloyH2Server;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+public class TestRelationalResultJsonRowWriter
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final String[][] COLUMNS = {
+            {"tiny", "TINYINT", "Integer"},
+            {"small", "SMALLINT", "Integer"},
+            {"int", "INT", "Integer"},
+            {"big", "BIGINT", "Integer"},
+            {"real", "REAL", "Float"},
+            {"float", "FLOAT", "Float"},
+            {"double", "DOUBLE", "Float"},
+            {"decimal", "DECIMAL(20,5)", "Decimal"},
+            {"bool", "BOOLEAN", "Boolean"},
+            {"char", "CHAR(3)", "String"},
+            {"varchar", "VARCHAR(200)", "String"},
+            {"date", "DATE", "StrictDate"},
+            {"timestamp", "TIMESTAMP", "DateTime"}
+    };
+
+    private final int port = DynamicPortGenerator.generatePort();
+
+    @Before
+    public void setUp() throws Exception
+    {
+        Class.forName("org.h2.Driver");
+        AlloyH2Server.startServer(port);
+        StringBuilder create = new StringBuilder("create table allTypesTable(");
+        for (int i = 0; i < COLUMNS.length; i++)
+        {
+            create.append(i == 0 ? "" : ", ").append("c_").append(COLUMNS[i][0]).append(' ').append(COLUMNS[i][1]);
+        }
+        try (Connection connection = new RelationalStoreState(port).getRelationalExecutor().getConnectionManager().getTestDatabaseConnection();
+             Statement statement = connection.createStatement())
+        {
+            statement.executeUpdate("drop table if exists allTypesTable");
+            statement.executeUpdate(create.append(')').toString());
+            statement.executeUpdate("insert into allTypesTable values (1, 2, 3, 9223372036854775807, 0.1, 0.1, 0.1, 12345.67891, true, 'abc', 'with \"quotes\", \\ and é', '2020-01-02', '2020-01-02 03:04:05.123')");
+            statement.executeUpdate("insert into allTypesTable values (null, null, null, null, null, null, null, null, null, null, null, null, null)");
+            statement.executeUpdate("insert into allTypesTable values (-1, -2, -3, -4, 3.4028235E38, -1.5, 1e-300, -0.00001, false, 'x', '', '1900-01-01', '1970-01-01 00:00:00')");
+        }
+    }
+
+    @Test
+    public void testTDSRowsAreUnchanged() throws Exception
+    {
+        StringBuilder tdsColumns = new StringBuilder();
+        for (int i = 0; i < COLUMNS.length; i++)
+        {
+            tdsColumns.append(i == 0 ? "" : ",").append("{\"name\": \"").append(COLUMNS[i][0]).append("\", \"type\": \"").append(COLUMNS[i][2]).append("\", \"relationalType\": \"").append(COLUMNS[i][1]).append("\"}");
+        }
+        assertSameOutput("{\"_type\": \"tds\", \"tdsColumns\": [" + tdsColumns + "]}");
+    }
+
+    @Test
+    public void testDataTypeRowsAreUnchanged() throws Exception
+    {
+        assertSameOutput("{\"_type\": \"dataType\", \"dataType\": \"meta::pure::metamodel::type::Any\"}");
+    }
+
+    private void assertSameOutput(String resultType) throws Exception
+    {
+        RelationalResult withoutRowWriter = execute(resultType);
+        String expected = withoutRowWriter.flush(new RelationalResultToJsonDefaultSerializer(withoutRowWriter, false));
+        Assert.assertTrue(expected, expected.contains("0.1,"));
+
+        RelationalResult withRowWriter = execute(resultType);
+        Assert.assertEquals(expected, withRowWriter.flush(new RelationalResultToJsonDefaultSerializer(withRowWriter)));
+    }
+
+    private RelationalResult execute(String resultType) throws Exception
+    {
+        StringBuilder select = new StringBuilder("select ");
+        StringBuilder resultColumns = new StringBuilder();
+        for (int i = 0; i < COLUMNS.length; i++)
+        {
+            select.append(i == 0 ? "" : ", ").append("c_").append(COLUMNS[i][0]).append(" as \\\"").append(COLUMNS[i][0]).append("\\\"");
+            resultColumns.append(i == 0 ? "" : ",").append("{\"label\": \"\\\"").append(COLUMNS[i][0]).append("\\\"\", \"dataType\": \"").append(COLUMNS[i][1]).append("\"}");
+        }
+        String plan = "{\n" +
+                "  \"rootExecutionNode\": {\n" +
+                "    \"sqlQuery\": \"" + select + " from allTypesTable\",\n" +
+                "    \"resultColumns\": [" + resultColumns + "],\n" +
+                "    \"connection\": {\n" +
+                "       \"_type\": \"RelationalDatabaseConnection\",\n" +
+                "       \"type\": \"H2\",\n" +
+                "       \"authenticationStrategy\" : {\n" +
+                "           \"_type\" : \"test\"\n" +
+                "       },\n" +
+                "       \"datasourceSpecification\" : {\n" +
+                "           \"_type\" : \"static\",\n" +
+                "           \"databaseName\" : \"testDB\",\n" +
+                "           \"host\":\"127.0.0.1\",\n" +
+                "           \"port\" : \"" + port + "\"\n" +
+                "       }\n" +
+                "    },\n" +
+                "    \"_type\": \"relational\",\n" +
+                "    \"resultType\": " + resultType + "\n" +
+                "  }\n" +
+                "}";
+        SingleExecutionPlan executionPlan = objectMapper.readValue(plan, SingleExecutionPlan.class);
+        return (RelationalResult) executionPlan.rootExecutionNode.accept(new ExecutionNodeExecutor(null, new ExecutionState(Maps.mutable.empty(), Lists.mutable.withAll(executionPlan.templateFunctions), Lists.mutable.with(new RelationalStoreExecutionState(new RelationalStoreState(port))))));
+    }
+}
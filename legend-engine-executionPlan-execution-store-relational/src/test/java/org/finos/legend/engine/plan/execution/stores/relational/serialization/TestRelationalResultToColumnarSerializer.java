@@ -0,0 +1,288 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.AlloyH2Server;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestRelationalResultToColumnarSerializer
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private final int port = DynamicPortGenerator.generatePort();
+
+    @Before
+    public void setUp() throws Exception
+    {
+        Class.forName("org.h2.Driver");
+        AlloyH2Server.startServer(port);
+        try (Connection connection = new RelationalStoreState(port).getRelationalExecutor().getConnectionManager().getTestDatabaseConnection();
+             Statement statement = connection.createStatement())
+        {
+            statement.executeUpdate("drop table if exists columnarTable");
+            statement.executeUpdate("create table columnarTable(id INT, name VARCHAR(200), active INT, amount DOUBLE, price DECIMAL(10,2), dob DATE, updated TIMESTAMP, type VARCHAR(200))");
+            statement.executeUpdate("insert into columnarTable values (1, 'Alice', 1, 1.5, 10.25, '1983-03-15', '2020-01-02 03:04:05.123456', 'FTC')");
+            statement.executeUpdate("insert into columnarTable values (2, 'Bob', 0, null, null, null, null, 'FTE')");
+            statement.executeUpdate("insert into columnarTable values (3, null, null, -2.0, 0.10, '1969-12-31', '1969-12-31 23:59:59', 'FTO')");
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception
+    {
+        RelationalResult result = execute();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new RelationalResultToColumnarSerializer(result, 2).stream(stream);
+        Columns columns = read(stream.toByteArray());
+
+        Assert.assertEquals(Arrays.asList("id", "name", "active", "amount", "price", "dob", "updated", "type"), columns.names);
+        Assert.assertEquals(Arrays.asList(
+                RelationalResultToColumnarSerializer.TYPE_INTEGER,
+                RelationalResultToColumnarSerializer.TYPE_STRING,
+                RelationalResultToColumnarSerializer.TYPE_BOOLEAN,
+                RelationalResultToColumnarSerializer.TYPE_FLOAT,
+                RelationalResultToColumnarSerializer.TYPE_DECIMAL,
+                RelationalResultToColumnarSerializer.TYPE_DATE,
+                RelationalResultToColumnarSerializer.TYPE_TIMESTAMP,
+                RelationalResultToColumnarSerializer.TYPE_STRING), columns.types);
+        Assert.assertEquals(Arrays.asList(
+                Arrays.asList(1L, "Alice", true, 1.5d, "10.25", LocalDate.of(1983, 3, 15), Instant.parse("2020-01-02T03:04:05.123456Z"), "CONTRACT"),
+                Arrays.asList(2L, "Bob", false, null, null, null, null, "FULL_TIME"),
+                Arrays.asList(3L, null, null, -2.0d, "0.10", LocalDate.of(1969, 12, 31), Instant.parse("1969-12-31T23:59:59Z"), "CONTRACT")), columns.rows);
+        Assert.assertEquals(2, columns.batches);
+    }
+
+    @Test
+    public void testEmptyResult() throws Exception
+    {
+        try (Connection connection = new RelationalStoreState(port).getRelationalExecutor().getConnectionManager().getTestDatabaseConnection();
+             Statement statement = connection.createStatement())
+        {
+            statement.executeUpdate("delete from columnarTable");
+        }
+        RelationalResult result = execute();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new RelationalResultToColumnarSerializer(result).stream(stream);
+        Columns columns = read(stream.toByteArray());
+
+        Assert.assertEquals(8, columns.names.size());
+        Assert.assertEquals(0, columns.rows.size());
+        Assert.assertEquals(0, columns.batches);
+    }
+
+    private RelationalResult execute() throws Exception
+    {
+        String plan = "{\n" +
+                "  \"rootExecutionNode\": {\n" +
+                "    \"sqlQuery\": \"select id as \\\"id\\\", name as \\\"name\\\", active as \\\"active\\\", amount as \\\"amount\\\", price as \\\"price\\\", dob as \\\"dob\\\", updated as \\\"updated\\\", type as \\\"type\\\" from columnarTable order by id\",\n" +
+                "    \"resultColumns\": [\n" +
+                "      {\"label\": \"\\\"id\\\"\", \"dataType\": \"INT\"},\n" +
+                "      {\"label\": \"\\\"name\\\"\", \"dataType\": \"VARCHAR(200)\"},\n" +
+                "      {\"label\": \"\\\"active\\\"\", \"dataType\": \"INT\"},\n" +
+                "      {\"label\": \"\\\"amount\\\"\", \"dataType\": \"DOUBLE\"},\n" +
+                "      {\"label\": \"\\\"price\\\"\", \"dataType\": \"DECIMAL(10,2)\"},\n" +
+                "      {\"label\": \"\\\"dob\\\"\", \"dataType\": \"DATE\"},\n" +
+                "      {\"label\": \"\\\"updated\\\"\", \"dataType\": \"TIMESTAMP\"},\n" +
+                "      {\"label\": \"\\\"type\\\"\", \"dataType\": \"VARCHAR(200)\"}\n" +
+                "    ],\n" +
+                "    \"connection\": {\n" +
+                "       \"_type\": \"RelationalDatabaseConnection\",\n" +
+                "       \"type\": \"H2\",\n" +
+                "       \"authenticationStrategy\" : {\n" +
+                "           \"_type\" : \"test\"\n" +
+                "       },\n" +
+                "       \"datasourceSpecification\" : {\n" +
+                "           \"_type\" : \"static\",\n" +
+                "           \"databaseName\" : \"testDB\",\n" +
+                "           \"host\":\"127.0.0.1\",\n" +
+                "           \"port\" : \"" + port + "\"\n" +
+                "       }\n" +
+                "    },\n" +
+                "    \"_type\": \"relational\",\n" +
+                "    \"resultType\": {\n" +
+                "      \"tdsColumns\": [\n" +
+                "        {\"name\": \"id\", \"type\": \"Integer\", \"relationalType\": \"INT\"},\n" +
+                "        {\"name\": \"name\", \"type\": \"String\", \"relationalType\": \"VARCHAR(200)\"},\n" +
+                "        {\"name\": \"active\", \"type\": \"Boolean\", \"relationalType\": \"INT\"},\n" +
+                "        {\"name\": \"amount\", \"type\": \"Float\", \"relationalType\": \"DOUBLE\"},\n" +
+                "        {\"name\": \"price\", \"type\": \"Decimal\", \"relationalType\": \"DECIMAL(10,2)\"},\n" +
+                "        {\"name\": \"dob\", \"type\": \"StrictDate\", \"relationalType\": \"DATE\"},\n" +
+                "        {\"name\": \"updated\", \"type\": \"DateTime\", \"relationalType\": \"TIMESTAMP\"},\n" +
+                "        {\"name\": \"type\", \"type\": \"EmployeeType\", \"relationalType\": \"VARCHAR(200)\", \"enumMapping\": {\"CONTRACT\": [\"FTC\", \"FTO\"], \"FULL_TIME\": [\"FTE\"]}}\n" +
+                "      ],\n" +
+                "      \"_type\": \"tds\"\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+        SingleExecutionPlan executionPlan = objectMapper.readValue(plan, SingleExecutionPlan.class);
+        return (RelationalResult) executionPlan.rootExecutionNode.accept(new ExecutionNodeExecutor(null, new ExecutionState(Maps.mutable.empty(), Lists.mutable.withAll(executionPlan.templateFunctions), Lists.mutable.with(new RelationalStoreExecutionState(new RelationalStoreState(port))))));
+    }
+
+    private static Columns read(byte[] bytes) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte[] magic = new byte[RelationalResultToColumnarSerializer.MAGIC.length];
+        in.readFully(magic);
+        Assert.assertEquals("LGNDCOL", new String(magic, StandardCharsets.US_ASCII));
+        Assert.assertEquals(RelationalResultToColumnarSerializer.VERSION, in.readByte());
+
+        Columns columns = new Columns();
+        int columnCount = in.readInt();
+        for (int i = 0; i < columnCount; i++)
+        {
+            columns.names.add(in.readUTF());
+            columns.types.add(in.readByte());
+        }
+
+        int rowCount;
+        while ((rowCount = in.readInt()) != 0)
+        {
+            List<List<Object>> batch = new ArrayList<>();
+            for (int row = 0; row < rowCount; row++)
+            {
+                batch.add(new ArrayList<>());
+            }
+            for (int column = 0; column < columnCount; column++)
+            {
+                byte[] validity = readBitmap(in, rowCount);
+                List<Object> values = readValues(in, columns.types.get(column), rowCount);
+                for (int row = 0; row < rowCount; row++)
+                {
+                    batch.get(row).add(isSet(validity, row) ? values.get(row) : null);
+                }
+            }
+            columns.rows.addAll(batch);
+            columns.batches++;
+        }
+        Assert.assertEquals(-1, in.read());
+        return columns;
+    }
+
+    private static List<Object> readValues(DataInputStream in, byte type, int rowCount) throws IOException
+    {
+        List<Object> values = new ArrayList<>(rowCount);
+        switch (type)
+        {
+            case RelationalResultToColumnarSerializer.TYPE_INTEGER:
+            {
+                for (int i = 0; i < rowCount; i++)
+                {
+                    values.add(in.readLong());
+                }
+                break;
+            }
+            case RelationalResultToColumnarSerializer.TYPE_DATE:
+            {
+                for (int i = 0; i < rowCount; i++)
+                {
+                    values.add(LocalDate.ofEpochDay(in.readLong()));
+                }
+                break;
+            }
+            case RelationalResultToColumnarSerializer.TYPE_TIMESTAMP:
+            {
+                for (int i = 0; i < rowCount; i++)
+                {
+                    long micros = in.readLong();
+                    values.add(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000L));
+                }
+                break;
+            }
+            case RelationalResultToColumnarSerializer.TYPE_FLOAT:
+            {
+                for (int i = 0; i < rowCount; i++)
+                {
+                    values.add(in.readDouble());
+                }
+                break;
+            }
+            case RelationalResultToColumnarSerializer.TYPE_BOOLEAN:
+            {
+                byte[] bitmap = readBitmap(in, rowCount);
+                for (int i = 0; i < rowCount; i++)
+                {
+                    values.add(isSet(bitmap, i));
+                }
+                break;
+            }
+            case RelationalResultToColumnarSerializer.TYPE_STRING:
+            case RelationalResultToColumnarSerializer.TYPE_DECIMAL:
+            {
+                int[] offsets = new int[rowCount + 1];
+                for (int i = 0; i <= rowCount; i++)
+                {
+                    offsets[i] = in.readInt();
+                }
+                byte[] data = new byte[offsets[rowCount]];
+                in.readFully(data);
+                for (int i = 0; i < rowCount; i++)
+                {
+                    values.add(new String(data, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8));
+                }
+                break;
+            }
+            default:
+            {
+                throw new IllegalStateException("Unknown column type: " + type);
+            }
+        }
+        return values;
+    }
+
+    private static byte[] readBitmap(DataInputStream in, int rowCount) throws IOException
+    {
+        byte[] bitmap = new byte[(rowCount + 7) >>> 3];
+        in.readFully(bitmap);
+        return bitmap;
+    }
+
+    private static boolean isSet(byte[] bitmap, int index)
+    {
+        return (bitmap[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    private static class Columns
+    {
+        private final List<String> names = new ArrayList<>();
+        private final List<Byte> types = new ArrayList<>();
+        private final List<List<Object>> rows = new ArrayList<>();
+        private int batches;
+    }
+}
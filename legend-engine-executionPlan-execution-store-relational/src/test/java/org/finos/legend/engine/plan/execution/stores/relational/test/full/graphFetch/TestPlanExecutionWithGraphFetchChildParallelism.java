@@ -0,0 +1,211 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.test.full.graphFetch;
+
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.CompileContext;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperValueSpecificationBuilder;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.json.JsonStreamToPureFormatSerializer;
+import org.finos.legend.engine.plan.execution.result.json.JsonStreamingResult;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.plan.generation.PlanGenerator;
+import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
+import org.finos.legend.engine.plan.platform.PlanPlatform;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Function;
+import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.ValueSpecification;
+import org.finos.legend.pure.generated.core_relational_relational_router_router_extension;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class TestPlanExecutionWithGraphFetchChildParallelism
+{
+    private static final String MODEL = "###Pure\n" +
+            "Class test::Person\n" +
+            "{\n" +
+            "  fullName: String[1];\n" +
+            "  firm: test::Firm[0..1];\n" +
+            "  address: test::Address[0..1];\n" +
+            "}\n" +
+            "\n" +
+            "Class test::Firm\n" +
+            "{\n" +
+            "  name: String[1];\n" +
+            "  address: test::Address[0..1];\n" +
+            "}\n" +
+            "\n" +
+            "Class test::Address\n" +
+            "{\n" +
+            "  name: String[1];\n" +
+            "}\n" +
+            "\n" +
+            "###Relational\n" +
+            "Database test::DB\n" +
+            "(\n" +
+            "  Table personTable (fullName VARCHAR(100) PRIMARY KEY, firmName VARCHAR(100), addressName VARCHAR(100))\n" +
+            "  Table firmTable (name VARCHAR(100) PRIMARY KEY, addressName VARCHAR(100))\n" +
+            "  Table addressTable (name VARCHAR(100) PRIMARY KEY)\n" +
+            "\n" +
+            "  Join Person_Firm(personTable.firmName = firmTable.name)\n" +
+            "  Join Person_Address(personTable.addressName = addressTable.name)\n" +
+            "  Join Firm_Address(firmTable.addressName = addressTable.name)\n" +
+            ")\n" +
+            "\n" +
+            "###Mapping\n" +
+            "Mapping test::Map\n" +
+            "(\n" +
+            "  test::Person : Relational {\n" +
+            "    fullName: [test::DB]personTable.fullName,\n" +
+            "    firm: [test::DB]@Person_Firm,\n" +
+            "    address: [test::DB]@Person_Address\n" +
+            "  }\n" +
+            "\n" +
+            "  test::Firm : Relational {\n" +
+            "    name: [test::DB]firmTable.name,\n" +
+            "    address: [test::DB]@Firm_Address\n" +
+            "  }\n" +
+            "\n" +
+            "  test::Address : Relational {\n" +
+            "    name: [test::DB]addressTable.name\n" +
+            "  }\n" +
+            ")\n" +
+            "\n" +
+            "###Runtime\n" +
+            "Runtime test::Runtime\n" +
+            "{\n" +
+            "  mappings:\n" +
+            "  [\n" +
+            "    test::Map\n" +
+            "  ];\n" +
+            "  connections:\n" +
+            "  [\n" +
+            "    test::DB:\n" +
+            "    [\n" +
+            "      c1: #{\n" +
+            "        RelationalDatabaseConnection\n" +
+            "        {\n" +
+            "          type: H2;\n" +
+            "          specification: LocalH2\n" +
+            "          {\n" +
+            "            testDataSetupSqls: [\n" +
+            "              'Create Table personTable(fullName VARCHAR(100) NOT NULL, firmName VARCHAR(100) NULL, addressName VARCHAR(100) NULL, PRIMARY KEY(fullName));',\n" +
+            "              'Create Table firmTable(name VARCHAR(100) NOT NULL, addressName VARCHAR(100) NULL, PRIMARY KEY(name));',\n" +
+            "              'Create Table addressTable(name VARCHAR(100) NOT NULL, PRIMARY KEY(name));',\n" +
+            "              'insert into personTable (fullName, firmName, addressName) values (\\'P1\\', \\'F1\\', \\'A1\\'), (\\'P2\\', \\'F2\\', \\'A2\\'), (\\'P3\\', null, null), (\\'P4\\', null, \\'A3\\'), (\\'P5\\', \\'F1\\', \\'A1\\');',\n" +
+            "              'insert into firmTable (name, addressName) values (\\'F1\\', \\'A4\\'), (\\'F2\\', \\'A3\\'), (\\'F3\\', \\'A3\\');',\n" +
+            "              'insert into addressTable (name) values (\\'A1\\'), (\\'A2\\'), (\\'A3\\'), (\\'A4\\');'\n" +
+            "            ];\n" +
+            "          };\n" +
+            "          auth: DefaultH2;\n" +
+            "        }\n" +
+            "      }#\n" +
+            "    ]\n" +
+            "  ];\n" +
+            "}\n\n";
+
+    private static final String FETCH_FUNCTION = "###Pure\n" +
+            "function test::fetch(): String[1]\n" +
+            "{\n" +
+            "  test::Person.all()\n" +
+            "    ->graphFetch(#{\n" +
+            "      test::Person {\n" +
+            "        fullName,\n" +
+            "        firm {\n" +
+            "          name,\n" +
+            "          address {\n" +
+            "            name\n" +
+            "          }\n" +
+            "        },\n" +
+            "        address {\n" +
+            "          name\n" +
+            "        }\n" +
+            "      }\n" +
+            "    }#, 2)\n" +
+            "    ->serialize(#{\n" +
+            "      test::Person {\n" +
+            "        fullName,\n" +
+            "        firm {\n" +
+            "          name,\n" +
+            "          address {\n" +
+            "            name\n" +
+            "          }\n" +
+            "        },\n" +
+            "        address {\n" +
+            "          name\n" +
+            "        }\n" +
+            "      }\n" +
+            "    }#)\n" +
+            "}";
+
+    @Test
+    public void testParallelChildrenGiveTheSequentialResult()
+    {
+        SingleExecutionPlan plan = buildPlan();
+
+        String expected = "[" +
+                "{\"fullName\":\"P1\",\"firm\":{\"name\":\"F1\",\"address\":{\"name\":\"A4\"}},\"address\":{\"name\":\"A1\"}}," +
+                "{\"fullName\":\"P2\",\"firm\":{\"name\":\"F2\",\"address\":{\"name\":\"A3\"}},\"address\":{\"name\":\"A2\"}}," +
+                "{\"fullName\":\"P3\",\"firm\":null,\"address\":null}," +
+                "{\"fullName\":\"P4\",\"firm\":null,\"address\":{\"name\":\"A3\"}}," +
+                "{\"fullName\":\"P5\",\"firm\":{\"name\":\"F1\",\"address\":{\"name\":\"A4\"}},\"address\":{\"name\":\"A1\"}}" +
+                "]";
+
+        String sequential = executePlan(plan, 1);
+        Assert.assertEquals(expected, sequential);
+        for (int i = 0; i < 5; i++)
+        {
+            Assert.assertEquals(sequential, executePlan(plan, 4));
+        }
+    }
+
+    private String executePlan(SingleExecutionPlan plan, int graphFetchChildParallelism)
+    {
+        RelationalExecutionConfiguration relationalExecutionConfiguration = new RelationalExecutionConfiguration("/tmp/");
+        relationalExecutionConfiguration.graphFetchChildParallelism = graphFetchChildParallelism;
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutor(Relational.build(new TemporaryTestDbConfiguration(-1), relationalExecutionConfiguration));
+        JsonStreamingResult result = (JsonStreamingResult) planExecutor.execute(plan, Collections.emptyMap(), null);
+        return result.flush(new JsonStreamToPureFormatSerializer(result));
+    }
+
+    private SingleExecutionPlan buildPlan()
+    {
+        PureModelContextData contextData = PureGrammarParser.newInstance().parseModel(MODEL + FETCH_FUNCTION);
+        PureModel pureModel = Compiler.compile(contextData, null, null);
+
+        List<ValueSpecification> fetchFunctionExpressions = contextData.getElementsOfType(Function.class).get(0).body;
+
+        return PlanGenerator.generateExecutionPlan(
+                HelperValueSpecificationBuilder.buildLambda(fetchFunctionExpressions, Collections.emptyList(), new CompileContext.Builder(pureModel).build()),
+                pureModel.getMapping("test::Map"),
+                pureModel.getRuntime("test::Runtime"),
+                null,
+                pureModel,
+                "vX_X_X",
+                PlanPlatform.JAVA,
+                null,
+                core_relational_relational_router_router_extension.Root_meta_pure_router_extension_defaultRelationalExtensions__RouterExtension_MANY_(pureModel.getExecutionSupport()),
+                LegendPlanTransformers.transformers
+        );
+    }
+}
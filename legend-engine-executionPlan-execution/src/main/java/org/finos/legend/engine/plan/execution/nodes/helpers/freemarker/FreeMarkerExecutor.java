@@ -14,16 +14,11 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
-import freemarker.core.TemplateDateFormatFactory;
-import freemarker.template.Configuration;
 import freemarker.template.Template;
-import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
-import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
 
-import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
@@ -63,25 +58,37 @@ public class FreeMarkerExecutor
 
     public static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        String result = process(input, variableMap, templateFunctions);
+        return processRecursively(input, variableMap, templateFunctions, true);
+    }
+
+    private static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions, boolean planTemplate)
+    {
+        String result = process(input, variableMap, templateFunctions, planTemplate);
+        if (!containsFreeMarker(result))
+        {
+            // Processing again would give the same result
+            return result;
+        }
         if (!result.equals(input.replace("\\\"", "\"")))
         {
-            return processRecursively(result, variableMap, templateFunctions);
+            // The result depends on the parameter values, so it is not worth caching
+            return processRecursively(result, variableMap, templateFunctions, false);
         }
         return result;
     }
 
-    private static String process(String input, Map<String, ?> variableMap, String templateFunctions)
+    private static boolean containsFreeMarker(String text)
+    {
+        return text.contains("${") || text.contains("#{") || text.contains("<#") || text.contains("</#") || text.contains("<@") || text.contains("</@") || text.contains("\\\"");
+    }
+
+    private static String process(String input, Map<String, ?> variableMap, String templateFunctions, boolean planTemplate)
     {
         String result;
         try
         {
-            Configuration cfg = new Configuration();
-            cfg.setNumberFormat("computer");
-            Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), cfg);
-            Map<String, TemplateDateFormatFactory> customDateFormats = Maps.mutable.with("alloyDate", PlanDateParameterDateFormatFactory.INSTANCE);
-            template.setCustomDateFormats(customDateFormats);
-            template.setDateFormat("@alloyDate");
+            String templateText = input.replace("\\\"", "\"");
+            Template template = planTemplate ? FreeMarkerTemplateCache.getPlanTemplate(templateFunctions, templateText) : FreeMarkerTemplateCache.parsePlanTemplate(templateFunctions, templateText);
             StringWriter stringWriter = new StringWriter();
             template.process(variableMap, stringWriter);
             result = stringWriter.toString();
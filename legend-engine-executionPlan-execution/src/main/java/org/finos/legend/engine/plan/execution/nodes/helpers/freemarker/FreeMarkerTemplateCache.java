@@ -0,0 +1,185 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import freemarker.core.TemplateDateFormatFactory;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Process wide cache of parsed FreeMarker templates, keyed by the template functions of the plan and the unprocessed
+ * template text of the plan. Text produced by processing a template is parameter specific, so it is parsed with
+ * {@link #parsePlanTemplate} rather than cached. All templates share one {@link Configuration}; templates are fully set
+ * up before being cached, so they can be processed concurrently.
+ */
+public class FreeMarkerTemplateCache
+{
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000L;
+
+    private static final String HIT_METRIC = "FreeMarker template cache hit";
+    private static final String MISS_METRIC = "FreeMarker template cache miss";
+
+    private static final Configuration CONFIGURATION = newConfiguration();
+
+    private static volatile Cache<Key, Template> CACHE = newCache(DEFAULT_MAXIMUM_SIZE);
+
+    private FreeMarkerTemplateCache()
+    {
+    }
+
+    /**
+     * Replaces the cache with an empty one of the given size. A size of zero disables caching.
+     */
+    public static void configure(long maximumSize)
+    {
+        if (maximumSize < 0)
+        {
+            throw new IllegalArgumentException("FreeMarker template cache size must not be negative: " + maximumSize);
+        }
+        CACHE = newCache(maximumSize);
+    }
+
+    public static long size()
+    {
+        return CACHE.size();
+    }
+
+    public static void invalidateAll()
+    {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Template used to process plan level FreeMarker (dates are formatted with the plan date format). The input must be
+     * template text of the plan, not the output of processing it.
+     */
+    static Template getPlanTemplate(String templateFunctions, String input) throws IOException
+    {
+        return getTemplate(new Key(true, templateFunctions, input));
+    }
+
+    /**
+     * Template used to process SQL queries, with the template functions on their own line(s) before the query. The
+     * query must be the SQL template of the plan, not the output of processing it.
+     */
+    public static Template getSqlTemplate(String templateFunctions, String query) throws IOException
+    {
+        return getTemplate(new Key(false, templateFunctions, query));
+    }
+
+    private static Template getTemplate(Key key) throws IOException
+    {
+        Cache<Key, Template> cache = CACHE;
+        Template template = cache.getIfPresent(key);
+        if (template != null)
+        {
+            MetricsHandler.observeCount(HIT_METRIC);
+            return template;
+        }
+        try
+        {
+            // Concurrent misses on the same key wait for a single parse
+            return cache.get(key, () ->
+            {
+                MetricsHandler.observeCount(MISS_METRIC);
+                return key.planTemplate ? parsePlanTemplate(key.templateFunctions, key.input) : parseSqlTemplate(key.templateFunctions, key.input);
+            });
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    static Template parsePlanTemplate(String templateFunctions, String input) throws IOException
+    {
+        Template template = new Template("template", new StringReader(templateFunctions + input), CONFIGURATION);
+        Map<String, TemplateDateFormatFactory> customDateFormats = Maps.mutable.with("alloyDate", PlanDateParameterDateFormatFactory.INSTANCE);
+        template.setCustomDateFormats(customDateFormats);
+        template.setDateFormat("@alloyDate");
+        return template;
+    }
+
+    private static Template parseSqlTemplate(String templateFunctions, String query) throws IOException
+    {
+        return new Template("sqlTemplate", new StringReader(templateFunctions + "\n" + query), CONFIGURATION);
+    }
+
+    private static Configuration newConfiguration()
+    {
+        Configuration configuration = new Configuration();
+        configuration.setNumberFormat("computer");
+        return configuration;
+    }
+
+    private static Cache<Key, Template> newCache(long maximumSize)
+    {
+        return CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    private static final class Key
+    {
+        private final boolean planTemplate;
+        private final String templateFunctions;
+        private final String input;
+        private final int hashCode;
+
+        private Key(boolean planTemplate, String templateFunctions, String input)
+        {
+            this.planTemplate = planTemplate;
+            this.templateFunctions = templateFunctions;
+            this.input = input;
+            this.hashCode = 31 * (31 * Boolean.hashCode(planTemplate) + templateFunctions.hashCode()) + input.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+            Key that = (Key) other;
+            return (this.hashCode == that.hashCode) &&
+                    (this.planTemplate == that.planTemplate) &&
+                    this.templateFunctions.equals(that.templateFunctions) &&
+                    this.input.equals(that.input);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.CompiledClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPlatformImplementation;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Process wide cache of compiled execution plans, keyed by a hash of the Java sources (and byte code) carried by the
+ * plan together with the target {@link JavaVersion}.
+ * <p>
+ * Compiling a plan mutates it (byte code is attached to its {@link JavaClass}es and generated inner classes are added),
+ * so alongside the compiler the cache keeps the byte code of every implementation in plan order and replays it onto
+ * plans served from the cache.
+ */
+public class CompiledPlanCache
+{
+    public static final long DEFAULT_MAXIMUM_SIZE = 500L;
+
+    private static final String HIT_METRIC = "Java compilation cache hit";
+    private static final String MISS_METRIC = "Java compilation cache miss";
+    private static final String EVICTION_METRIC = "Java compilation cache eviction";
+
+    private static volatile CompiledPlanCache INSTANCE = new CompiledPlanCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Cache<String, CompiledPlan> cache;
+
+    private CompiledPlanCache(long maximumSize)
+    {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .removalListener((RemovalNotification<String, CompiledPlan> notification) ->
+                {
+                    if (notification.wasEvicted())
+                    {
+                        MetricsHandler.observeCount(EVICTION_METRIC);
+                    }
+                })
+                .build();
+    }
+
+    public static CompiledPlanCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Replaces the process wide cache with an empty one of the given size. A size of zero disables caching.
+     */
+    public static void configure(long maximumSize)
+    {
+        if (maximumSize < 0)
+        {
+            throw new IllegalArgumentException("Compiled plan cache size must not be negative: " + maximumSize);
+        }
+        INSTANCE = new CompiledPlanCache(maximumSize);
+    }
+
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    EngineJavaCompiler getIfPresent(String key, SingleExecutionPlan plan)
+    {
+        CompiledPlan compiledPlan = this.cache.getIfPresent(key);
+        if (compiledPlan == null)
+        {
+            // The miss is counted by put, as plans without Java to compile are never put
+            return null;
+        }
+        MetricsHandler.observeCount(HIT_METRIC);
+        compiledPlan.applyTo(collectImplementations(plan));
+        return compiledPlan.compiler;
+    }
+
+    void put(String key, SingleExecutionPlan plan, EngineJavaCompiler compiler)
+    {
+        MetricsHandler.observeCount(MISS_METRIC);
+        this.cache.put(key, new CompiledPlan(compiler, collectImplementations(plan)));
+    }
+
+    static String computeKey(SingleExecutionPlan plan, JavaVersion javaVersion)
+    {
+        MessageDigest digest;
+        try
+        {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+        update(digest, javaVersion.name());
+        for (JavaPlatformImplementation implementation : collectImplementations(plan))
+        {
+            update(digest, "#implementation");
+            update(digest, implementation.executionClassFullName);
+            update(digest, implementation.executionMethodName);
+            update(digest, implementation.code);
+            if (implementation.byteCode != null)
+            {
+                new TreeMap<>(implementation.byteCode).forEach((name, byteCode) ->
+                {
+                    update(digest, name);
+                    update(digest, byteCode);
+                });
+            }
+            if (implementation.compiledClasses != null)
+            {
+                for (CompiledClass compiledClass : implementation.compiledClasses)
+                {
+                    update(digest, compiledClass.className);
+                    update(digest, compiledClass.byteCode);
+                }
+            }
+            if (implementation.classes != null)
+            {
+                for (JavaClass javaClass : implementation.classes)
+                {
+                    update(digest, JavaHelper.getJavaClassFullName(javaClass));
+                    update(digest, javaClass.source);
+                    update(digest, javaClass.byteCode);
+                }
+            }
+        }
+        StringBuilder builder = new StringBuilder(64);
+        for (byte b : digest.digest())
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static void update(MessageDigest digest, String value)
+    {
+        if (value == null)
+        {
+            digest.update((byte) 0);
+        }
+        else
+        {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) 1);
+            digest.update(intToBytes(bytes.length));
+            digest.update(bytes);
+        }
+    }
+
+    private static byte[] intToBytes(int i)
+    {
+        return new byte[]{(byte) (i >>> 24), (byte) (i >>> 16), (byte) (i >>> 8), (byte) i};
+    }
+
+    private static MutableList<JavaPlatformImplementation> collectImplementations(SingleExecutionPlan plan)
+    {
+        MutableList<JavaPlatformImplementation> implementations = Lists.mutable.empty();
+        if (plan.globalImplementationSupport instanceof JavaPlatformImplementation)
+        {
+            implementations.add((JavaPlatformImplementation) plan.globalImplementationSupport);
+        }
+        collectImplementations(plan.rootExecutionNode, implementations);
+        return implementations;
+    }
+
+    private static void collectImplementations(ExecutionNode node, MutableList<JavaPlatformImplementation> implementations)
+    {
+        if (node.implementation instanceof JavaPlatformImplementation)
+        {
+            implementations.add((JavaPlatformImplementation) node.implementation);
+        }
+        node.childNodes().forEach(child -> collectImplementations(child, implementations));
+    }
+
+    private static class CompiledPlan
+    {
+        private final EngineJavaCompiler compiler;
+        // Per implementation (in plan order): class full name -> byte code
+        private final List<Map<String, String>> byteCodeByImplementation;
+
+        private CompiledPlan(EngineJavaCompiler compiler, List<JavaPlatformImplementation> implementations)
+        {
+            this.compiler = compiler;
+            this.byteCodeByImplementation = FastList.newList(implementations.size());
+            for (JavaPlatformImplementation implementation : implementations)
+            {
+                MutableMap<String, String> byteCodes = UnifiedMap.newMap();
+                if (implementation.classes != null)
+                {
+                    implementation.classes.stream().filter(c -> c.byteCode != null).forEach(c -> byteCodes.put(JavaHelper.getJavaClassFullName(c), c.byteCode));
+                }
+                this.byteCodeByImplementation.add(byteCodes);
+            }
+        }
+
+        private void applyTo(List<JavaPlatformImplementation> implementations)
+        {
+            for (int i = 0; i < implementations.size(); i++)
+            {
+                Map<String, String> byteCodes = this.byteCodeByImplementation.get(i);
+                if (byteCodes.isEmpty())
+                {
+                    continue;
+                }
+                JavaPlatformImplementation implementation = implementations.get(i);
+                MutableMap<String, JavaClass> existing = UnifiedMap.newMap();
+                if (implementation.classes == null)
+                {
+                    implementation.classes = FastList.newList();
+                }
+                implementation.classes.forEach(c -> existing.put(JavaHelper.getJavaClassFullName(c), c));
+                byteCodes.forEach((name, byteCode) ->
+                {
+                    JavaClass javaClass = existing.get(name);
+                    if (javaClass == null)
+                    {
+                        javaClass = JavaHelper.newJavaClass(name);
+                        javaClass.source = JavaHelper.GENERATED_SOURCE;
+                        implementation.classes.add(javaClass);
+                    }
+                    javaClass.byteCode = byteCode;
+                });
+            }
+        }
+    }
+}
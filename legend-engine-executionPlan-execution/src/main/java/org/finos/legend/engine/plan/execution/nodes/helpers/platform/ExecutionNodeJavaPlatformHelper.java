@@ -15,12 +15,14 @@
 package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
 
 import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
 import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
@@ -39,10 +41,10 @@ import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
 import javax.security.auth.Subject;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.PrivilegedAction;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -104,6 +106,18 @@ public class ExecutionNodeJavaPlatformHelper
         String methodName = JavaHelper.getExecutionMethodName(javaPlatformImpl);
 
         Class<?> executionClass = getClassToExecute(node, className, executionState, pm);
+        Object childResult = context.getChildResult();
+        List<Class<?>> shape = Lists.mutable.with(context.getClass(), (childResult == null) ? Void.class : childResult.getClass(), executionState.getClass());
+        JavaExecuteEntryPoint entryPoint = JavaMethodCache.get(executionClass, methodName, shape, c -> resolveJavaExecuteEntryPoint(c, methodName, context, executionState));
+        if (entryPoint == null)
+        {
+            throw new RuntimeException("Could not find appropriate execution method named '" + methodName + "' on class " + className);
+        }
+        return toResult(entryPoint.invoke(context, executionState));
+    }
+
+    private static JavaExecuteEntryPoint resolveJavaExecuteEntryPoint(Class<?> executionClass, String methodName, ExecutionNodeContext context, ExecutionState executionState)
+    {
         for (Method method : executionClass.getDeclaredMethods())
         {
             if (methodName.equals(method.getName()))
@@ -111,27 +125,27 @@ public class ExecutionNodeJavaPlatformHelper
                 Class<?>[] parameterTypes = method.getParameterTypes();
                 if (parameterTypes.length == 0)
                 {
-                    return toResult(executeStaticJavaMethod(method));
+                    return new JavaExecuteEntryPoint(method, JavaExecuteArguments.NONE);
                 }
                 if (parameterTypes.length == 1 && parameterTypes[0].isInstance(context))
                 {
-                    return toResult(executeStaticJavaMethod(method, context));
+                    return new JavaExecuteEntryPoint(method, JavaExecuteArguments.CONTEXT);
                 }
                 if (parameterTypes.length == 1 && parameterTypes[0].isInstance(context.getChildResult()))
                 {
-                    return toResult(executeStaticJavaMethod(method, context.getChildResult()));
+                    return new JavaExecuteEntryPoint(method, JavaExecuteArguments.CHILD_RESULT);
                 }
                 if (parameterTypes.length == 2 && parameterTypes[0].isInstance(context.getChildResult()) && parameterTypes[1].isInstance(context))
                 {
-                    return toResult(executeStaticJavaMethod(method, context.getChildResult(), context));
+                    return new JavaExecuteEntryPoint(method, JavaExecuteArguments.CHILD_RESULT_AND_CONTEXT);
                 }
                 if (parameterTypes.length == 2 && parameterTypes[0].isInstance(context.getChildResult()) && parameterTypes[1].isInstance(executionState))
                 {
-                    return toResult(executeStaticJavaMethod(method, context.getChildResult(), executionState));
+                    return new JavaExecuteEntryPoint(method, JavaExecuteArguments.CHILD_RESULT_AND_EXECUTION_STATE);
                 }
             }
         }
-        throw new RuntimeException("Could not find appropriate execution method named '" + methodName + "' on class " + className);
+        return null;
     }
 
     private static Result toResult(Object result)
@@ -139,31 +153,6 @@ public class ExecutionNodeJavaPlatformHelper
         return (result instanceof Result) ? (Result) result : new ConstantResult(result);
     }
 
-    private static Object executeStaticJavaMethod(Method toExecuteMethod, Object... parameters)
-    {
-        try
-        {
-            return toExecuteMethod.invoke(null, parameters);
-        }
-        catch (IllegalAccessException e)
-        {
-            throw new RuntimeException(e);
-        }
-        catch (InvocationTargetException e)
-        {
-            Throwable cause = e.getCause();
-            if (cause instanceof RuntimeException)
-            {
-                throw (RuntimeException) cause;
-            }
-            if (cause instanceof Error)
-            {
-                throw (Error) cause;
-            }
-            throw new RuntimeException(cause);
-        }
-    }
-
     public static <T> T executeStaticJavaMethod(ExecutionNode node, String className, String methodName, List<? extends Class<?>> parameterTypes, List<?> parameters, ExecutionState executionState, MutableList<CommonProfile> pm)
     {
         return executeStaticJavaMethod(node, className, methodName, Collections.singletonList(Tuples.pair(parameterTypes, parameters)), executionState, pm);
@@ -173,38 +162,18 @@ public class ExecutionNodeJavaPlatformHelper
     {
         Class<?> toExecuteClass = getClassToExecute(node, className, executionState, pm);
 
-        List<NoSuchMethodException> noSuchMethodExceptions = new ArrayList<>();
         for (Pair<? extends List<? extends Class<?>>, ? extends List<?>> pair : parameterTypesAndParametersAlternatives)
         {
-            try
+            MethodHandle invoker = JavaMethodCache.get(toExecuteClass, methodName, pair.getOne(), c -> resolveStaticJavaMethod(c, methodName, pair.getOne()));
+            if (invoker != null)
             {
-                Method method = toExecuteClass.getMethod(methodName, pair.getOne().toArray(new Class[0]));
-                return (T) method.invoke(null, pair.getTwo().toArray());
-            }
-            catch (NoSuchMethodException e)
-            {
-                noSuchMethodExceptions.add(e);
-            }
-            catch (IllegalAccessException e)
-            {
-                throw new RuntimeException(e);
-            }
-            catch (InvocationTargetException e)
-            {
-                Throwable cause = e.getCause();
-                if (cause instanceof RuntimeException)
-                {
-                    throw (RuntimeException) cause;
-                }
-                if (cause instanceof Error)
-                {
-                    throw (Error) cause;
-                }
-                throw new RuntimeException(cause);
+                return (T) JavaMethodCache.invoke(invoker, pair.getTwo().toArray());
             }
         }
-        if (!noSuchMethodExceptions.isEmpty())
+        if (!parameterTypesAndParametersAlternatives.isEmpty())
         {
+            // Missing methods are cached, so the exceptions are rebuilt rather than collected from the lookups
+            List<NoSuchMethodException> noSuchMethodExceptions = ListIterate.collect(parameterTypesAndParametersAlternatives, pair -> new NoSuchMethodException(toExecuteClass.getName() + "." + methodName + ListIterate.collect(pair.getOne(), Class::getName).makeString("(", ",", ")")));
             NoSuchMethodException lastException = noSuchMethodExceptions.get(noSuchMethodExceptions.size() - 1);
             noSuchMethodExceptions.subList(0, noSuchMethodExceptions.size() - 1).forEach(lastException::addSuppressed);
             throw new RuntimeException(lastException);
@@ -212,6 +181,18 @@ public class ExecutionNodeJavaPlatformHelper
         return null;
     }
 
+    private static MethodHandle resolveStaticJavaMethod(Class<?> toExecuteClass, String methodName, List<? extends Class<?>> parameterTypes)
+    {
+        try
+        {
+            return JavaMethodCache.toInvoker(toExecuteClass.getMethod(methodName, parameterTypes.toArray(new Class[0])));
+        }
+        catch (NoSuchMethodException e)
+        {
+            return null;
+        }
+    }
+
     private static List<JavaClass> getLocalImplementationSupportClasses(ExecutionNode node)
     {
         JavaPlatformImplementation j = (JavaPlatformImplementation) node.implementation;
@@ -320,6 +301,69 @@ public class ExecutionNodeJavaPlatformHelper
         }
     }
 
+    private enum JavaExecuteArguments
+    {
+        NONE
+        {
+            @Override
+            Object[] build(ExecutionNodeContext context, ExecutionState executionState)
+            {
+                return new Object[0];
+            }
+        },
+        CONTEXT
+        {
+            @Override
+            Object[] build(ExecutionNodeContext context, ExecutionState executionState)
+            {
+                return new Object[]{context};
+            }
+        },
+        CHILD_RESULT
+        {
+            @Override
+            Object[] build(ExecutionNodeContext context, ExecutionState executionState)
+            {
+                return new Object[]{context.getChildResult()};
+            }
+        },
+        CHILD_RESULT_AND_CONTEXT
+        {
+            @Override
+            Object[] build(ExecutionNodeContext context, ExecutionState executionState)
+            {
+                return new Object[]{context.getChildResult(), context};
+            }
+        },
+        CHILD_RESULT_AND_EXECUTION_STATE
+        {
+            @Override
+            Object[] build(ExecutionNodeContext context, ExecutionState executionState)
+            {
+                return new Object[]{context.getChildResult(), executionState};
+            }
+        };
+
+        abstract Object[] build(ExecutionNodeContext context, ExecutionState executionState);
+    }
+
+    private static class JavaExecuteEntryPoint
+    {
+        private final MethodHandle invoker;
+        private final JavaExecuteArguments arguments;
+
+        private JavaExecuteEntryPoint(Method method, JavaExecuteArguments arguments)
+        {
+            this.invoker = JavaMethodCache.toInvoker(method);
+            this.arguments = arguments;
+        }
+
+        private Object invoke(ExecutionNodeContext context, ExecutionState executionState)
+        {
+            return JavaMethodCache.invoke(this.invoker, this.arguments.build(context, executionState));
+        }
+    }
+
     public interface ExecutionNodeContextFactory
     {
         ExecutionNodeContext create(ExecutionState state, Result childResult);
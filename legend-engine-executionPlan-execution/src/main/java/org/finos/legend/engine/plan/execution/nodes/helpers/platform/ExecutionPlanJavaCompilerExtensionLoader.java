@@ -18,6 +18,7 @@ import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.slf4j.Logger;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
 
@@ -25,6 +26,8 @@ public class ExecutionPlanJavaCompilerExtensionLoader
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
 
+    private static volatile List<ExecutionPlanJavaCompilerExtension> EXTENSIONS;
+
     public static void logExtensionList()
     {
         if (LOGGER.isDebugEnabled())
@@ -34,6 +37,25 @@ public class ExecutionPlanJavaCompilerExtensionLoader
     }
 
     public static List<ExecutionPlanJavaCompilerExtension> extensions()
+    {
+        List<ExecutionPlanJavaCompilerExtension> extensions = EXTENSIONS;
+        if (extensions == null)
+        {
+            synchronized (ExecutionPlanJavaCompilerExtensionLoader.class)
+            {
+                extensions = EXTENSIONS;
+                if (extensions == null)
+                {
+                    // Extensions come from the classpath, which does not change once loaded
+                    extensions = Collections.unmodifiableList(loadExtensions());
+                    EXTENSIONS = extensions;
+                }
+            }
+        }
+        return extensions;
+    }
+
+    private static List<ExecutionPlanJavaCompilerExtension> loadExtensions()
     {
         List<ExecutionPlanJavaCompilerExtension> extensions = Lists.mutable.empty();
         for (ExecutionPlanJavaCompilerExtension extension : ServiceLoader.load(ExecutionPlanJavaCompilerExtension.class))
@@ -51,6 +51,8 @@ public class JavaHelper
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
     private static final String DEFAULT_EXECUTION_METHOD_NAME = "execute";
+    private static final JavaVersion PLAN_JAVA_VERSION = JavaVersion.JAVA_8;
+    static final String GENERATED_SOURCE = "<<GENERATED>>";
 
     private JavaHelper()
     {
@@ -63,15 +65,24 @@ public class JavaHelper
             long start = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.JAVA_COMPILATION_START, "Compile Plan").toString());
 
-            EngineJavaCompiler compiler;
-            try
+            CompiledPlanCache cache = CompiledPlanCache.getInstance();
+            String cacheKey = CompiledPlanCache.computeKey(singleExecutionPlan, PLAN_JAVA_VERSION);
+            EngineJavaCompiler compiler = cache.getIfPresent(cacheKey, singleExecutionPlan);
+            if (compiler == null)
             {
-                compiler = compilePlanFast(singleExecutionPlan);
-            }
-            catch (Exception ignored)
-            {
-                // TODO Confirm we can delete this
-                compiler = compilePlanSlow(singleExecutionPlan);
+                try
+                {
+                    compiler = compilePlanFast(singleExecutionPlan);
+                }
+                catch (Exception ignored)
+                {
+                    // TODO Confirm we can delete this
+                    compiler = compilePlanSlow(singleExecutionPlan);
+                }
+                if (compiler != null)
+                {
+                    cache.put(cacheKey, singleExecutionPlan, compiler);
+                }
             }
 
             LOGGER.info(new LogInfo(pm, LoggingEventType.JAVA_COMPILATION_STOP, (double)System.currentTimeMillis() - start).toString());
@@ -94,7 +105,7 @@ public class JavaHelper
     {
         List<ClassPathFilter> filters = Lists.mutable.of(new ExecutionPlanDependenciesFilter());
         ExecutionPlanJavaCompilerExtensionLoader.extensions().forEach(ext -> filters.add(ext.getExtraClassPathFilter()));
-        return new EngineJavaCompiler(JavaVersion.JAVA_8, new CompositeClassPathFilter(filters));
+        return new EngineJavaCompiler(PLAN_JAVA_VERSION, new CompositeClassPathFilter(filters));
     }
 
     private static EngineJavaCompiler compilePlanFast(SingleExecutionPlan singleExecutionPlan) throws JavaCompileException, IOException, CompileException
@@ -321,7 +332,7 @@ public class JavaHelper
     private static JavaClass createGeneratedJavaClass(String name)
     {
         JavaClass _class = newJavaClass(name);
-        _class.source = "<<GENERATED>>";
+        _class.source = GENERATED_SOURCE;
         return _class;
     }
 
@@ -0,0 +1,142 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Cache of resolved static entry points of generated execution classes.
+ * <p>
+ * Entries hang off the {@link Class} through a {@link ClassValue}, so they live exactly as long as the class (and its
+ * class loader) and need no explicit invalidation. Resolved methods are kept as {@link MethodHandle}s spread over an
+ * {@code Object[]}, so repeat invocations avoid both method lookup and reflective invocation.
+ */
+final class JavaMethodCache
+{
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final Object MISSING = new Object();
+
+    private static final ClassValue<ConcurrentMap<Key, Object>> CACHE = new ClassValue<ConcurrentMap<Key, Object>>()
+    {
+        @Override
+        protected ConcurrentMap<Key, Object> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private JavaMethodCache()
+    {
+    }
+
+    /**
+     * Returns the cached value for the given method name and shape, resolving it with the given resolver on first use.
+     * Resolvers may return null when there is no such method: this is cached too, so callers trying several method
+     * shapes in turn only pay for the failed lookups once.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T get(Class<?> executionClass, String methodName, List<? extends Class<?>> shape, Function<? super Class<?>, ? extends T> resolver)
+    {
+        ConcurrentMap<Key, Object> entries = CACHE.get(executionClass);
+        Key key = new Key(methodName, shape);
+        Object value = entries.get(key);
+        if (value == null)
+        {
+            T resolved = resolver.apply(executionClass);
+            value = (resolved == null) ? MISSING : resolved;
+            Object existing = entries.putIfAbsent(key, value);
+            if (existing != null)
+            {
+                value = existing;
+            }
+        }
+        return (value == MISSING) ? null : (T) value;
+    }
+
+    static MethodHandle toInvoker(Method method)
+    {
+        try
+        {
+            return LOOKUP.unreflect(method).asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static Object invoke(MethodHandle invoker, Object... parameters)
+    {
+        try
+        {
+            return (Object) invoker.invokeExact(parameters);
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable t)
+        {
+            throw new RuntimeException(t);
+        }
+    }
+
+    private static final class Key
+    {
+        private final String methodName;
+        private final ImmutableList<Class<?>> shape;
+        private final int hashCode;
+
+        private Key(String methodName, List<? extends Class<?>> shape)
+        {
+            this.methodName = methodName;
+            this.shape = Lists.immutable.withAll(shape);
+            this.hashCode = 31 * methodName.hashCode() + this.shape.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+            Key that = (Key) other;
+            return (this.hashCode == that.hashCode) && this.methodName.equals(that.methodName) && Objects.equals(this.shape, that.shape);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -64,10 +64,18 @@ public class ExecutionState
     public final List<Function3<ExecutionNode, MutableList<CommonProfile>, ExecutionState, Result>> extraSequenceNodeExecutors;
 
     public ExecutionState(ExecutionState state)
+    {
+        this(state, state.res);
+    }
+
+    /**
+     * Copies the given state, registering results in the given map instead of sharing the results of the copied state.
+     */
+    public ExecutionState(ExecutionState state, Map<String, Result> res)
     {
         this.inAllocation = state.inAllocation;
         this.inLake = state.inLake;
-        this.res = state.res;
+        this.res = res;
         this.allocationNodeName = state.allocationNodeName;
         this.templateFunctions = state.templateFunctions;
         this.authId = state.authId;
@@ -46,16 +46,34 @@ public class SetImplTransformers
         return o;
     };
 
+    public static final Function<Object, Object> IDENTITY_TRANSFORMER = (Function<Object, Object>) o -> o;
+
     public MutableList<Function<Object, Object>> transformers;
+    private final MutableList<Boolean> enumTransformers;
 
     public <T> SetImplTransformers(List<TransformerInput<T>> transformerInputs)
     {
-        transformers = ListIterate.collect(transformerInputs, this::buildTransformer);
+        enumTransformers = ListIterate.collect(transformerInputs, this::isEnum);
+        transformers = Lists.mutable.ofInitialCapacity(transformerInputs.size());
+        for (int i = 0; i < transformerInputs.size(); i++)
+        {
+            transformers.add(buildTransformer(transformerInputs.get(i), enumTransformers.get(i)));
+        }
     }
 
     public SetImplTransformers()
     {
         transformers = Lists.mutable.empty();
+        enumTransformers = Lists.mutable.empty();
+    }
+
+    /**
+     * Whether the transformer at the given (zero based) index maps store values to enumeration values, as opposed to
+     * only normalizing the value read from the store.
+     */
+    public boolean hasEnumTransformer(int index)
+    {
+        return index < enumTransformers.size() && enumTransformers.get(index);
     }
 
     private Boolean toBoolean(Object o) 
@@ -82,9 +100,14 @@ public class SetImplTransformers
         }
     }
 
-    private <T> Function<Object, Object> buildTransformer(TransformerInput<T> transformerInput)
+    private <T> Boolean isEnum(TransformerInput<T> transformerInput)
+    {
+        return transformerInput.type != null && transformerInput.test.valueOf(transformerInput.identifier);
+    }
+
+    private <T> Function<Object, Object> buildTransformer(TransformerInput<T> transformerInput, boolean isEnum)
     {
-        if (transformerInput.type != null && transformerInput.test.valueOf(transformerInput.identifier))
+        if (isEnum)
         {
             return transformerInput.transformer.valueOf(transformerInput.identifier);
         }
@@ -98,7 +121,7 @@ public class SetImplTransformers
         }
         else
         {
-            return o -> o;
+            return IDENTITY_TRANSFORMER;
         }
     }
 
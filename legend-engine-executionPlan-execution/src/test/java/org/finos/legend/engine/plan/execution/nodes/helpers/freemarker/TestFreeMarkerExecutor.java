@@ -41,6 +41,36 @@ public class TestFreeMarkerExecutor
         Assert.assertEquals("final collectionSize :1000", result1.trim());
     }
 
+    @Test
+    public void testTemplatesAreCached() throws Exception
+    {
+        String query = "select ${value} from table";
+        Assert.assertSame(FreeMarkerTemplateCache.getPlanTemplate(collectionSizeTemplate(), query), FreeMarkerTemplateCache.getPlanTemplate(collectionSizeTemplate(), query));
+        Assert.assertNotSame(FreeMarkerTemplateCache.getPlanTemplate(collectionSizeTemplate(), query), FreeMarkerTemplateCache.getSqlTemplate(collectionSizeTemplate(), query));
+
+        Map rootMap = new HashMap();
+        rootMap.put("value", 1);
+        Assert.assertEquals("select 1 from table", FreeMarkerExecutor.processRecursively(query, rootMap, collectionSizeTemplate()).trim());
+        rootMap.put("value", 2);
+        Assert.assertEquals("select 2 from table", FreeMarkerExecutor.processRecursively(query, rootMap, collectionSizeTemplate()).trim());
+    }
+
+    @Test
+    public void testProcessedTemplatesAreNotCached()
+    {
+        // The value is itself a template, so the processed query is processed again
+        String query = "select ${value} from nestedTable";
+        FreeMarkerTemplateCache.invalidateAll();
+        for (int i = 0; i < 3; i++)
+        {
+            Map rootMap = new HashMap();
+            rootMap.put("value", "${other" + i + "}");
+            rootMap.put("other" + i, i);
+            Assert.assertEquals("select " + i + " from nestedTable", FreeMarkerExecutor.processRecursively(query, rootMap, collectionSizeTemplate()).trim());
+        }
+        Assert.assertEquals(1, FreeMarkerTemplateCache.size());
+    }
+
     public static String collectionSizeTemplate()
     {
         return "<#function collectionSize collection>" +
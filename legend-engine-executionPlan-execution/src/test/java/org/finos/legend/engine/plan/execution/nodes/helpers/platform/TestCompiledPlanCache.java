@@ -0,0 +1,110 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPlatformImplementation;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaVersion;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestCompiledPlanCache
+{
+    private static final String SOURCE = "package org.finos.test;\n" +
+            "public class Support\n" +
+            "{\n" +
+            "    public static String value()\n" +
+            "    {\n" +
+            "        return \"value\";\n" +
+            "    }\n" +
+            "    public static class Inner\n" +
+            "    {\n" +
+            "    }\n" +
+            "}\n";
+
+    @Before
+    public void setUp()
+    {
+        CompiledPlanCache.configure(CompiledPlanCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @After
+    public void tearDown()
+    {
+        CompiledPlanCache.getInstance().invalidateAll();
+    }
+
+    @Test
+    public void testKeyDependsOnSources()
+    {
+        Assert.assertEquals(CompiledPlanCache.computeKey(buildPlan(SOURCE), JavaVersion.JAVA_8), CompiledPlanCache.computeKey(buildPlan(SOURCE), JavaVersion.JAVA_8));
+        Assert.assertNotEquals(CompiledPlanCache.computeKey(buildPlan(SOURCE), JavaVersion.JAVA_8), CompiledPlanCache.computeKey(buildPlan(SOURCE.replace("\"value\"", "\"other\"")), JavaVersion.JAVA_8));
+        Assert.assertNotEquals(CompiledPlanCache.computeKey(buildPlan(SOURCE), JavaVersion.JAVA_8), CompiledPlanCache.computeKey(buildPlan(SOURCE), JavaVersion.JAVA_7));
+    }
+
+    @Test
+    public void testRepeatCompilationIsServedFromCache() throws Exception
+    {
+        SingleExecutionPlan first = buildPlan(SOURCE);
+        EngineJavaCompiler firstCompiler = JavaHelper.compilePlan(first, null);
+        Assert.assertEquals(1, CompiledPlanCache.getInstance().size());
+
+        SingleExecutionPlan second = buildPlan(SOURCE);
+        EngineJavaCompiler secondCompiler = JavaHelper.compilePlan(second, null);
+        Assert.assertSame(firstCompiler, secondCompiler);
+        Assert.assertEquals(1, CompiledPlanCache.getInstance().size());
+
+        // byte code (including generated inner classes) is replayed onto the cached plan
+        JavaPlatformImplementation firstImpl = (JavaPlatformImplementation) first.globalImplementationSupport;
+        JavaPlatformImplementation secondImpl = (JavaPlatformImplementation) second.globalImplementationSupport;
+        Assert.assertEquals(firstImpl.classes.size(), secondImpl.classes.size());
+        for (int i = 0; i < firstImpl.classes.size(); i++)
+        {
+            Assert.assertEquals(JavaHelper.getJavaClassFullName(firstImpl.classes.get(i)), JavaHelper.getJavaClassFullName(secondImpl.classes.get(i)));
+            Assert.assertEquals(firstImpl.classes.get(i).byteCode, secondImpl.classes.get(i).byteCode);
+        }
+        Assert.assertEquals("value", secondCompiler.getClassLoader().loadClass("org.finos.test.Support").getMethod("value").invoke(null));
+    }
+
+    @Test
+    public void testZeroSizeDisablesCaching() throws Exception
+    {
+        CompiledPlanCache.configure(0);
+        EngineJavaCompiler firstCompiler = JavaHelper.compilePlan(buildPlan(SOURCE), null);
+        EngineJavaCompiler secondCompiler = JavaHelper.compilePlan(buildPlan(SOURCE), null);
+        Assert.assertNotSame(firstCompiler, secondCompiler);
+        Assert.assertEquals(0, CompiledPlanCache.getInstance().size());
+    }
+
+    private static SingleExecutionPlan buildPlan(String source)
+    {
+        JavaClass javaClass = JavaHelper.newJavaClass("org.finos.test.Support");
+        javaClass.source = source;
+
+        JavaPlatformImplementation implementation = new JavaPlatformImplementation();
+        implementation.classes = FastList.newListWith(javaClass);
+
+        SingleExecutionPlan plan = new SingleExecutionPlan();
+        plan.globalImplementationSupport = implementation;
+        plan.rootExecutionNode = new ConstantExecutionNode();
+        return plan;
+    }
+}
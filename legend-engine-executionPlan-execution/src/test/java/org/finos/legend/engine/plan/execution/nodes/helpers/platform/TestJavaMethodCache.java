@@ -0,0 +1,95 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestJavaMethodCache
+{
+    @Test
+    public void testResolvesOncePerNameAndShape()
+    {
+        AtomicInteger resolutions = new AtomicInteger();
+        Object first = JavaMethodCache.get(Resolved.class, "concat", Arrays.asList(String.class, String.class), c -> new Object[]{resolutions.incrementAndGet()});
+        Object second = JavaMethodCache.get(Resolved.class, "concat", Arrays.asList(String.class, String.class), c -> new Object[]{resolutions.incrementAndGet()});
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, resolutions.get());
+
+        JavaMethodCache.get(Resolved.class, "concat", Arrays.asList(String.class), c -> new Object[]{resolutions.incrementAndGet()});
+        JavaMethodCache.get(Resolved.class, "other", Arrays.asList(String.class, String.class), c -> new Object[]{resolutions.incrementAndGet()});
+        JavaMethodCache.get(Missing.class, "concat", Arrays.asList(String.class, String.class), c -> new Object[]{resolutions.incrementAndGet()});
+        Assert.assertEquals(4, resolutions.get());
+    }
+
+    @Test
+    public void testMissingMethodsAreCached()
+    {
+        AtomicInteger resolutions = new AtomicInteger();
+        for (int i = 0; i < 3; i++)
+        {
+            Object value = JavaMethodCache.get(Missing.class, "absent", Arrays.asList(Integer.class), c ->
+            {
+                resolutions.incrementAndGet();
+                return null;
+            });
+            Assert.assertNull(value);
+        }
+        Assert.assertEquals(1, resolutions.get());
+    }
+
+    @Test
+    public void testInvoker() throws Exception
+    {
+        MethodHandle invoker = JavaMethodCache.toInvoker(Resolved.class.getMethod("concat", String.class, String.class));
+        Assert.assertEquals("ab", JavaMethodCache.invoke(invoker, "a", "b"));
+    }
+
+    @Test
+    public void testInvokerRethrowsRuntimeExceptions() throws Exception
+    {
+        MethodHandle invoker = JavaMethodCache.toInvoker(Resolved.class.getMethod("fail", String.class));
+        try
+        {
+            JavaMethodCache.invoke(invoker, "boom");
+            Assert.fail("Expected exception");
+        }
+        catch (IllegalStateException e)
+        {
+            Assert.assertEquals("boom", e.getMessage());
+        }
+    }
+
+    public static class Resolved
+    {
+        public static String concat(String left, String right)
+        {
+            return left + right;
+        }
+
+        public static String fail(String message)
+        {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    public static class Missing
+    {
+    }
+}
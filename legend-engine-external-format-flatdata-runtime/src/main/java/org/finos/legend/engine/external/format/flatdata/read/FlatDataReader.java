@@ -16,11 +16,13 @@ package org.finos.legend.engine.external.format.flatdata.read;
 
 import org.finos.legend.engine.external.format.flatdata.FlatDataContext;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.InputStreamConnection;
+import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.MappedFileConnection;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.spi.Connection;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.spi.FlatDataReadDriver;
 import org.finos.legend.engine.external.shared.runtime.read.ExternalFormatReader;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -43,18 +45,22 @@ public class FlatDataReader<T> extends ExternalFormatReader<T>
     {
         try
         {
-            Connection connection = new InputStreamConnection(inputStream);
-            connection.open();
-
-            List<FlatDataReadDriver<T>> drivers = context.getReadDrivers(connection);
-            for (FlatDataReadDriver<T> driver: drivers)
+            if (inputStream instanceof FileInputStream)
             {
-                driver.start();
-                while (!driver.isFinished())
+                Connection connection = new MappedFileConnection(((FileInputStream) inputStream).getChannel());
+                try
                 {
-                    driver.readCheckedObjects().forEach(consumer);
+                    readData(connection, consumer);
+                }
+                finally
+                {
+                    // Releases the mapping, the stream is left open for the caller
+                    connection.close();
                 }
-                driver.stop();
+            }
+            else
+            {
+                readData(new InputStreamConnection(inputStream), consumer);
             }
         }
         catch (IOException e)
@@ -62,4 +68,26 @@ public class FlatDataReader<T> extends ExternalFormatReader<T>
             throw new RuntimeException(e);
         }
     }
+
+    private void readData(Connection connection, Consumer<IChecked<T>> consumer) throws IOException
+    {
+        connection.open();
+        List<FlatDataReadDriver<T>> drivers = context.getReadDrivers(connection);
+        for (FlatDataReadDriver<T> driver: drivers)
+        {
+            driver.start();
+            try
+            {
+                while (!driver.isFinished())
+                {
+                    driver.readCheckedObjects().forEach(consumer);
+                }
+            }
+            finally
+            {
+                // Releases the parsing pool of the driver, even when reading fails
+                driver.stop();
+            }
+        }
+    }
 }
@@ -1,6 +1,6 @@
 package org.finos.legend.engine.external.format.flatdata.shared.driver.bloomberg;
 
-import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.InputStreamConnection;
+import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.CharCursorConnection;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.core.StreamingDriverDescription;
 import org.finos.legend.engine.external.format.flatdata.shared.model.FlatData;
 import org.finos.legend.engine.external.format.flatdata.shared.model.FlatDataSection;
@@ -25,7 +25,7 @@ public class BloombergFileDriverDescription extends StreamingDriverDescription i
     @Override
     public FlatDataReadDriver newReadDriver(FlatDataSection section, FlatDataProcessingContext context)
     {
-        if (!(context.getConnection() instanceof InputStreamConnection))
+        if (!(context.getConnection() instanceof CharCursorConnection))
         {
             throw new RuntimeException("Invalid connection type for this driver");
         }
@@ -15,6 +15,8 @@ public abstract class DelimitedDriverDescription extends StreamingDriverDescript
                 .optionalStringProperty(DelimitedReadDriver.QUOTE_CHAR)
                 .optionalStringProperty(DelimitedReadDriver.ESCAPING_CHAR)
                 .optionalRepeatableStringProperty(DelimitedReadDriver.NULL_STRING)
+                .optionalIntegerProperty(DelimitedReadDriver.READ_PARALLELISM)
+                .booleanProperty(DelimitedReadDriver.UNORDERED_READ)
                 .build();
     }
 
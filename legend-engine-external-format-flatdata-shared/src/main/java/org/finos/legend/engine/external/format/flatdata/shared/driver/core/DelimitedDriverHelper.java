@@ -21,6 +21,8 @@ public class DelimitedDriverHelper extends StreamingDriverHelper
     final String quoteChar;
     final String escapeChar;
     final List<String> nullStrings;
+    final int readParallelism;
+    final boolean unorderedRead;
 
     DelimitedDriverHelper(FlatDataSection section, FlatDataProcessingContext<?> context)
     {
@@ -31,5 +33,11 @@ public class DelimitedDriverHelper extends StreamingDriverHelper
         this.quoteChar = FlatDataUtils.getString(properties, QUOTE_CHAR).orElse(null);
         this.escapeChar = FlatDataUtils.getString(properties, ESCAPING_CHAR).orElse(null);
         this.nullStrings = FlatDataUtils.getStrings(properties, NULL_STRING);
+        // Only sections reading to the end of the data are parsed in parallel: they don't need to find where they end.
+        // More parsing threads than processors would not parse any faster.
+        this.readParallelism = FlatDataUtils.getBoolean(properties, SCOPE, UNTIL_EOF)
+                               ? (int) Math.max(1, Math.min(FlatDataUtils.getInteger(properties, DelimitedReadDriver.READ_PARALLELISM).orElse(1L), Runtime.getRuntime().availableProcessors()))
+                               : 1;
+        this.unorderedRead = FlatDataUtils.getBoolean(properties, DelimitedReadDriver.UNORDERED_READ);
     }
 }
@@ -13,9 +13,20 @@ import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.EnforcementLevel;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.LongSupplier;
 
 public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
@@ -24,6 +35,10 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     static final String QUOTE_CHAR = "quoteChar";
     static final String ESCAPING_CHAR = "escapingChar";
     static final String NULL_STRING = "nullString";
+    static final String READ_PARALLELISM = "readParallelism";
+    static final String UNORDERED_READ = "unorderedRead";
+
+    private static final int PARALLEL_READ_CHUNK_SIZE = 1024;
 
     private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
 
@@ -32,12 +47,45 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     protected ParsedFlatDataToObject<? extends T> objecFactory;
     protected List<FieldHandler> fieldHandlers;
 
+    private ForkJoinPool parsingPool;
+    private CompletionService<List<IChecked<T>>> completedChunks;
+    // Chunks submitted and not yet returned, in the order of the data
+    private final Deque<Future<List<IChecked<T>>>> chunksInProgress = new ArrayDeque<>();
+
     DelimitedReadDriver(FlatDataSection section, FlatDataProcessingContext context)
     {
         super(new DelimitedDriverHelper(section, context));
         helper = (DelimitedDriverHelper) super.helper;
     }
 
+    @Override
+    public void start()
+    {
+        super.start();
+        if (helper.readParallelism > 1)
+        {
+            parsingPool = new ForkJoinPool(helper.readParallelism);
+            completedChunks = new ExecutorCompletionService<>(parsingPool);
+        }
+    }
+
+    @Override
+    public void stop()
+    {
+        if (parsingPool != null)
+        {
+            cancelChunks();
+            parsingPool.shutdownNow();
+        }
+        super.stop();
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return super.isFinished() && chunksInProgress.isEmpty();
+    }
+
     @Override
     protected LineReader createLineReader(CharCursor cursor, LongSupplier lineNumberSupplier)
     {
@@ -61,6 +109,73 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
         }
     }
 
+    /**
+     * Reads the next record or, when a read parallelism is set, the next chunk of records. Chunks are cut at line
+     * boundaries by the line reader (so never inside a quoted value) and parsed on the worker pool, while the following
+     * chunks are being read. Chunks are returned in the order of the data unless the section allows an unordered read.
+     */
+    Collection<IChecked<T>> readParsedObjects()
+    {
+        if (parsingPool == null)
+        {
+            return readDelimitedLine()
+                    .flatMap(this::makeParsed)
+                    .map(Collections::singletonList)
+                    .orElseGet(Collections::emptyList);
+        }
+
+        while (chunksInProgress.size() < 2 * helper.readParallelism && !super.isFinished())
+        {
+            List<IChecked<RawFlatData>> chunk = new ArrayList<>(PARALLEL_READ_CHUNK_SIZE);
+            while (chunk.size() < PARALLEL_READ_CHUNK_SIZE && !super.isFinished())
+            {
+                readDelimitedLine().ifPresent(chunk::add);
+            }
+            Callable<List<IChecked<T>>> parse = () -> makeParsedChunk(chunk);
+            chunksInProgress.add(helper.unorderedRead ? completedChunks.submit(parse) : parsingPool.submit(parse));
+        }
+        if (chunksInProgress.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        try
+        {
+            Future<List<IChecked<T>>> next = helper.unorderedRead ? completedChunks.take() : chunksInProgress.getFirst();
+            List<IChecked<T>> parsed = next.get();
+            chunksInProgress.remove(next);
+            return parsed;
+        }
+        catch (InterruptedException e)
+        {
+            cancelChunks();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted whilst parsing records", e);
+        }
+        catch (ExecutionException e)
+        {
+            // The records after the failing chunk are not wanted anymore
+            cancelChunks();
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+        }
+    }
+
+    private void cancelChunks()
+    {
+        chunksInProgress.forEach(chunk -> chunk.cancel(true));
+        chunksInProgress.clear();
+    }
+
+    private List<IChecked<T>> makeParsedChunk(List<IChecked<RawFlatData>> chunk)
+    {
+        List<IChecked<T>> result = new ArrayList<>(chunk.size());
+        for (IChecked<RawFlatData> unparsed : chunk)
+        {
+            makeParsed(unparsed).ifPresent(result::add);
+        }
+        return result;
+    }
+
     Optional<IChecked<T>> makeParsed(IChecked<RawFlatData> unparsed)
     {
         if (unparsed.getDefects().stream().anyMatch(d -> d.getEnforcementLevel() == EnforcementLevel.Critical))
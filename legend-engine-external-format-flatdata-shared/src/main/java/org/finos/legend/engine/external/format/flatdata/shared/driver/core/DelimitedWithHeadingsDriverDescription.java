@@ -1,6 +1,6 @@
 package org.finos.legend.engine.external.format.flatdata.shared.driver.core;
 
-import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.InputStreamConnection;
+import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.CharCursorConnection;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.ObjectStreamConnection;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.spi.FlatDataWriteDriver;
 import org.finos.legend.engine.external.format.flatdata.shared.model.FlatDataSection;
@@ -32,7 +32,7 @@ public class DelimitedWithHeadingsDriverDescription extends DelimitedDriverDescr
     @Override
     public FlatDataReadDriver newReadDriver(FlatDataSection section, FlatDataProcessingContext context)
     {
-        if (!(context.getConnection() instanceof InputStreamConnection))
+        if (!(context.getConnection() instanceof CharCursorConnection))
         {
             throw new RuntimeException("Invalid connection type for this driver");
         }
@@ -129,10 +129,7 @@ public class DelimitedWithHeadingsReadDriver<T> extends DelimitedReadDriver<T>
             return Collections.singletonList(BasicChecked.newChecked(null, headingsLine.getValue(), headingDefects));
         }
 
-        return readDelimitedLine()
-                .flatMap(this::makeParsed)
-                .map(Collections::singletonList)
-                .orElseGet(Collections::emptyList);
+        return readParsedObjects();
     }
 
     @Override
@@ -12,7 +12,6 @@ import org.finos.legend.engine.external.format.flatdata.shared.driver.core.data.
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -56,10 +55,7 @@ public class DelimitedWithoutHeadingsReadDriver<T> extends DelimitedReadDriver<T
     @Override
     public Collection<IChecked<T>> readCheckedObjects()
     {
-        return readDelimitedLine()
-                .flatMap(this::makeParsed)
-                .map(Collections::singletonList)
-                .orElseGet(Collections::emptyList);
+        return readParsedObjects();
     }
 
     @Override
@@ -2,7 +2,7 @@ package org.finos.legend.engine.external.format.flatdata.shared.driver.core;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.CharCursor;
-import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.InputStreamConnection;
+import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.CharCursorConnection;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.core.fieldHandler.BooleanFieldHandler;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.core.fieldHandler.DateFieldHandler;
 import org.finos.legend.engine.external.format.flatdata.shared.driver.core.fieldHandler.DateTimeFieldHandler;
@@ -54,14 +54,14 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
     private static AtomicInteger nextRawThreadReaderId = new AtomicInteger(1);
 
     protected final StreamingDriverHelper helper;
-    private final InputStreamConnection connection;
+    private final CharCursorConnection connection;
 
     private RawLines rawLines;
 
     protected StreamingReadDriver(StreamingDriverHelper helper)
     {
         this.helper = helper;
-        this.connection = (InputStreamConnection) helper.context.getConnection();
+        this.connection = (CharCursorConnection) helper.context.getConnection();
     }
 
     protected abstract LineReader createLineReader(CharCursor cursor, LongSupplier lineNumberSupplier);
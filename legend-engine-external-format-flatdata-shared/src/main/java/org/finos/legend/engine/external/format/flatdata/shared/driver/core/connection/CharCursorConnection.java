@@ -0,0 +1,13 @@
+package org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection;
+
+import org.finos.legend.engine.external.format.flatdata.shared.driver.spi.Connection;
+
+/**
+ * A connection supplying its data as characters, read by the streaming (line based) drivers.
+ */
+public interface CharCursorConnection extends Connection
+{
+    CharCursor getCursor();
+
+    boolean isConsumedToEof();
+}
@@ -1,12 +1,11 @@
 package org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection;
 
-import org.finos.legend.engine.external.format.flatdata.shared.driver.spi.Connection;
-
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 
-public class InputStreamConnection implements Connection
+public class InputStreamConnection implements CharCursorConnection
 {
     private static final int BLOCK_SIZE = 4 * 1024;
     private static final int BUFFER_SIZE = 64 * 1024;
@@ -24,10 +23,12 @@ public class InputStreamConnection implements Connection
     @Override
     public void open() throws IOException
     {
-        buffer = new BufferedReader(BLOCK_SIZE, BUFFER_SIZE, new InputStreamReader(inputStream));
+        // Decoded as UTF-8, as MappedFileConnection does, so that data reads the same through either connection
+        buffer = new BufferedReader(BLOCK_SIZE, BUFFER_SIZE, new InputStreamReader(inputStream, StandardCharsets.UTF_8));
         cursor = buffer.openCursor();
     }
 
+    @Override
     public CharCursor getCursor()
     {
         return cursor;
@@ -39,6 +40,7 @@ public class InputStreamConnection implements Connection
         this.buffer.close();
     }
 
+    @Override
     public boolean isConsumedToEof()
     {
         return cursor.isEndOfData();
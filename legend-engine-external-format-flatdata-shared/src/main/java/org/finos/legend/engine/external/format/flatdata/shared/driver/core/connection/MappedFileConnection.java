@@ -0,0 +1,291 @@
+package org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Reads a local file by mapping it into memory rather than copying it through a {@link java.io.Reader}.
+ * <p>
+ * The file is expected to be encoded as UTF-8 (and hence ASCII). Single byte characters, which include all the
+ * delimiters, quotes and line endings, are returned straight from the mapped bytes; multi-byte sequences are only
+ * decoded when the characters are peeked or read. Malformed sequences are read as U+FFFD.
+ */
+public class MappedFileConnection implements CharCursorConnection
+{
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = (int) (SEGMENT_SIZE - 1);
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final FileChannel channel;
+
+    private MappedByteBuffer[] segments;
+    private long size;
+    private CharCursor cursor;
+
+    public MappedFileConnection(FileChannel channel)
+    {
+        this.channel = channel;
+    }
+
+    @Override
+    public void open() throws IOException
+    {
+        // The data starts at the current position of the channel, as it would for a stream already partly read.
+        // A single mapping is limited to 2GB so larger files are mapped in segments.
+        long offset = channel.position();
+        size = Math.max(0, channel.size() - offset);
+        segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++)
+        {
+            long start = i * SEGMENT_SIZE;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start, Math.min(SEGMENT_SIZE, size - start));
+        }
+        cursor = new MappedCursor(0, false);
+    }
+
+    @Override
+    public CharCursor getCursor()
+    {
+        return cursor;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        // The mappings stay valid until garbage collected, dropping them lets that happen. The channel belongs to the
+        // caller (for instance to the FileInputStream it comes from) and is left open.
+        segments = null;
+    }
+
+    @Override
+    public boolean isConsumedToEof()
+    {
+        return cursor.isEndOfData();
+    }
+
+    private int byteAt(long index)
+    {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK)) & 0xFF;
+    }
+
+    // Cursor is not multithreaded
+    private class MappedCursor implements CharCursor
+    {
+        // Byte index of the next character to be consumed, and whether its high surrogate has already been consumed
+        private long position;
+        private boolean lowSurrogate;
+
+        // Where the last peek got to, so that peeking successively further ahead does not rescan from the position
+        private int scanAhead;
+        private long scanPosition;
+        private boolean scanLowSurrogate;
+
+        // Byte length of the last sequence decoded
+        private int decodedLength;
+        private boolean destroyed;
+
+        private MappedCursor(long position, boolean lowSurrogate)
+        {
+            this.position = position;
+            this.lowSurrogate = lowSurrogate;
+            resetScan();
+        }
+
+        @Override
+        public int advance()
+        {
+            checkActive();
+            if (position >= size)
+            {
+                return END_OF_DATA;
+            }
+            int codePoint = codePointAt(position);
+            int result = toChar(codePoint, lowSurrogate);
+            step(codePoint);
+            return result;
+        }
+
+        @Override
+        public char[] advance(int howMany)
+        {
+            checkActive();
+            if (howMany < 0)
+            {
+                throw new IllegalArgumentException("Cannot advance negatively");
+            }
+
+            char[] chars = new char[howMany];
+            for (int i = 0; i < howMany; i++)
+            {
+                if (position >= size)
+                {
+                    return Arrays.copyOfRange(chars, 0, i);
+                }
+                int codePoint = codePointAt(position);
+                chars[i] = (char) toChar(codePoint, lowSurrogate);
+                step(codePoint);
+            }
+            return chars;
+        }
+
+        @Override
+        public int peek(int ahead)
+        {
+            checkActive();
+            if (ahead <= 0)
+            {
+                throw new IllegalArgumentException("Cannot peek on characters that have been advanced");
+            }
+
+            if (ahead - 1 < scanAhead)
+            {
+                resetScan();
+            }
+            while (scanAhead < ahead - 1)
+            {
+                if (scanPosition >= size)
+                {
+                    return END_OF_DATA;
+                }
+                int codePoint = codePointAt(scanPosition);
+                if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT && !scanLowSurrogate)
+                {
+                    scanLowSurrogate = true;
+                }
+                else
+                {
+                    scanPosition += decodedLength;
+                    scanLowSurrogate = false;
+                }
+                scanAhead++;
+            }
+            return scanPosition >= size ? END_OF_DATA : toChar(codePointAt(scanPosition), scanLowSurrogate);
+        }
+
+        @Override
+        public boolean isEndOfData()
+        {
+            checkActive();
+            return position >= size;
+        }
+
+        @Override
+        public CharCursor copy()
+        {
+            checkActive();
+            return new MappedCursor(position, lowSurrogate);
+        }
+
+        @Override
+        public void destroy()
+        {
+            if (destroyed)
+            {
+                throw new IllegalStateException("This cursor has already been destroyed");
+            }
+            destroyed = true;
+        }
+
+        private void checkActive()
+        {
+            if (destroyed)
+            {
+                throw new IllegalStateException("This cursor has been destroyed");
+            }
+        }
+
+        // Moves past the character at the position, whose code point has just been decoded
+        private void step(int codePoint)
+        {
+            if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT && !lowSurrogate)
+            {
+                lowSurrogate = true;
+            }
+            else
+            {
+                position += decodedLength;
+                lowSurrogate = false;
+            }
+
+            if (scanAhead > 0)
+            {
+                scanAhead--;
+            }
+            else
+            {
+                resetScan();
+            }
+        }
+
+        private void resetScan()
+        {
+            scanAhead = 0;
+            scanPosition = position;
+            scanLowSurrogate = lowSurrogate;
+        }
+
+        private int toChar(int codePoint, boolean low)
+        {
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT)
+            {
+                return codePoint;
+            }
+            return low ? Character.lowSurrogate(codePoint) : Character.highSurrogate(codePoint);
+        }
+
+        private int codePointAt(long index)
+        {
+            int b0 = byteAt(index);
+            if (b0 < 0x80)
+            {
+                decodedLength = 1;
+                return b0;
+            }
+
+            int length;
+            int codePoint;
+            int minimum;
+            if (b0 >= 0xC2 && b0 < 0xE0)
+            {
+                length = 2;
+                codePoint = b0 & 0x1F;
+                minimum = 0x80;
+            }
+            else if (b0 >= 0xE0 && b0 < 0xF0)
+            {
+                length = 3;
+                codePoint = b0 & 0x0F;
+                minimum = 0x800;
+            }
+            else if (b0 >= 0xF0 && b0 < 0xF5)
+            {
+                length = 4;
+                codePoint = b0 & 0x07;
+                minimum = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            }
+            else
+            {
+                decodedLength = 1;
+                return REPLACEMENT;
+            }
+
+            for (int i = 1; i < length; i++)
+            {
+                int b = index + i < size ? byteAt(index + i) : -1;
+                if ((b & 0xC0) != 0x80)
+                {
+                    decodedLength = i;
+                    return REPLACEMENT;
+                }
+                codePoint = (codePoint << 6) | (b & 0x3F);
+            }
+            decodedLength = length;
+            return codePoint < minimum || codePoint > Character.MAX_CODE_POINT || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+                    ? REPLACEMENT
+                    : codePoint;
+        }
+    }
+}
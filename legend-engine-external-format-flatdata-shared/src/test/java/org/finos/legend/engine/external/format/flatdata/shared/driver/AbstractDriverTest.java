@@ -41,6 +41,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.LinkedList;
@@ -86,7 +87,7 @@ public class AbstractDriverTest
         List<IChecked<T>> records = Lists.mutable.empty();
         try
         {
-            Connection connection = new InputStreamConnection(new ByteArrayInputStream(data.getBytes()));
+            Connection connection = new InputStreamConnection(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)));
             connection.open();
 
             ProcessingVariables variables = new ProcessingVariables(flatData);
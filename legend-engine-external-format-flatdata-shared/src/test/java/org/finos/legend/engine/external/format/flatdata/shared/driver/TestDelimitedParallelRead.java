@@ -0,0 +1,96 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.shared.driver;
+
+import org.finos.legend.engine.external.format.flatdata.shared.driver.spi.RawFlatData;
+import org.finos.legend.engine.external.format.flatdata.shared.model.FlatData;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestDelimitedParallelRead extends AbstractDriverTest
+{
+    private static final int RECORDS = 5000;
+
+    @Test
+    public void parallelReadReturnsRecordsInOrder()
+    {
+        List<IChecked<Person>> expected = deserialize(Person.class, flatData(""), data());
+        List<IChecked<Person>> records = deserialize(Person.class, flatData("  readParallelism: 4;\n"), data());
+
+        Assert.assertEquals(RECORDS, records.size());
+        Assert.assertEquals(describe(expected), describe(records));
+    }
+
+    @Test
+    public void unorderedParallelReadReturnsAllRecords()
+    {
+        List<IChecked<Person>> expected = deserialize(Person.class, flatData(""), data());
+        List<IChecked<Person>> records = deserialize(Person.class, flatData("  readParallelism: 4;\n  unorderedRead;\n"), data());
+
+        Comparator<String> byRecordNumber = Comparator.comparingLong(d -> Long.parseLong(d.substring(0, d.indexOf(':'))));
+        Assert.assertEquals(describe(expected), describe(records).stream().sorted(byRecordNumber).collect(Collectors.toList()));
+    }
+
+    private FlatData flatData(String parallelReadProperties)
+    {
+        return parseFlatData("section default: DelimitedWithHeadings\n" +
+                             "{\n" +
+                             "  scope.untilEof;\n" +
+                             "  delimiter: ',';\n" +
+                             "  quoteChar: '\"';\n" +
+                             parallelReadProperties +
+                             "\n" +
+                             "  Record\n" +
+                             "  {\n" +
+                             "    NAME : STRING;\n" +
+                             "    AGE  : INTEGER;\n" +
+                             "  }\n" +
+                             "}");
+    }
+
+    private String data()
+    {
+        List<String> lines = new ArrayList<>();
+        lines.add("NAME,AGE");
+        for (int i = 0; i < RECORDS; i++)
+        {
+            // Quoted values spanning lines must stay within one chunk, and some ages are invalid
+            lines.add(i % 7 == 0 ? "\"Person,\n" + i + "\"," + i : "Person " + i + "," + (i % 11 == 0 ? "x" : String.valueOf(i)));
+        }
+        return data("\n", lines.toArray(new String[0]));
+    }
+
+    private List<String> describe(List<IChecked<Person>> records)
+    {
+        return records.stream()
+                      .map(r -> ((RawFlatData) r.getSource()).getNumber() + ":" +
+                                (r.getValue() == null ? "null" : r.getValue().name + "/" + r.getValue().age) + ":" +
+                                r.getDefects().stream().map(IDefect::getMessage).collect(Collectors.joining(";")))
+                      .collect(Collectors.toList());
+    }
+
+    public static class Person
+    {
+        public String name;
+        public long age;
+    }
+}
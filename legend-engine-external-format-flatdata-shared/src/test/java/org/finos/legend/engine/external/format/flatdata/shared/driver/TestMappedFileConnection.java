@@ -0,0 +1,186 @@
+package org.finos.legend.engine.external.format.flatdata.shared.driver;
+
+import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.CharCursor;
+import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.InputStreamConnection;
+import org.finos.legend.engine.external.format.flatdata.shared.driver.core.connection.MappedFileConnection;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class TestMappedFileConnection
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private FileChannel channel;
+    private MappedFileConnection connection;
+
+    @After
+    public void close() throws IOException
+    {
+        if (connection != null)
+        {
+            connection.close();
+        }
+        if (channel != null)
+        {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void canOpenACursorAndRead() throws IOException
+    {
+        CharCursor cursor = open("Life in the model world".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals('L', cursor.advance());
+        Assert.assertEquals('i', cursor.advance());
+        Assert.assertEquals('f', cursor.advance());
+        Assert.assertEquals('e', cursor.advance());
+        Assert.assertArrayEquals(" in ".toCharArray(), cursor.advance(4));
+    }
+
+    @Test
+    public void canAdvanceACursorAndPeek() throws IOException
+    {
+        CharCursor cursor = open("Life in the model world".getBytes(StandardCharsets.UTF_8));
+        cursor.advance(4);
+        Assert.assertEquals(' ', cursor.peek(1));
+        Assert.assertEquals('i', cursor.peek(2));
+        Assert.assertEquals('n', cursor.peek(3));
+        Assert.assertEquals(' ', cursor.peek(4));
+        Assert.assertEquals('i', cursor.peek(2));
+    }
+
+    @Test
+    public void cursorsProgressIndependently() throws IOException
+    {
+        CharCursor c1 = open("Life in the model world".getBytes(StandardCharsets.UTF_8));
+        Assert.assertArrayEquals("Life".toCharArray(), c1.advance(4));
+
+        CharCursor c2 = c1.copy();
+        c2.advance();
+
+        Assert.assertArrayEquals(" in ".toCharArray(), c1.advance(4));
+        Assert.assertArrayEquals("in t".toCharArray(), c2.advance(4));
+    }
+
+    @Test
+    public void readsToEndOfData() throws IOException
+    {
+        CharCursor cursor = open("abc".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(CharCursor.END_OF_DATA, cursor.peek(4));
+        Assert.assertArrayEquals("abc".toCharArray(), cursor.advance(10));
+        Assert.assertTrue(cursor.isEndOfData());
+        Assert.assertTrue(connection.isConsumedToEof());
+        Assert.assertEquals(CharCursor.END_OF_DATA, cursor.advance());
+    }
+
+    @Test
+    public void canReadAnEmptyFile() throws IOException
+    {
+        CharCursor cursor = open(new byte[0]);
+        Assert.assertTrue(cursor.isEndOfData());
+        Assert.assertEquals(CharCursor.END_OF_DATA, cursor.peek(1));
+    }
+
+    @Test
+    public void readsFromTheChannelPosition() throws IOException
+    {
+        File file = folder.newFile();
+        Files.write(file.toPath(), "skipped,kept".getBytes(StandardCharsets.UTF_8));
+        channel = new RandomAccessFile(file, "r").getChannel();
+        channel.position(8);
+        connection = new MappedFileConnection(channel);
+        connection.open();
+        Assert.assertArrayEquals("kept".toCharArray(), connection.getCursor().advance(10));
+        Assert.assertTrue(connection.isConsumedToEof());
+    }
+
+    @Test
+    public void leavesTheChannelOpen() throws IOException
+    {
+        open("abc".getBytes(StandardCharsets.UTF_8));
+        connection.close();
+        connection = null;
+        Assert.assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void decodesMultiByteCharacters() throws IOException
+    {
+        String text = "\"Z\u00FCrich\",\"\u20AC5\",\"\uD83D\uDE00\"\r\n\u03C0,\u65E5\u672C\n";
+        CharCursor cursor = open(text.getBytes(StandardCharsets.UTF_8));
+
+        for (int i = 0; i < text.length(); i++)
+        {
+            Assert.assertEquals("peek " + i, text.charAt(i), cursor.peek(i + 1));
+        }
+        Assert.assertEquals(CharCursor.END_OF_DATA, cursor.peek(text.length() + 1));
+
+        Assert.assertArrayEquals(text.substring(0, 15).toCharArray(), cursor.advance(15));
+        Assert.assertEquals(text.charAt(15), cursor.advance());
+        Assert.assertEquals(text.charAt(16), cursor.peek(1));
+        Assert.assertArrayEquals(text.substring(16).toCharArray(), cursor.advance(text.length()));
+        Assert.assertTrue(cursor.isEndOfData());
+    }
+
+    @Test
+    public void decodesAsAnInputStreamConnection() throws IOException
+    {
+        byte[] bytes = "\"Z\u00FCrich\",\"\u20AC5\",\"\uD83D\uDE00\"\r\n\u03C0,\u65E5\u672C\n".getBytes(StandardCharsets.UTF_8);
+        InputStreamConnection streamConnection = new InputStreamConnection(new ByteArrayInputStream(bytes));
+        streamConnection.open();
+        try
+        {
+            Assert.assertArrayEquals(streamConnection.getCursor().advance(bytes.length), open(bytes).advance(bytes.length));
+        }
+        finally
+        {
+            streamConnection.close();
+        }
+    }
+
+    @Test
+    public void malformedBytesAreReplaced() throws IOException
+    {
+        byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xFF, (byte) 0xE2, (byte) 0x82};
+        CharCursor cursor = open(bytes);
+        Assert.assertArrayEquals("a\uFFFDb\uFFFD\uFFFD".toCharArray(), cursor.advance(10));
+    }
+
+    @Test
+    public void destroyedCursorCannotBeUsed() throws IOException
+    {
+        CharCursor cursor = open("abc".getBytes(StandardCharsets.UTF_8));
+        cursor.destroy();
+        try
+        {
+            cursor.advance();
+            Assert.fail("Expected exception");
+        }
+        catch (IllegalStateException e)
+        {
+            Assert.assertEquals("This cursor has been destroyed", e.getMessage());
+        }
+    }
+
+    private CharCursor open(byte[] bytes) throws IOException
+    {
+        File file = folder.newFile();
+        Files.write(file.toPath(), bytes);
+        channel = new RandomAccessFile(file, "r").getChannel();
+        connection = new MappedFileConnection(channel);
+        connection.open();
+        return connection.getCursor();
+    }
+}
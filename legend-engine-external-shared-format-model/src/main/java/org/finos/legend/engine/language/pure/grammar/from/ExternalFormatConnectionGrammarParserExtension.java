@@ -58,7 +58,7 @@ public class ExternalFormatConnectionGrammarParserExtension implements IExternal
         ExternalFormatConnectionParserGrammar parser = new ExternalFormatConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, ExternalFormatConnectionParserGrammar::definition));
     }
 
     @Override
@@ -90,6 +90,6 @@ public class ExternalFormatConnectionGrammarParserExtension implements IExternal
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parse(parser, func);
     }
 }
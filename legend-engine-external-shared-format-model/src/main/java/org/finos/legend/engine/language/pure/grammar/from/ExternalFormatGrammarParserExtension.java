@@ -61,6 +61,6 @@ public class ExternalFormatGrammarParserExtension implements PureGrammarParserEx
         ExternalFormatParserGrammar parser = new ExternalFormatParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sourceCode.code, input, sourceCode.sourceInformation, sourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sourceCode.code, input, sourceCode.sourceInformation, sourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, ExternalFormatParserGrammar::definition));
     }
 }
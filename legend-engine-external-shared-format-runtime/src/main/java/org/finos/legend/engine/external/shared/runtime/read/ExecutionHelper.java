@@ -20,8 +20,13 @@ import org.finos.legend.engine.protocol.pure.v1.packageableElement.external.shar
 import org.finos.legend.engine.protocol.pure.v1.packageableElement.external.shared.UrlStreamExternalSource;
 import org.finos.legend.engine.shared.core.url.UrlFactory;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 public class ExecutionHelper
 {
@@ -55,7 +60,10 @@ public class ExecutionHelper
         {
             if (source instanceof UrlStreamExternalSource)
             {
-                return UrlFactory.create(((UrlStreamExternalSource) source).url).openStream();
+                URL url = UrlFactory.create(((UrlStreamExternalSource) source).url);
+                Path file = localFile(url);
+                // Local files are opened directly so that readers able to map them can get hold of their channel
+                return file == null ? url.openStream() : new FileInputStream(file.toFile());
             }
             else
             {
@@ -68,6 +76,23 @@ public class ExecutionHelper
         }
     }
 
+    private static Path localFile(URL url)
+    {
+        if (!"file".equals(url.getProtocol()))
+        {
+            return null;
+        }
+        try
+        {
+            return Paths.get(url.toURI());
+        }
+        catch (URISyntaxException | IllegalArgumentException e)
+        {
+            // Not a plain path on the local file system (e.g. a UNC host), left to the URL to open
+            return null;
+        }
+    }
+
     public static String locationFromExternalSource(ExternalSource source)
     {
         if (source instanceof UrlStreamExternalSource)
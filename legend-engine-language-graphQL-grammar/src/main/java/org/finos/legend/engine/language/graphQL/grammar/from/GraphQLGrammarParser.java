@@ -14,9 +14,13 @@
 
 package org.finos.legend.engine.language.graphQL.grammar.from;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.ListIterate;
@@ -55,7 +59,28 @@ public class GraphQLGrammarParser
         lexer.addErrorListener(errorListener);
         GraphQLParser parser = new GraphQLParser(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
-        return visitDocument(parser.document());
+        return visitDocument(parseDocument(parser));
+    }
+
+    /**
+     * Parses with SLL prediction first, bailing out at the first syntax error, and falls back to full LL prediction
+     * with the default error recovery only if that fails.
+     */
+    private static GraphQLParser.DocumentContext parseDocument(GraphQLParser parser)
+    {
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try
+        {
+            return parser.document();
+        }
+        catch (ParseCancellationException e)
+        {
+            parser.reset();
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parser.document();
+        }
     }
 
 
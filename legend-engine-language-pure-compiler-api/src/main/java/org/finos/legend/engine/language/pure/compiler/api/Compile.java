@@ -53,6 +53,8 @@ import static org.finos.legend.engine.shared.core.operational.http.InflateInterc
 public class Compile
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
+    private static final String COMPILE_PATH = "pure/v1/compilation/compile";
+    private static final String LAMBDA_RETURN_TYPE_PATH = "pure/v1/compilation/lambdaReturnType";
     private final ModelManager modelManager;
 
     public Compile(ModelManager modelManager)
@@ -76,6 +78,7 @@ public class Compile
             modelManager.loadModelAndData(model, model instanceof PureModelContextPointer ? ((PureModelContextPointer) model).serializer.version : null, profiles, null);
             Long end = System.currentTimeMillis();
             MetricsHandler.observe("compile model", start, end);
+            MetricsHandler.COMPILE_DURATION.observe(start, end, COMPILE_PATH, model.getClass().getSimpleName());
             // NOTE: we could change this to return 204 (No Content), but Pure client test will break
             // on the another hand, returning 200 Ok with no content is not appropriate. So we have to put this dummy message "OK"
             return Response.ok("{\"message\":\"OK\"}", MediaType.APPLICATION_JSON_TYPE).build();
@@ -109,6 +112,7 @@ public class Compile
             Map<String, String> result = new HashMap<>();
             Long end = System.currentTimeMillis();
             MetricsHandler.observe("lambda return type", start, end);
+            MetricsHandler.COMPILE_DURATION.observe(start, end, LAMBDA_RETURN_TYPE_PATH, model == null ? null : model.getClass().getSimpleName());
             // This is an object in case we want to add more information on the lambda.
             result.put("returnType", typeName);
             return Response.ok(result, MediaType.APPLICATION_JSON_TYPE).build();
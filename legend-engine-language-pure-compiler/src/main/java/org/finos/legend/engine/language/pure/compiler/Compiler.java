@@ -25,6 +25,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lam
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.pac4j.core.profile.CommonProfile;
 
+import java.util.concurrent.ForkJoinPool;
+
 public class Compiler
 {
     public static PureModel compile(PureModelContextData model, DeploymentMode deploymentMode, Iterable<? extends CommonProfile> pm)
@@ -38,6 +40,12 @@ public class Compiler
         return new PureModel(model, pm, deploymentMode, pureModelProcessParameter);
     }
 
+    public static PureModel compile(PureModelContextData model, DeploymentMode deploymentMode, Iterable<? extends CommonProfile> pm, String packageOffset, ForkJoinPool forkJoinPool)
+    {
+        PureModelProcessParameter pureModelProcessParameter = new PureModelProcessParameter(packageOffset, forkJoinPool);
+        return new PureModel(model, pm, deploymentMode, pureModelProcessParameter);
+    }
+
     public static String getLambdaReturnType(Lambda lambda, PureModel pureModel)
     {
         org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification valueSpecification = HelperValueSpecificationBuilder.buildLambdaWithContext(lambda.body, lambda.parameters, new CompileContext.Builder(pureModel).build(), new ProcessingContext("Processing return type for lambda"))._expressionSequence().getLast();
@@ -34,6 +34,7 @@ import org.finos.legend.pure.generated.Root_meta_pure_metamodel_constraint_Const
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_extension_TaggedValue_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_function_property_Property_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_function_property_QualifiedProperty_Impl;
+import org.finos.legend.pure.generated.Root_meta_pure_metamodel_relationship_Generalization_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_type_FunctionType_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_type_generics_GenericType_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_valuespecification_ClassConstraintValueSpecificationContext_Impl;
@@ -93,6 +94,18 @@ public class HelperModelBuilder
         return ve;
     }
 
+    /**
+     * Classes without super type extend Any.
+     */
+    public static void addDefaultGeneralization(CompileContext context, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?> _class)
+    {
+        if (_class._generalizations().isEmpty())
+        {
+            org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Generalization g = new Root_meta_pure_metamodel_relationship_Generalization_Impl("")._general(context.pureModel.getGenericType("meta::pure::metamodel::type::Any"))._specific(_class);
+            _class._generalizationsAdd(g);
+        }
+    }
+
     public static org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification createVariableValueSpecification(CompileContext context, String variableName)
     {
         org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification ve = new Root_meta_pure_metamodel_valuespecification_VariableExpression_Impl("")._name(variableName);
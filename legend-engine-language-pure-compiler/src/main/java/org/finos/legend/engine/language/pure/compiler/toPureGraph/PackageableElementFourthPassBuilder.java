@@ -33,10 +33,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
-import org.finos.legend.pure.generated.Root_meta_pure_metamodel_relationship_Generalization_Impl;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.mapping.AssociationImplementation;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement;
-import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Generalization;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
 import org.slf4j.Logger;
 
@@ -106,12 +104,6 @@ public class PackageableElementFourthPassBuilder implements PackageableElementVi
 
         HelperModelBuilder.processClassConstraints(srcClass, this.context, targetClass, ctx, thisVariable);
 
-        if (targetClass._generalizations().isEmpty())
-        {
-            Generalization g = new Root_meta_pure_metamodel_relationship_Generalization_Impl("")._general(this.context.pureModel.getGenericType("meta::pure::metamodel::type::Any"))._specific(targetClass);
-            targetClass._generalizationsAdd(g);
-        }
-
         return targetClass;
     }
 
@@ -50,10 +50,18 @@ public class PackageableElementSecondPassBuilder implements PackageableElementVi
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
 
     private final CompileContext context;
+    // when false, specializations are not added to super types: the caller registers them (see PureModel)
+    private final boolean registerSpecializations;
 
     public PackageableElementSecondPassBuilder(CompileContext context)
+    {
+        this(context, true);
+    }
+
+    PackageableElementSecondPassBuilder(CompileContext context, boolean registerSpecializations)
     {
         this.context = context;
+        this.registerSpecializations = registerSpecializations;
     }
 
     @Override
@@ -102,7 +110,10 @@ public class PackageableElementSecondPassBuilder implements PackageableElementVi
                 {
                     throw new EngineException("Invalid supertype: '" + srcClass.name + "' cannot extend '" + superType + "' as it is not a class.", srcClass.sourceInformation, EngineErrorType.COMPILATION);
                 }
-                superTypeClass._specializationsAdd(g);
+                if (this.registerSpecializations)
+                {
+                    superTypeClass._specializationsAdd(g);
+                }
             }
             return g;
         });
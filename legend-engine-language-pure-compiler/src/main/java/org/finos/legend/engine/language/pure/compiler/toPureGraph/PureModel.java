@@ -29,6 +29,8 @@ import org.eclipse.collections.api.map.primitive.ObjectIntMap;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.finos.legend.engine.language.pure.compiler.MetadataWrapper;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.extension.CompilerExtensions;
@@ -58,6 +60,7 @@ import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.util.ParallelTasks;
 import org.finos.legend.pure.generated.Package_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_multiplicity_MultiplicityValue_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_multiplicity_Multiplicity_Impl;
@@ -68,6 +71,7 @@ import org.finos.legend.pure.generated.Root_meta_pure_metamodel_type_generics_Ge
 import org.finos.legend.pure.m3.coreinstance.meta.pure.mapping.Mapping;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.multiplicity.Multiplicity;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.multiplicity.PackageableMultiplicity;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Generalization;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Enumeration;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Measure;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.PrimitiveType;
@@ -107,6 +111,7 @@ public class PureModel implements IPureModel
     private final CompiledExecutionSupport executionSupport;
     private final DeploymentMode deploymentMode;
     private final PureModelProcessParameter pureModelProcessParameter;
+    private final int elementCount;
     private final org.finos.legend.pure.m3.coreinstance.Package root = new Package_Impl("Root")._name("Root");
     // NOTE: since we have states within each extension, we have to keep extensions local to `PureModel` rather than having
     // this as part of `CompileContext`
@@ -114,18 +119,19 @@ public class PureModel implements IPureModel
 
     final Handlers handlers;
 
-    private final MutableSet<String> immutables = Sets.mutable.empty();
-    private final MutableMap<String, Multiplicity> multiplicitiesIndex = Maps.mutable.empty();
-    final MutableMap<String, Section> sectionsIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type> typesIndex = Maps.mutable.empty();
-    final MutableMap<String, GenericType> typesGenericTypeIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?>> functionsIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile> profilesIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association> associationsIndex = Maps.mutable.empty();
-    final MutableMap<String, Store> storesIndex = Maps.mutable.empty();
-    final MutableMap<String, Mapping> mappingsIndex = Maps.mutable.empty();
-    final MutableMap<String, Connection> connectionsIndex = Maps.mutable.empty();
-    final MutableMap<String, Runtime> runtimesIndex = Maps.mutable.empty();
+    // Indexes are concurrent: elements can be compiled concurrently and the model is shared once built
+    private final MutableSet<String> immutables = SetAdapter.adapt(java.util.concurrent.ConcurrentHashMap.newKeySet());
+    private final MutableMap<String, Multiplicity> multiplicitiesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Section> sectionsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type> typesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, GenericType> typesGenericTypeIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?>> functionsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile> profilesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association> associationsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Store> storesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Mapping> mappingsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Connection> connectionsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Runtime> runtimesIndex = ConcurrentHashMap.newMap();
 
     public PureModel(PureModelContextData pure, Iterable<? extends CommonProfile> pm, DeploymentMode deploymentMode)
     {
@@ -153,6 +159,7 @@ public class PureModel implements IPureModel
         }
         this.deploymentMode = deploymentMode;
         this.pureModelProcessParameter = pureModelProcessParameter;
+        this.elementCount = pureModelContextData.getElements().size();
         try (Scope scope = GlobalTracer.get().buildSpan("Build Pure Model").startActive(true))
         {
             this.executionSupport = new CompiledExecutionSupport(
@@ -395,7 +402,16 @@ public class PureModel implements IPureModel
     private void loadTypes(PureModelContextDataIndex pure)
     {
         // Second pass
-        pure.classes.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
+        if (this.pureModelProcessParameter.forkJoinPool == null)
+        {
+            pure.classes.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
+        }
+        else
+        {
+            // Classes are processed concurrently, specializations are then added to the super types in the sequential order
+            visitConcurrently(pure.classes, el -> new PackageableElementSecondPassBuilder(this.getContext(el), false));
+            pure.classes.forEach(this::registerSpecializations);
+        }
         pure.measures.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
 
         // Process - associations / inheritance
@@ -407,9 +423,21 @@ public class PureModel implements IPureModel
         pure.associations.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
 
         // Fourth pass - qualifiers
-        pure.classes.forEach(el -> visitWithErrorHandling(el, new PackageableElementFourthPassBuilder(this.getContext(el))));
-        pure.associations.forEach(el -> visitWithErrorHandling(el, new PackageableElementThirdPassBuilder(this.getContext(el))));
-        pure.functions.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
+        // Classes without super type are given Any as super type before the qualifiers of any class are processed, so
+        // that the qualifiers compile the same whatever the order (or concurrency) of the classes
+        pure.classes.forEach(el -> HelperModelBuilder.addDefaultGeneralization(this.getContext(el), this.getClass(this.buildPackageString(el._package, el.name), el.sourceInformation)));
+        if (this.pureModelProcessParameter.forkJoinPool == null)
+        {
+            pure.classes.forEach(el -> visitWithErrorHandling(el, new PackageableElementFourthPassBuilder(this.getContext(el))));
+            pure.associations.forEach(el -> visitWithErrorHandling(el, new PackageableElementThirdPassBuilder(this.getContext(el))));
+            pure.functions.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
+        }
+        else
+        {
+            visitConcurrently(pure.classes, el -> new PackageableElementFourthPassBuilder(this.getContext(el)));
+            visitConcurrently(pure.associations, el -> new PackageableElementThirdPassBuilder(this.getContext(el)));
+            visitConcurrently(pure.functions, el -> new PackageableElementSecondPassBuilder(this.getContext(el)));
+        }
     }
 
     private void loadStores(PureModelContextDataIndex pure)
@@ -456,6 +484,28 @@ public class PureModel implements IPureModel
         });
     }
 
+    private void registerSpecializations(Class srcClass)
+    {
+        org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?> _class = this.getClass(this.buildPackageString(srcClass._package, srcClass.name), srcClass.sourceInformation);
+        int i = 0;
+        for (Generalization generalization : _class._generalizations())
+        {
+            if (!this.isImmutable(srcClass.superTypes.get(i++)))
+            {
+                ((org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?>) generalization._general()._rawType())._specializationsAdd(generalization);
+            }
+        }
+    }
+
+    /**
+     * Visits the elements concurrently, in the fork join pool of the process parameter, and waits for all of them.
+     * If several elements fail, the error of the first one (in the order of the list) is thrown, as in a sequential visit.
+     */
+    private <E extends org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement> void visitConcurrently(ListIterable<E> elements, org.eclipse.collections.api.block.function.Function<? super E, ? extends PackageableElementVisitor<?>> visitorBuilder)
+    {
+        ParallelTasks.collect(this.pureModelProcessParameter.forkJoinPool, elements.size(), i -> visitWithErrorHandling(elements.get(i), visitorBuilder.valueOf(elements.get(i))));
+    }
+
     private <T> T visitWithErrorHandling(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element, PackageableElementVisitor<T> visitor)
     {
         try
@@ -960,6 +1010,14 @@ public class PureModel implements IPureModel
         return this.deploymentMode;
     }
 
+    /**
+     * Number of elements in the model this graph was built from
+     */
+    public int getElementCount()
+    {
+        return this.elementCount;
+    }
+
     public Multiplicity getMultiplicity(String m)
     {
         return this.multiplicitiesIndex.get(m.toLowerCase());
@@ -14,9 +14,13 @@
 
 package org.finos.legend.engine.language.pure.compiler.toPureGraph;
 
+import java.util.concurrent.ForkJoinPool;
+
 public class PureModelProcessParameter
 {
     String packagePrefix;
+    // when set, the independent elements of the heavier compilation passes are processed concurrently in this pool
+    ForkJoinPool forkJoinPool;
 
     PureModelProcessParameter()
     {
@@ -27,4 +31,10 @@ public class PureModelProcessParameter
     {
         this.packagePrefix = packagePrefix;
     }
-}
\ No newline at end of file
+
+    public PureModelProcessParameter(String packagePrefix, ForkJoinPool forkJoinPool)
+    {
+        this.packagePrefix = packagePrefix;
+        this.forkJoinPool = forkJoinPool;
+    }
+}
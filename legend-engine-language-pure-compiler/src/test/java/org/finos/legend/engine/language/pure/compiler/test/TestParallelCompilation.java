@@ -0,0 +1,137 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.compiler.test;
+
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperModelBuilder;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelCompilation
+{
+    private static final int CLASS_COUNT = 200;
+
+    private static ForkJoinPool forkJoinPool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        forkJoinPool.shutdownNow();
+    }
+
+    @Test
+    public void testParallelCompilationBuildsTheSameGraph()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(buildModel());
+        PureModel sequential = Compiler.compile(modelData, DeploymentMode.TEST, null);
+        PureModel parallel = Compiler.compile(modelData, DeploymentMode.TEST, null, null, forkJoinPool);
+
+        Assert.assertEquals(specializations(sequential), specializations(parallel));
+        for (int i = 0; i < CLASS_COUNT; i++)
+        {
+            Class<?> sequentialClass = sequential.getClass("test::Class" + i);
+            Class<?> parallelClass = parallel.getClass("test::Class" + i);
+            Assert.assertEquals(sequentialClass._generalizations().collect(g -> HelperModelBuilder.getElementFullPath(g._general()._rawType(), sequential.getExecutionSupport())).toList(),
+                    parallelClass._generalizations().collect(g -> HelperModelBuilder.getElementFullPath(g._general()._rawType(), parallel.getExecutionSupport())).toList());
+            Assert.assertEquals(qualifiedPropertyTypes(sequentialClass, sequential), qualifiedPropertyTypes(parallelClass, parallel));
+        }
+    }
+
+    @Test
+    public void testParallelCompilationReportsTheFirstError()
+    {
+        String model = buildModel() +
+                "function test::brokenA():String[1]\n" +
+                "{\n" +
+                "  $unknownA\n" +
+                "}\n" +
+                "function test::brokenB():String[1]\n" +
+                "{\n" +
+                "  $unknownB\n" +
+                "}\n";
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(model);
+        String sequentialError = compilationError(() -> Compiler.compile(modelData, DeploymentMode.TEST, null));
+        for (int i = 0; i < 5; i++)
+        {
+            Assert.assertEquals(sequentialError, compilationError(() -> Compiler.compile(modelData, DeploymentMode.TEST, null, null, forkJoinPool)));
+        }
+    }
+
+    private static List<String> specializations(PureModel pureModel)
+    {
+        return pureModel.getClass("test::Root")._specializations().collect(s -> HelperModelBuilder.getElementFullPath(s._specific(), pureModel.getExecutionSupport())).toList();
+    }
+
+    private static List<String> qualifiedPropertyTypes(Class<?> _class, PureModel pureModel)
+    {
+        return _class._qualifiedProperties().collect(q ->
+        {
+            ValueSpecification body = q._expressionSequence().getLast();
+            return q._name() + ":" + HelperModelBuilder.getElementFullPath(body._genericType()._rawType(), pureModel.getExecutionSupport()) + "[" + body._multiplicity()._lowerBound()._value() + ".." + body._multiplicity()._upperBound()._value() + "]";
+        }).toList();
+    }
+
+    private static String compilationError(Runnable compilation)
+    {
+        try
+        {
+            compilation.run();
+        }
+        catch (EngineException e)
+        {
+            return EngineException.buildPrettyErrorMessage(e.getMessage(), e.getSourceInformation(), e.getErrorType());
+        }
+        Assert.fail("Expected a compilation error");
+        return null;
+    }
+
+    private static String buildModel()
+    {
+        StringBuilder builder = new StringBuilder("Class test::Root\n{\n  id: Integer[1];\n}\n");
+        for (int i = 0; i < CLASS_COUNT; i++)
+        {
+            builder.append("Class test::Class").append(i).append(i % 2 == 0 ? " extends test::Root" : "").append("\n")
+                    .append("{\n")
+                    .append("  name: String[1];\n")
+                    .append("  other: test::Class").append((i + 1) % CLASS_COUNT).append("[0..1];\n")
+                    .append("  upperName() {$this.name->toUpper()}: String[1];\n")
+                    .append("  otherName() {$this.other.name->toOne()}: String[1];\n")
+                    .append("}\n");
+            builder.append("function test::function").append(i).append("():String[1]\n")
+                    .append("{\n")
+                    .append("  ^test::Class").append(i).append("(name = 'n").append(i).append("').upperName\n")
+                    .append("}\n");
+        }
+        return builder.toString();
+    }
+}
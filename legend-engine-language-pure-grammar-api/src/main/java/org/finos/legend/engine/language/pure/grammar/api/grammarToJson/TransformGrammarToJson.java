@@ -40,6 +40,7 @@ import org.pac4j.jax.rs.annotations.Pac4JProfileManager;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -53,6 +54,21 @@ public class TransformGrammarToJson
 {
     private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
 
+    private final ForkJoinPool forkJoinPool;
+
+    public TransformGrammarToJson()
+    {
+        this(null);
+    }
+
+    /**
+     * @param forkJoinPool pool the sections of a model are parsed in, null to parse them one after another
+     */
+    public TransformGrammarToJson(ForkJoinPool forkJoinPool)
+    {
+        this.forkJoinPool = forkJoinPool;
+    }
+
     @POST
     @Path("transformGrammarToJson")
     @ApiOperation(value = "Generates Pure protocol JSON from Pure language text")
@@ -63,7 +79,7 @@ public class TransformGrammarToJson
         try (Scope scope = GlobalTracer.get().buildSpan("Service: transformJsonToGrammar").startActive(true))
         {
             PureGrammarParserExtensions.logExtensionList();
-            PureGrammarParser parser = PureGrammarParser.newInstance();
+            PureGrammarParser parser = PureGrammarParser.newInstance(this.forkJoinPool);
             Map<String, Lambda> lambdas = new HashMap<>();
             Map<String, ParserError> lambdaErrors = new HashMap<>();
             grammarInput.isolatedLambdas.forEach((key, value) ->
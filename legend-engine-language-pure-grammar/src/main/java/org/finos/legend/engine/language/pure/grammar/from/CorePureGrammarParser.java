@@ -246,7 +246,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         ModelConnectionParserGrammar parser = new ModelConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, ModelConnectionParserGrammar::definition));
     }
 
     private static SourceCodeParserInfo getEnumerationMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -259,7 +259,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         EnumerationMappingParserGrammar parser = new EnumerationMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.enumerationMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, EnumerationMappingParserGrammar::enumerationMapping));
     }
 
     private static SourceCodeParserInfo getOperationClassMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -272,7 +272,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         OperationClassMappingParserGrammar parser = new OperationClassMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.operationClassMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, OperationClassMappingParserGrammar::operationClassMapping));
     }
 
     private static SourceCodeParserInfo getPureInstanceClassMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -285,7 +285,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         PureInstanceClassMappingParserGrammar parser = new PureInstanceClassMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.pureInstanceClassMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, PureInstanceClassMappingParserGrammar::pureInstanceClassMapping));
     }
 
     private static SourceCodeParserInfo getXStoreAssociationMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -298,7 +298,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         XStoreAssociationMappingParserGrammar parser = new XStoreAssociationMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.xStoreAssociationMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, XStoreAssociationMappingParserGrammar::xStoreAssociationMapping));
     }
 
     private static SourceCodeParserInfo getAggregationAwareMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -312,7 +312,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         SourceInformation source = mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.aggregationAwareClassMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, AggregationAwareParserGrammar::aggregationAwareClassMapping));
     }
 
     private static SourceCodeParserInfo getAggregateSpecificationParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -326,6 +326,6 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         SourceInformation source = mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.aggregateSpecification());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, AggregationAwareParserGrammar::aggregateSpecification));
     }
 }
@@ -38,21 +38,55 @@ import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lam
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.util.ParallelTasks;
 import org.slf4j.Logger;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 public class PureGrammarParser
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
     private static final String DEFAULT_SECTION_BEGIN = "\n###" + DomainParser.name + "\n";
+    private static final String WARM_UP_MODEL = "Class meta::warmup::Person\n" +
+            "{\n" +
+            "  name: String[1];\n" +
+            "  age: Integer[0..1];\n" +
+            "  firms: meta::warmup::Firm[*];\n" +
+            "  isAdult() {$this.age->isNotEmpty() && ($this.age->toOne() >= 18)}: Boolean[1];\n" +
+            "}\n" +
+            "Class meta::warmup::Firm\n" +
+            "{\n" +
+            "  name: String[1];\n" +
+            "}\n" +
+            "Enum meta::warmup::Kind\n" +
+            "{\n" +
+            "  A, B\n" +
+            "}\n" +
+            "function meta::warmup::names(people: meta::warmup::Person[*]): String[*]\n" +
+            "{\n" +
+            "  $people->filter(p | $p.firms->exists(f | $f.name == 'x'))->map(p | $p.name + ' ' + $p.age->toString())\n" +
+            "}\n" +
+            "###Mapping\n" +
+            "Mapping meta::warmup::PersonMapping\n" +
+            "(\n" +
+            "  meta::warmup::Person: Pure\n" +
+            "  {\n" +
+            "    ~src meta::warmup::Person\n" +
+            "    name: $src.name->toUpper()\n" +
+            "  }\n" +
+            ")\n";
 
     private final DEPRECATED_PureGrammarParserLibrary parsers;
     private final PureGrammarParserExtensions extensions;
+    // Pool the sections are parsed in, null to parse them one after another
+    private final ForkJoinPool forkJoinPool;
 
-    private PureGrammarParser(PureGrammarParserExtensions extensions)
+    private PureGrammarParser(PureGrammarParserExtensions extensions, ForkJoinPool forkJoinPool)
     {
         this.extensions = extensions;
+        this.forkJoinPool = forkJoinPool;
         ConnectionParser connectionParser = ConnectionParser.newInstance(extensions);
         this.parsers = new DEPRECATED_PureGrammarParserLibrary(Lists.immutable.with(
                 new DomainParser(),
@@ -64,12 +98,45 @@ public class PureGrammarParser
 
     public static PureGrammarParser newInstance(PureGrammarParserExtensions extensions)
     {
-        return new PureGrammarParser(extensions);
+        return new PureGrammarParser(extensions, null);
     }
 
     public static PureGrammarParser newInstance()
     {
-        return new PureGrammarParser(PureGrammarParserExtensions.fromAvailableExtensions());
+        return new PureGrammarParser(PureGrammarParserExtensions.fromAvailableExtensions(), null);
+    }
+
+    /**
+     * Creates a parser that parses the sections of a model concurrently in the given pool. The result is the same as
+     * the one of a sequential parser: elements and sections keep the order of the code and, if several sections are
+     * invalid, the error of the first one is thrown.
+     */
+    public static PureGrammarParser newInstance(PureGrammarParserExtensions extensions, ForkJoinPool forkJoinPool)
+    {
+        return new PureGrammarParser(extensions, forkJoinPool);
+    }
+
+    public static PureGrammarParser newInstance(ForkJoinPool forkJoinPool)
+    {
+        return new PureGrammarParser(PureGrammarParserExtensions.fromAvailableExtensions(), forkJoinPool);
+    }
+
+    /**
+     * Parses a small model so that the prediction caches shared by the parsers of the main grammars are populated
+     * before the first request.
+     */
+    public static void warmUp()
+    {
+        try
+        {
+            PureGrammarParser parser = PureGrammarParser.newInstance();
+            parser.parseModel(WARM_UP_MODEL);
+            parser.parseLambda("|meta::warmup::Person.all()->filter(p | $p.name->startsWith('A'))->project([p | $p.name, p | $p.age], ['name', 'age'])", "", false);
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Error while warming up the grammar parser", e);
+        }
     }
 
     public PureModelContextData parseModel(String code, boolean returnSourceInfo)
@@ -108,10 +175,36 @@ public class PureGrammarParser
         // in the consumer, we should ensure this does not leak and gets persisted to SDLC or Services per se
         sectionIndex.name = "SectionIndex";
         sectionIndex._package = "__internal__";
-        sectionIndex.sections = ListIterate.collect(parser.definition().section(), sectionCtx -> this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo));
+        List<CodeParserGrammar.SectionContext> sectionContexts = PureGrammarParserUtility.parse(parser, CodeParserGrammar::definition).section();
+        if (this.forkJoinPool == null || sectionContexts.size() < 2)
+        {
+            sectionIndex.sections = ListIterate.collect(sectionContexts, sectionCtx -> this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo));
+        }
+        else
+        {
+            sectionIndex.sections = this.visitSectionsConcurrently(sectionContexts, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo);
+        }
         return builder.withElement(sectionIndex).build();
     }
 
+    /**
+     * Parses the content of the sections concurrently. The elements of each section are buffered and handed to the
+     * consumer in section order once all the sections are parsed. If several sections fail, the error of the first one
+     * is thrown, as in a sequential parse.
+     */
+    private List<Section> visitSectionsConcurrently(List<CodeParserGrammar.SectionContext> sectionContexts, DEPRECATED_PureGrammarParserLibrary parserLibrary, ParseTreeWalkerSourceInformation walkerSourceInformation, PureGrammarParserContext parserContext, Consumer<PackageableElement> elementConsumer, boolean returnSourceInfo)
+    {
+        int size = sectionContexts.size();
+        List<List<PackageableElement>> sectionElements = Lists.mutable.ofInitialCapacity(size);
+        for (int i = 0; i < size; i++)
+        {
+            sectionElements.add(Lists.mutable.empty());
+        }
+        List<Section> sections = ParallelTasks.collect(this.forkJoinPool, size, i -> this.visitSection(sectionContexts.get(i), parserLibrary, walkerSourceInformation, parserContext, sectionElements.get(i)::add, returnSourceInfo));
+        sectionElements.forEach(elements -> elements.forEach(elementConsumer));
+        return Lists.mutable.withAll(sections);
+    }
+
     private Section visitSection(CodeParserGrammar.SectionContext ctx, DEPRECATED_PureGrammarParserLibrary parserLibrary, ParseTreeWalkerSourceInformation walkerSourceInformation, PureGrammarParserContext parserContext, Consumer<PackageableElement> elementConsumer, boolean returnSourceInfo)
     {
         String parserName = ctx.SECTION_START().getText().substring(4); // the prefix is `\n###` hence 4 characters
@@ -14,14 +14,22 @@
 
 package org.finos.legend.engine.language.pure.grammar.from;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.commons.text.StringEscapeUtils;
 import org.finos.legend.engine.protocol.pure.v1.model.SourceInformation;
 import org.finos.legend.engine.protocol.pure.v1.model.context.EngineErrorType;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class PureGrammarParserUtility
@@ -98,4 +106,46 @@ public class PureGrammarParserUtility
         String text = identifier.getText();
         return text.startsWith("'") ? PureGrammarParserUtility.fromGrammarString(text, true) : text;
     }
+
+    /**
+     * Runs a parser rule in two stages. The rule is first run with SLL prediction, which is much faster on large
+     * expressions, and bails out at the first syntax error. Only if that fails the input is parsed again with full LL
+     * prediction, the default error recovery and the error listeners of the parser, so that the result and the
+     * reported errors are the same as with a single LL parse. The parser is left in LL mode with its listeners.
+     * <p>
+     * The prediction caches (DFA) are static in the generated parsers, so both stages share them across parser
+     * instances.
+     */
+    public static <P extends Parser, T> T parse(P parser, Function<? super P, T> rule)
+    {
+        List<? extends ANTLRErrorListener> errorListeners = new ArrayList<>(parser.getErrorListeners());
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try
+        {
+            return rule.apply(parser);
+        }
+        catch (ParseCancellationException e)
+        {
+            // rewinds the token stream
+            parser.reset();
+            restoreLLMode(parser, errorListeners);
+            return rule.apply(parser);
+        }
+        finally
+        {
+            restoreLLMode(parser, errorListeners);
+        }
+    }
+
+    private static void restoreLLMode(Parser parser, List<? extends ANTLRErrorListener> errorListeners)
+    {
+        if (parser.getInterpreter().getPredictionMode() != PredictionMode.LL)
+        {
+            errorListeners.forEach(parser::addErrorListener);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        }
+    }
 }
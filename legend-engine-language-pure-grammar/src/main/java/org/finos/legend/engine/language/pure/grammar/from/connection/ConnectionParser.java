@@ -21,6 +21,7 @@ import org.finos.legend.engine.language.pure.grammar.from.DEPRECATED_SectionGram
 import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserContext;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.connection.ConnectionLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.connection.ConnectionParserGrammar;
@@ -73,7 +74,7 @@ public class ConnectionParser implements DEPRECATED_SectionGrammarParser
         ConnectionParserGrammar parser = new ConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? parser.definition() : null);
+        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? PureGrammarParserUtility.parse(parser, ConnectionParserGrammar::definition) : null);
     }
 
     @Override
@@ -95,6 +96,6 @@ public class ConnectionParser implements DEPRECATED_SectionGrammarParser
         }
         SourceCodeParserInfo sectionParserInfo = this.getParserInfo(code, null, walkerSourceInformation, false);
         ConnectionParseTreeWalker walker = new ConnectionParseTreeWalker(walkerSourceInformation, this.extensions, null, null);
-        return walker.visitEmbeddedRuntimeConnection(((ConnectionParserGrammar) sectionParserInfo.parser).embeddedRuntimeConnection(), sourceInformation);
+        return walker.visitEmbeddedRuntimeConnection(PureGrammarParserUtility.parse((ConnectionParserGrammar) sectionParserInfo.parser, ConnectionParserGrammar::embeddedRuntimeConnection), sourceInformation);
     }
 }
@@ -22,6 +22,7 @@ import org.finos.legend.engine.language.pure.grammar.from.DEPRECATED_SectionGram
 import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserContext;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.domain.DomainLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.domain.DomainParserGrammar;
@@ -63,7 +64,7 @@ public class DomainParser implements DEPRECATED_SectionGrammarParser
         DomainParserGrammar parser = new DomainParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? parser.definition() : null);
+        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? PureGrammarParserUtility.parse(parser, DomainParserGrammar::definition) : null);
     }
 
     @Override
@@ -108,6 +109,6 @@ public class DomainParser implements DEPRECATED_SectionGrammarParser
         ParseTreeWalkerSourceInformation walkerSourceInformation = new ParseTreeWalkerSourceInformation.Builder(combinedExpressionWalkerSourceInformation).build();
         SourceCodeParserInfo sectionParserInfo = this.getParserInfo(code, null, walkerSourceInformation, false);
         DomainParseTreeWalker walker = new DomainParseTreeWalker(walkerSourceInformation, parserContext, allowPropertyBracketExpression);
-        return walker.combinedExpression(((DomainParserGrammar) sectionParserInfo.parser).combinedExpression(), "line", typeParametersNames, lambdaContext, "", true, false);
+        return walker.combinedExpression(PureGrammarParserUtility.parse((DomainParserGrammar) sectionParserInfo.parser, DomainParserGrammar::combinedExpression), "line", typeParametersNames, lambdaContext, "", true, false);
     }
 }
\ No newline at end of file
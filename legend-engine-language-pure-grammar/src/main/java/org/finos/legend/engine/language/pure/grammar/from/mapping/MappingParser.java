@@ -21,6 +21,7 @@ import org.finos.legend.engine.language.pure.grammar.from.DEPRECATED_SectionGram
 import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserContext;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.mapping.MappingLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.mapping.MappingParserGrammar;
@@ -65,7 +66,7 @@ public class MappingParser implements DEPRECATED_SectionGrammarParser
         MappingParserGrammar parser = new MappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, MappingParserGrammar::definition));
     }
 
     @Override
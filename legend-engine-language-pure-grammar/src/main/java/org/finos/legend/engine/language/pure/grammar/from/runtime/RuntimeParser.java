@@ -21,6 +21,7 @@ import org.finos.legend.engine.language.pure.grammar.from.DEPRECATED_SectionGram
 import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserContext;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.runtime.RuntimeLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.runtime.RuntimeParserGrammar;
@@ -77,7 +78,7 @@ public class RuntimeParser implements DEPRECATED_SectionGrammarParser
         RuntimeParserGrammar parser = new RuntimeParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? parser.definition() : null);
+        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? PureGrammarParserUtility.parse(parser, RuntimeParserGrammar::definition) : null);
     }
 
     @Override
@@ -95,6 +96,6 @@ public class RuntimeParser implements DEPRECATED_SectionGrammarParser
     {
         SourceCodeParserInfo sectionParserInfo = this.getParserInfo(code, null, walkerSourceInformation, false);
         RuntimeParseTreeWalker walker = new RuntimeParseTreeWalker(walkerSourceInformation, null, null, this.connectionParser);
-        return walker.visitEmbeddedRuntime(((RuntimeParserGrammar) sectionParserInfo.parser).embeddedRuntime(), sourceInformation);
+        return walker.visitEmbeddedRuntime(PureGrammarParserUtility.parse((RuntimeParserGrammar) sectionParserInfo.parser, RuntimeParserGrammar::embeddedRuntime), sourceInformation);
     }
 }
@@ -0,0 +1,76 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.grammar.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelGrammarParser
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static ForkJoinPool forkJoinPool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    public void testParallelParseMatchesSequentialParse() throws Exception
+    {
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < 20; i++)
+        {
+            code.append("###Pure\n")
+                    .append("Class test::Person").append(i).append("\n{\n  name: String[1];\n  age: Integer[0..1];\n}\n")
+                    .append("Enum test::Kind").append(i).append("\n{\n  A, B\n}\n")
+                    .append("###Mapping\n")
+                    .append("Mapping test::Mapping").append(i).append("\n(\n)\n");
+        }
+        String sequential = objectMapper.writeValueAsString(PureGrammarParser.newInstance().parseModel(code.toString()));
+        String parallel = objectMapper.writeValueAsString(PureGrammarParser.newInstance(forkJoinPool).parseModel(code.toString()));
+        Assert.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testParallelParseThrowsFirstError()
+    {
+        String code = "###Pure\n" +
+                "Class test::A\n{\n  name: String[1];\n}\n" +
+                "###Pure\n" +
+                "Class test::B\n{\n  name String[1];\n}\n" +
+                "###Pure\n" +
+                "Class test::C\n{\n  name: String[1]\n}\n";
+        EngineException sequential = Assert.assertThrows(EngineException.class, () -> PureGrammarParser.newInstance().parseModel(code));
+        EngineException parallel = Assert.assertThrows(EngineException.class, () -> PureGrammarParser.newInstance(forkJoinPool).parseModel(code));
+        Assert.assertEquals(sequential.getMessage(), parallel.getMessage());
+        Assert.assertEquals(sequential.getSourceInformation().getMessage(), parallel.getSourceInformation().getMessage());
+    }
+}
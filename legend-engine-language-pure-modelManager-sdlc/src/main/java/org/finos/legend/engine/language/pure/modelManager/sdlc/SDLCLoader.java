@@ -18,9 +18,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
-import org.apache.http.HttpEntity;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
@@ -40,15 +44,20 @@ import org.finos.legend.engine.protocol.pure.v1.model.context.PureSDLC;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.kerberos.HttpClientBuilder;
 import org.finos.legend.engine.shared.core.kerberos.SubjectCache;
+import org.finos.legend.engine.shared.core.kerberos.SubjectTools;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.finos.legend.engine.shared.core.operational.opentracing.HttpRequestHeaderMap;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
 import java.util.List;
 import java.util.function.Supplier;
 import javax.security.auth.Subject;
@@ -60,6 +69,9 @@ public class SDLCLoader implements ModelLoader
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
     private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final int MAX_CONNECTIONS = 50;
+    // Shared so that connections to the metadata servers are kept alive between requests
+    private static final CloseableHttpClient HTTP_CLIENT = HttpClientBuilder.getPooledHttpClient(MAX_CONNECTIONS);
     private SubjectCache subjectCache = new SubjectCache(null);
     private final Supplier<Subject> subjectProvider;
     private final PureServerLoader pureLoader;
@@ -68,8 +80,9 @@ public class SDLCLoader implements ModelLoader
     public SDLCLoader(MetaDataServerConfiguration metaDataServerConfiguration, Supplier<Subject> subjectProvider)
     {
         this.subjectProvider = subjectProvider;
-        this.pureLoader = new PureServerLoader(metaDataServerConfiguration);
-        this.alloyLoader = new AlloySDLCLoader(metaDataServerConfiguration);
+        SDLCMetadataCache metadataCache = (metaDataServerConfiguration == null || metaDataServerConfiguration.cacheDirectory == null) ? null : new SDLCMetadataCache(metaDataServerConfiguration.cacheDirectory, metaDataServerConfiguration.cacheMaximumSizeInMB * 1024 * 1024);
+        this.pureLoader = new PureServerLoader(metaDataServerConfiguration, metadataCache);
+        this.alloyLoader = new AlloySDLCLoader(metaDataServerConfiguration, metadataCache);
     }
 
     private Subject getSubject()
@@ -172,9 +185,18 @@ public class SDLCLoader implements ModelLoader
     }
 
     public static PureModelContextData loadMetadataFromHTTPURL(MutableList<CommonProfile> pm, LoggingEventType startEvent, LoggingEventType stopEvent, String url)
+    {
+        return loadMetadataFromHTTPURL(pm, startEvent, stopEvent, url, null, false);
+    }
+
+    /**
+     * Loads metadata, going through the disk cache when one is given. Cached responses are only served to the user
+     * they were fetched for: immutable responses (released versions) without any request, others once revalidated, with
+     * the credentials of the user, using the ETag of the cached response.
+     */
+    public static PureModelContextData loadMetadataFromHTTPURL(MutableList<CommonProfile> pm, LoggingEventType startEvent, LoggingEventType stopEvent, String url, SDLCMetadataCache cache, boolean immutable)
     {
         Scope scope = GlobalTracer.get().scopeManager().active();
-        CloseableHttpClient httpclient = (CloseableHttpClient) HttpClientBuilder.getHttpClient(new BasicCookieStore());
         long start = System.currentTimeMillis();
 
         LogInfo info = new LogInfo(pm, startEvent, "Requesting metadata");
@@ -186,33 +208,104 @@ public class SDLCLoader implements ModelLoader
             scope.span().setOperationName(startEvent.toString());
             span.log(url);
         }
-        LOGGER.info(new LogInfo(pm, LoggingEventType.METADATA_LOAD_FROM_URL, "Loading from URL " + url).toString());
 
-        HttpGet httpGet = new HttpGet(url);
-        if (span != null)
+        try
         {
-            GlobalTracer.get().inject(scope.span().context(), HTTP_HEADERS, new HttpRequestHeaderMap(httpGet));
-        }
-        try (CloseableHttpResponse response = httpclient.execute(httpGet))
-        {
-            int statusCode = response.getStatusLine().getStatusCode();
-            if (statusCode < 200 || statusCode >= 300)
+            String user = currentUser();
+            SDLCMetadataCache.Entry cached = (cache == null) ? null : cache.get(user, url);
+            if (cached != null && immutable)
             {
-                throw new EngineException("Error response from " + url + ", HTTP" + statusCode + "\n" + EntityUtils.toString(response.getEntity()));
+                MetricsHandler.observeCount("SDLC metadata disk cache hit");
+                return readMetadata(pm, stopEvent, url, start, cached.openStream());
             }
-            HttpEntity entity1 = response.getEntity();
-            PureModelContextData modelContextData = objectMapper.readValue(entity1.getContent(), PureModelContextData.class);
-            Assert.assertTrue(modelContextData.getSerializer() != null, () -> "Engine was unable to load information from the Pure SDLC <a href='" + url + "'>link</a>");
-            LOGGER.info(new LogInfo(pm, stopEvent, (double)System.currentTimeMillis() - start).toString());
+
+            LOGGER.info(new LogInfo(pm, LoggingEventType.METADATA_LOAD_FROM_URL, "Loading from URL " + url).toString());
+            HttpGet httpGet = new HttpGet(url);
             if (span != null)
             {
-                scope.span().log(String.valueOf(stopEvent));
+                GlobalTracer.get().inject(scope.span().context(), HTTP_HEADERS, new HttpRequestHeaderMap(httpGet));
+            }
+            if (cached != null && cached.getEtag() != null)
+            {
+                httpGet.setHeader(HttpHeaders.IF_NONE_MATCH, cached.getEtag());
+            }
+            try (CloseableHttpResponse response = execute(httpGet))
+            {
+                int statusCode = response.getStatusLine().getStatusCode();
+                if (statusCode == HttpStatus.SC_NOT_MODIFIED && cached != null)
+                {
+                    MetricsHandler.observeCount("SDLC metadata disk cache revalidated");
+                    EntityUtils.consume(response.getEntity());
+                    return readMetadata(pm, stopEvent, url, start, cached.openStream());
+                }
+                if (statusCode < 200 || statusCode >= 300)
+                {
+                    throw new EngineException("Error response from " + url + ", HTTP" + statusCode + "\n" + EntityUtils.toString(response.getEntity()));
+                }
+                Header etag = response.getFirstHeader(HttpHeaders.ETAG);
+                // Responses which can neither be kept forever nor revalidated are not worth caching
+                if (cache == null || (!immutable && etag == null))
+                {
+                    return readMetadata(pm, stopEvent, url, start, response.getEntity().getContent());
+                }
+                MetricsHandler.observeCount("SDLC metadata disk cache miss");
+                // The response is parsed as it is read and copied to the cache on the way
+                SDLCMetadataCache.CachingInputStream content = cache.put(user, url, etag == null ? null : etag.getValue(), response.getEntity().getContent());
+                try
+                {
+                    PureModelContextData modelContextData = readMetadata(pm, stopEvent, url, start, content);
+                    content.commit();
+                    return modelContextData;
+                }
+                finally
+                {
+                    content.abort();
+                }
             }
-            return modelContextData;
         }
         catch (Exception e)
         {
             throw new EngineException("Engine was unable to load information from the Pure SDLC using: <a href='" + url + "' target='_blank'>link</a>", e);
         }
     }
+
+    /**
+     * Executes the request with the shared client. Cookies are kept per request, and the connections, which may be
+     * authenticated as the user of the request, are only reused for requests of the same user.
+     */
+    public static CloseableHttpResponse execute(HttpUriRequest request) throws IOException
+    {
+        HttpClientContext context = HttpClientContext.create();
+        context.setCookieStore(new BasicCookieStore());
+        // The pool hands a connection back only to requests with the same user token
+        context.setUserToken(currentUser());
+        return HTTP_CLIENT.execute(request, context);
+    }
+
+    /**
+     * Kerberos principal of the current subject, the one the metadata server requests are authenticated as, or an
+     * empty string without subject.
+     */
+    private static String currentUser()
+    {
+        Principal principal = SubjectTools.getCurrentPrincipal();
+        return principal == null ? "" : principal.getName();
+    }
+
+    private static PureModelContextData readMetadata(MutableList<CommonProfile> pm, LoggingEventType stopEvent, String url, long start, InputStream content) throws IOException
+    {
+        PureModelContextData modelContextData;
+        try (InputStream stream = content)
+        {
+            modelContextData = objectMapper.readValue(stream, PureModelContextData.class);
+        }
+        Assert.assertTrue(modelContextData.getSerializer() != null, () -> "Engine was unable to load information from the Pure SDLC <a href='" + url + "'>link</a>");
+        LOGGER.info(new LogInfo(pm, stopEvent, (double)System.currentTimeMillis() - start).toString());
+        Span span = GlobalTracer.get().activeSpan();
+        if (span != null)
+        {
+            span.log(String.valueOf(stopEvent));
+        }
+        return modelContextData;
+    }
 }
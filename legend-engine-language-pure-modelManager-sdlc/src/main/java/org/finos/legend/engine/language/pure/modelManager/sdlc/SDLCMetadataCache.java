@@ -0,0 +1,390 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager.sdlc;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.slf4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local copy of the metadata server responses, keyed by the user the response was fetched for and the request URL
+ * (which holds the project, version and client version): a user is only served the responses the metadata server
+ * returned to them. Each response is stored gzipped in its own file, with a header holding a checksum of the compressed
+ * payload and the ETag returned by the server, and is read back through a memory mapped buffer. Entries which are
+ * corrupted or written by another format version are ignored and deleted. Once the entries go over the maximum size,
+ * the least recently used ones are deleted.
+ */
+public class SDLCMetadataCache
+{
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
+    private static final int MAGIC = 0x4C534D43;
+    private static final int FORMAT_VERSION = 1;
+    // magic, format version, checksum, ETag length
+    private static final int FIXED_HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int CHECKSUM_POSITION = 4 + 4;
+    private static final String ENTRY_SUFFIX = ".json.gz";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maximumSizeInBytes;
+
+    public SDLCMetadataCache(String directory, long maximumSizeInBytes)
+    {
+        this.directory = Paths.get(directory);
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        try
+        {
+            Files.createDirectories(this.directory);
+            // Left behind by a process which stopped while writing an entry
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "*" + TEMPORARY_SUFFIX))
+            {
+                files.forEach(SDLCMetadataCache::deleteQuietly);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public Entry get(String user, String url)
+    {
+        Path file = this.fileFor(user, url);
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < FIXED_HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+            {
+                return this.discard(file, url);
+            }
+            long checksum = buffer.getLong();
+            int etagLength = buffer.getInt();
+            if (etagLength < 0 || etagLength > buffer.remaining())
+            {
+                return this.discard(file, url);
+            }
+            byte[] etag = new byte[etagLength];
+            buffer.get(etag);
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != checksum)
+            {
+                return this.discard(file, url);
+            }
+            // The modification time orders entries for eviction
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return new Entry(etagLength == 0 ? null : new String(etag, StandardCharsets.UTF_8), payload);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to read cached metadata for " + url, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stream reading the given content while copying it to a new entry. The entry is only stored once
+     * {@link CachingInputStream#commit()} is called, so content which turns out to be invalid can be dropped with
+     * {@link CachingInputStream#abort()}. Failing to write the entry does not affect reading the content.
+     */
+    public CachingInputStream put(String user, String url, String etag, InputStream content)
+    {
+        return new CachingInputStream(user, url, etag, content);
+    }
+
+    private Entry discard(Path file, String url)
+    {
+        LOGGER.warn("Discarding invalid cached metadata for " + url);
+        deleteQuietly(file);
+        return null;
+    }
+
+    private synchronized void evict()
+    {
+        MutableList<Pair<Path, FileTime>> entries = Lists.mutable.empty();
+        long size = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "*" + ENTRY_SUFFIX))
+        {
+            for (Path file : files)
+            {
+                entries.add(Tuples.pair(file, Files.getLastModifiedTime(file)));
+                size += Files.size(file);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to list cached metadata in " + this.directory, e);
+            return;
+        }
+        for (Pair<Path, FileTime> entry : entries.sortThisBy(Pair::getTwo))
+        {
+            if (size <= this.maximumSizeInBytes)
+            {
+                return;
+            }
+            try
+            {
+                size -= Files.size(entry.getOne());
+                Files.deleteIfExists(entry.getOne());
+            }
+            catch (IOException ignored)
+            {
+                // removed by another process
+            }
+        }
+    }
+
+    private Path fileFor(String user, String url)
+    {
+        try
+        {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest((user + "\n" + url).getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(hash.length * 2 + ENTRY_SUFFIX.length());
+            for (byte b : hash)
+            {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return this.directory.resolve(name.append(ENTRY_SUFFIX).toString());
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file)
+    {
+        if (file != null)
+        {
+            try
+            {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException ignored)
+            {
+                // a later write replaces the entry anyway
+            }
+        }
+    }
+
+    public static class Entry
+    {
+        private final String etag;
+        private final ByteBuffer payload;
+
+        private Entry(String etag, ByteBuffer payload)
+        {
+            this.etag = etag;
+            this.payload = payload;
+        }
+
+        public String getEtag()
+        {
+            return this.etag;
+        }
+
+        public InputStream openStream() throws IOException
+        {
+            return new GZIPInputStream(new ByteBufferBackedInputStream(this.payload.duplicate()));
+        }
+    }
+
+    public class CachingInputStream extends FilterInputStream
+    {
+        private final String url;
+        private final Path file;
+        private final CRC32 crc = new CRC32();
+        private Path temporaryFile;
+        private FileChannel channel;
+        private OutputStream out;
+
+        private CachingInputStream(String user, String url, String etag, InputStream content)
+        {
+            super(content);
+            this.url = url;
+            this.file = SDLCMetadataCache.this.fileFor(user, url);
+            try
+            {
+                // Written next to the target then moved, so that readers never see a partial entry
+                this.temporaryFile = Files.createTempFile(SDLCMetadataCache.this.directory, this.file.getFileName().toString(), TEMPORARY_SUFFIX);
+                this.channel = FileChannel.open(this.temporaryFile, StandardOpenOption.WRITE);
+                byte[] etagBytes = etag == null ? new byte[0] : etag.getBytes(StandardCharsets.UTF_8);
+                ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_SIZE + etagBytes.length);
+                // The checksum is only known once the content has been read
+                header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(0).putInt(etagBytes.length).put(etagBytes).flip();
+                while (header.hasRemaining())
+                {
+                    this.channel.write(header);
+                }
+                this.out = new GZIPOutputStream(new CheckedOutputStream(new BufferedOutputStream(Channels.newOutputStream(this.channel)), this.crc));
+            }
+            catch (IOException e)
+            {
+                this.fail(e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = super.read();
+            if (b >= 0 && this.out != null)
+            {
+                try
+                {
+                    this.out.write(b);
+                }
+                catch (IOException e)
+                {
+                    this.fail(e);
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            int read = super.read(b, off, len);
+            if (read > 0 && this.out != null)
+            {
+                try
+                {
+                    this.out.write(b, off, read);
+                }
+                catch (IOException e)
+                {
+                    this.fail(e);
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException
+        {
+            // Skipped bytes still have to be copied
+            int read = this.read(new byte[(int) Math.min(n, 8192)]);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported()
+        {
+            return false;
+        }
+
+        /**
+         * Stores the content read so far as the entry for the URL.
+         */
+        public void commit()
+        {
+            if (this.out == null)
+            {
+                return;
+            }
+            try
+            {
+                this.out.flush();
+                ((GZIPOutputStream) this.out).finish();
+                this.out.flush();
+                ByteBuffer checksum = ByteBuffer.allocate(8).putLong(0, this.crc.getValue());
+                while (checksum.hasRemaining())
+                {
+                    this.channel.write(checksum, CHECKSUM_POSITION + checksum.position());
+                }
+                this.out.close();
+                this.out = null;
+                Files.move(this.temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                this.temporaryFile = null;
+            }
+            catch (IOException e)
+            {
+                this.fail(e);
+                return;
+            }
+            SDLCMetadataCache.this.evict();
+        }
+
+        /**
+         * Drops the entry being written, does nothing once committed.
+         */
+        public void abort()
+        {
+            if (this.out != null)
+            {
+                try
+                {
+                    this.out.close();
+                }
+                catch (IOException ignored)
+                {
+                    // deleted below
+                }
+                this.out = null;
+            }
+            else if (this.channel != null)
+            {
+                try
+                {
+                    this.channel.close();
+                }
+                catch (IOException ignored)
+                {
+                    // deleted below
+                }
+            }
+            deleteQuietly(this.temporaryFile);
+            this.temporaryFile = null;
+        }
+
+        private void fail(IOException e)
+        {
+            LOGGER.warn("Unable to cache metadata for " + this.url, e);
+            this.abort();
+        }
+    }
+}
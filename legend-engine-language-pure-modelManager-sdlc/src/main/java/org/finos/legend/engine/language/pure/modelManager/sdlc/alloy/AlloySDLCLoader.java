@@ -16,6 +16,7 @@ package org.finos.legend.engine.language.pure.modelManager.sdlc.alloy;
 
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.SDLCLoader;
+import org.finos.legend.engine.language.pure.modelManager.sdlc.SDLCMetadataCache;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -30,18 +31,27 @@ import java.util.stream.Collectors;
 public class AlloySDLCLoader
 {
     private final MetaDataServerConfiguration metaDataServerConfiguration;
+    private final SDLCMetadataCache metadataCache;
 
     public AlloySDLCLoader(MetaDataServerConfiguration metaDataServerConfiguration)
+    {
+        this(metaDataServerConfiguration, null);
+    }
+
+    public AlloySDLCLoader(MetaDataServerConfiguration metaDataServerConfiguration, SDLCMetadataCache metadataCache)
     {
         this.metaDataServerConfiguration = metaDataServerConfiguration;
+        this.metadataCache = metadataCache;
     }
 
     public PureModelContextData loadAlloyProject(MutableList<CommonProfile> pm, AlloySDLC alloySDLC, String clientVersion)
     {
-        String url = (alloySDLC.version == null || alloySDLC.version.equals("none") || alloySDLC.version.equals("master-SNAPSHOT")) ?
+        boolean latest = alloySDLC.version == null || alloySDLC.version.equals("none") || alloySDLC.version.equals("master-SNAPSHOT");
+        String url = latest ?
                 metaDataServerConfiguration.getAlloy().getBaseUrl() + "/metadata/api/projects/" + alloySDLC.project + "/revisions/latest/pureModelContextData/" + clientVersion  :
                 metaDataServerConfiguration.getAlloy().getBaseUrl() + "/metadata/api/projects/" + alloySDLC.project + "/versions/" + alloySDLC.version + "/pureModelContextData/" + clientVersion;
-        return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_ALLOY_PROJECT_START, LoggingEventType.METADATA_REQUEST_ALLOY_PROJECT_STOP, url);
+        // Released versions never change, latest revisions are revalidated
+        return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_ALLOY_PROJECT_START, LoggingEventType.METADATA_REQUEST_ALLOY_PROJECT_STOP, url, this.metadataCache, !latest);
     }
 
     public List<String> checkAllPathsExist(PureModelContextData data, AlloySDLC alloySDLC) {
@@ -31,6 +31,10 @@ public class MetaDataServerConfiguration
     public ServerConnectionConfiguration alloy;
     @JsonProperty
     public ServerConnectionConfiguration pure;
+    // Directory where metadata responses are kept across restarts, not cached on disk when not set
+    public String cacheDirectory;
+    // Least recently used responses are deleted once the cache directory goes over this size
+    public long cacheMaximumSizeInMB = 1024;
 
     public MetaDataServerConfiguration()
     {
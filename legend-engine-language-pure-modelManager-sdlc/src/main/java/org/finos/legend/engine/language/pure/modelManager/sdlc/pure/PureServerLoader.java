@@ -16,18 +16,16 @@ package org.finos.legend.engine.language.pure.modelManager.sdlc.pure;
 
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.BasicCookieStore;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.SDLCLoader;
+import org.finos.legend.engine.language.pure.modelManager.sdlc.SDLCMetadataCache;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PackageableElementPointer;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureSDLC;
-import org.finos.legend.engine.shared.core.kerberos.HttpClientBuilder;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.pac4j.core.profile.CommonProfile;
@@ -38,10 +36,17 @@ import javax.security.auth.Subject;
 public class PureServerLoader
 {
     private MetaDataServerConfiguration metaDataServerConfiguration;
+    private final SDLCMetadataCache metadataCache;
 
     public PureServerLoader(MetaDataServerConfiguration metaDataServerConfiguration)
+    {
+        this(metaDataServerConfiguration, null);
+    }
+
+    public PureServerLoader(MetaDataServerConfiguration metaDataServerConfiguration, SDLCMetadataCache metadataCache)
     {
         this.metaDataServerConfiguration = metaDataServerConfiguration;
+        this.metadataCache = metadataCache;
     }
 
     public String buildPureMetadataVersionURL(String urlSuffix)
@@ -56,9 +61,8 @@ public class PureServerLoader
 
     public String getBaseServerVersion(MutableList<CommonProfile> profiles, Subject executionSubject)
     {
-        CloseableHttpClient httpclient =  (CloseableHttpClient) HttpClientBuilder.getHttpClient(new BasicCookieStore());
         HttpGet httpGet = new HttpGet(buildPureMetadataVersionURL(executionSubject == null ? "" : "?auth=kerberos"));
-        try (CloseableHttpResponse response = httpclient.execute(httpGet))
+        try (CloseableHttpResponse response = SDLCLoader.execute(httpGet))
         {
             int statusCode = response.getStatusLine().getStatusCode();
             if (statusCode < 200 || statusCode >= 300)
@@ -89,11 +93,11 @@ public class PureServerLoader
         switch (pointer.type)
         {
             case MAPPING:
-                return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_MAPPING_START, LoggingEventType.METADATA_REQUEST_MAPPING_STOP, buildPureMetadataURL(pointer, "pureModelFromMapping", clientVersion, urlSuffix));
+                return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_MAPPING_START, LoggingEventType.METADATA_REQUEST_MAPPING_STOP, buildPureMetadataURL(pointer, "pureModelFromMapping", clientVersion, urlSuffix), this.metadataCache, false);
             case STORE:
-                return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_STORE_START, LoggingEventType.METADATA_REQUEST_STORE_STOP, buildPureMetadataURL(pointer, "pureModelFromStore", clientVersion, urlSuffix));
+                return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_STORE_START, LoggingEventType.METADATA_REQUEST_STORE_STOP, buildPureMetadataURL(pointer, "pureModelFromStore", clientVersion, urlSuffix), this.metadataCache, false);
             case SERVICE:
-                return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_SERVICE_START, LoggingEventType.METADATA_REQUEST_SERVICE_STOP, buildPureMetadataURL(pointer, "pureModelFromService", clientVersion, urlSuffix));
+                return SDLCLoader.loadMetadataFromHTTPURL(pm, LoggingEventType.METADATA_REQUEST_SERVICE_START, LoggingEventType.METADATA_REQUEST_SERVICE_STOP, buildPureMetadataURL(pointer, "pureModelFromService", clientVersion, urlSuffix), this.metadataCache, false);
             default:
                 throw new UnsupportedOperationException(pointer.type + " is not supported!");
         }
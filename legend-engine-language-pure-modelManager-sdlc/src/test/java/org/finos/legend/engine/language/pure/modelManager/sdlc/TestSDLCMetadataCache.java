@@ -0,0 +1,225 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager.sdlc;
+
+import com.sun.net.httpserver.HttpServer;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.security.auth.Subject;
+import javax.security.auth.kerberos.KerberosPrincipal;
+
+public class TestSDLCMetadataCache
+{
+    private static final String USER = "alice@EXAMPLE.COM";
+    private static final String METADATA = "{\"_type\": \"data\", \"serializer\": {\"name\": \"pure\", \"version\": \"vX_X_X\"}, \"elements\": []}";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        SDLCMetadataCache cache = new SDLCMetadataCache(this.folder.getRoot().getPath(), Long.MAX_VALUE);
+        Assert.assertNull(cache.get(USER, "http://server/a"));
+
+        put(cache, "http://server/a", "\"etag-1\"", METADATA);
+        put(cache, "http://server/b", null, "other");
+
+        SDLCMetadataCache.Entry entry = cache.get(USER, "http://server/a");
+        Assert.assertEquals("\"etag-1\"", entry.getEtag());
+        Assert.assertEquals(METADATA, read(entry));
+        Assert.assertNull(cache.get(USER, "http://server/b").getEtag());
+        Assert.assertEquals("other", read(cache.get(USER, "http://server/b")));
+
+        // Entries survive a restart
+        Assert.assertEquals(METADATA, read(new SDLCMetadataCache(this.folder.getRoot().getPath(), Long.MAX_VALUE).get(USER, "http://server/a")));
+    }
+
+    @Test
+    public void testEntriesAreKeptPerUser() throws IOException
+    {
+        SDLCMetadataCache cache = new SDLCMetadataCache(this.folder.getRoot().getPath(), Long.MAX_VALUE);
+        put(cache, "http://server/a", "\"etag-1\"", METADATA);
+
+        Assert.assertNotNull(cache.get(USER, "http://server/a"));
+        Assert.assertNull(cache.get("bob@EXAMPLE.COM", "http://server/a"));
+        Assert.assertNull(cache.get("", "http://server/a"));
+    }
+
+    @Test
+    public void testAbortedEntriesAreNotStored() throws IOException
+    {
+        SDLCMetadataCache cache = new SDLCMetadataCache(this.folder.getRoot().getPath(), Long.MAX_VALUE);
+        SDLCMetadataCache.CachingInputStream stream = cache.put(USER, "http://server/a", null, new ByteArrayInputStream(METADATA.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(METADATA, readFully(stream));
+        stream.abort();
+        stream.commit();
+
+        Assert.assertNull(cache.get(USER, "http://server/a"));
+        Assert.assertEquals(0, files().size());
+    }
+
+    @Test
+    public void testCorruptedEntriesAreDiscarded() throws IOException
+    {
+        SDLCMetadataCache cache = new SDLCMetadataCache(this.folder.getRoot().getPath(), Long.MAX_VALUE);
+        put(cache, "http://server/a", "\"etag-1\"", METADATA);
+        Path file = files().get(0);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 10] ^= 0xFF;
+        Files.write(file, bytes);
+
+        Assert.assertNull(cache.get(USER, "http://server/a"));
+        Assert.assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws IOException
+    {
+        put(new SDLCMetadataCache(this.folder.getRoot().getPath(), Long.MAX_VALUE), "http://server/size", null, METADATA);
+        long entrySize = Files.size(files().get(0));
+        Files.delete(files().get(0));
+
+        SDLCMetadataCache cache = new SDLCMetadataCache(this.folder.getRoot().getPath(), 2 * entrySize);
+        put(cache, "http://server/a", null, METADATA);
+        put(cache, "http://server/b", null, METADATA);
+        Files.setLastModifiedTime(files().get(0), FileTime.fromMillis(0));
+        Files.setLastModifiedTime(files().get(1), FileTime.fromMillis(0));
+        // Reading marks the entry as used
+        Assert.assertNotNull(cache.get(USER, "http://server/a"));
+        put(cache, "http://server/c", null, METADATA);
+
+        Assert.assertEquals(2, files().size());
+        Assert.assertNotNull(cache.get(USER, "http://server/a"));
+        Assert.assertNull(cache.get(USER, "http://server/b"));
+        Assert.assertNotNull(cache.get(USER, "http://server/c"));
+    }
+
+    @Test
+    public void testResponsesAreRevalidatedWithTheirETag() throws IOException
+    {
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger notModified = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/metadata", exchange ->
+        {
+            requests.incrementAndGet();
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match")))
+            {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            }
+            else
+            {
+                byte[] body = METADATA.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody())
+                {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        try
+        {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/metadata";
+            SDLCMetadataCache cache = new SDLCMetadataCache(this.folder.getRoot().getPath(), Long.MAX_VALUE);
+
+            PureModelContextData first = SDLCLoader.loadMetadataFromHTTPURL(null, LoggingEventType.METADATA_REQUEST_MAPPING_START, LoggingEventType.METADATA_REQUEST_MAPPING_STOP, url, cache, false);
+            Assert.assertEquals("\"v1\"", cache.get("", url).getEtag());
+            PureModelContextData second = SDLCLoader.loadMetadataFromHTTPURL(null, LoggingEventType.METADATA_REQUEST_MAPPING_START, LoggingEventType.METADATA_REQUEST_MAPPING_STOP, url, cache, false);
+            Assert.assertEquals(2, requests.get());
+            Assert.assertEquals(1, notModified.get());
+            Assert.assertEquals(first.getSerializer().version, second.getSerializer().version);
+
+            // Immutable responses are served from the cache without any request
+            SDLCLoader.loadMetadataFromHTTPURL(null, LoggingEventType.METADATA_REQUEST_MAPPING_START, LoggingEventType.METADATA_REQUEST_MAPPING_STOP, url, cache, true);
+            Assert.assertEquals(2, requests.get());
+
+            // But only to the user they were fetched for
+            Subject subject = new Subject(true, Collections.singleton(new KerberosPrincipal(USER)), Collections.emptySet(), Collections.emptySet());
+            Subject.doAs(subject, (PrivilegedAction<PureModelContextData>) () -> SDLCLoader.loadMetadataFromHTTPURL(null, LoggingEventType.METADATA_REQUEST_MAPPING_START, LoggingEventType.METADATA_REQUEST_MAPPING_STOP, url, cache, true));
+            Assert.assertEquals(3, requests.get());
+            Assert.assertNotNull(cache.get(USER, url));
+            Subject.doAs(subject, (PrivilegedAction<PureModelContextData>) () -> SDLCLoader.loadMetadataFromHTTPURL(null, LoggingEventType.METADATA_REQUEST_MAPPING_START, LoggingEventType.METADATA_REQUEST_MAPPING_STOP, url, cache, true));
+            Assert.assertEquals(3, requests.get());
+        }
+        finally
+        {
+            server.stop(0);
+        }
+    }
+
+    private List<Path> files() throws IOException
+    {
+        return Files.list(this.folder.getRoot().toPath()).sorted().collect(Collectors.toList());
+    }
+
+    private static void put(SDLCMetadataCache cache, String url, String etag, String content) throws IOException
+    {
+        SDLCMetadataCache.CachingInputStream stream = cache.put(USER, url, etag, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        try
+        {
+            Assert.assertEquals(content, readFully(stream));
+            stream.commit();
+        }
+        finally
+        {
+            stream.abort();
+        }
+    }
+
+    private static String read(SDLCMetadataCache.Entry entry) throws IOException
+    {
+        try (InputStream stream = entry.openStream())
+        {
+            return readFully(stream);
+        }
+    }
+
+    private static String readFully(InputStream stream) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        int read;
+        while ((read = stream.read(buffer)) != -1)
+        {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
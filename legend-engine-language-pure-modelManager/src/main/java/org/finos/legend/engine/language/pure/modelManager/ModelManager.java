@@ -17,6 +17,7 @@ package org.finos.legend.engine.language.pure.modelManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -35,12 +36,14 @@ import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.slf4j.Logger;
 
-import javax.security.auth.Subject;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 public class ModelManager
@@ -57,15 +60,47 @@ public class ModelManager
     //-------------------------------------------------------------------------------------------------
     public static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
-    public final Cache<PureModelContext, PureModel> pureModelCache = CacheBuilder.newBuilder().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
+    public final Cache<PureModelContext, PureModel> pureModelCache;
     private final DeploymentMode deploymentMode;
     private final MutableList<ModelLoader> modelLoaders;
+    private final List<PureModelCacheWarmUp> warmUp;
+    private final ForkJoinPool compilationPool;
 
     public ModelManager(DeploymentMode mode, ModelLoader... modelLoaders)
+    {
+        this(mode, new PureModelCacheConfiguration(), modelLoaders);
+    }
+
+    public ModelManager(DeploymentMode mode, PureModelCacheConfiguration cacheConfiguration, ModelLoader... modelLoaders)
+    {
+        this(mode, cacheConfiguration, null, modelLoaders);
+    }
+
+    /**
+     * Models are compiled with the heavier compilation passes running in the compilation pool, or sequentially if there
+     * is no pool.
+     */
+    public ModelManager(DeploymentMode mode, PureModelCacheConfiguration cacheConfiguration, ForkJoinPool compilationPool, ModelLoader... modelLoaders)
     {
         this.modelLoaders = Lists.mutable.of(modelLoaders);
         this.modelLoaders.forEach((Procedure<ModelLoader>) loader -> loader.setModelManager(this));
         this.deploymentMode = mode;
+        // Models are evicted least recently used first once their estimated size goes over the maximum weight. Loading
+        // through Cache#get makes concurrent requests for the same key wait for a single compilation.
+        int modelWeightInKB = cacheConfiguration.modelWeightInKB;
+        int elementWeightInKB = cacheConfiguration.elementWeightInKB;
+        this.pureModelCache = CacheBuilder.newBuilder()
+                .maximumWeight(cacheConfiguration.maximumWeightInMB * 1024)
+                .weigher((PureModelContext key, PureModel pureModel) -> modelWeightInKB + elementWeightInKB * pureModel.getElementCount())
+                .expireAfterAccess(cacheConfiguration.expireAfterAccessInMinutes, TimeUnit.MINUTES)
+                .build();
+        for (PureModelCacheWarmUp warmUp : cacheConfiguration.warmUp)
+        {
+            Assert.assertTrue(warmUp.clientVersion != null, () -> "Client version should be set for the models to warm up the PureModel cache with");
+            Assert.assertTrue(warmUp.pointer != null && this.modelLoaderForContext(warmUp.pointer).shouldCache(warmUp.pointer), () -> "Only models which are cached can warm up the PureModel cache");
+        }
+        this.warmUp = cacheConfiguration.warmUp;
+        this.compilationPool = compilationPool;
     }
 
     // Remove clientVersion
@@ -73,7 +108,7 @@ public class ModelManager
     {
         if(context instanceof PureModelContextData || context instanceof PureModelContextText)
         {
-            return Compiler.compile(this.loadData(context, clientVersion, pm), this.deploymentMode, pm, packageOffset);
+            return Compiler.compile(this.loadData(context, clientVersion, pm), this.deploymentMode, pm, packageOffset, this.compilationPool);
         }
         else
         {
@@ -81,16 +116,53 @@ public class ModelManager
             if (loader.shouldCache(context))
             {
                 PureModelContext cacheKey = loader.cacheKey(context, pm);
+                boolean[] loaded = {false};
+                PureModel pureModel;
                 try
                 {
-                    return this.pureModelCache.get(cacheKey, () -> Compiler.compile(this.loadData(cacheKey, clientVersion, pm), this.deploymentMode, pm, packageOffset));
+                    pureModel = this.pureModelCache.get(cacheKey, () ->
+                    {
+                        loaded[0] = true;
+                        long start = System.currentTimeMillis();
+                        PureModel result = Compiler.compile(this.loadData(cacheKey, clientVersion, pm), this.deploymentMode, pm, packageOffset, this.compilationPool);
+                        MetricsHandler.observe("PureModel cache load", start, System.currentTimeMillis());
+                        return result;
+                    });
                 }
-                catch (ExecutionException e)
+                catch (ExecutionException | UncheckedExecutionException e)
                 {
+                    if (e.getCause() instanceof EngineException)
+                    {
+                        throw (EngineException) e.getCause();
+                    }
                     throw new EngineException("Engine was not able to cache", e);
                 }
+                // Requests which waited for another thread to load the model count as hits
+                MetricsHandler.observeCount(loaded[0] ? "PureModel cache miss" : "PureModel cache hit");
+                return pureModel;
+            }
+            return Compiler.compile(this.loadData(context, clientVersion, pm), this.deploymentMode, pm, packageOffset, this.compilationPool);
+        }
+    }
+
+    /**
+     * Compiles and caches the models of the cache configuration, logging (rather than failing on) the ones which cannot
+     * be loaded
+     */
+    public void warmUp(MutableList<CommonProfile> pm)
+    {
+        for (PureModelCacheWarmUp warmUp : this.warmUp)
+        {
+            try
+            {
+                long start = System.currentTimeMillis();
+                this.loadModel(warmUp.pointer, warmUp.clientVersion, pm, null);
+                LOGGER.info("Warmed up PureModel cache with " + warmUp.pointer.sdlcInfo.packageableElementPointers + " in " + (System.currentTimeMillis() - start) + "ms");
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Unable to warm up PureModel cache with " + warmUp.pointer.sdlcInfo.packageableElementPointers, e);
             }
-            return Compiler.compile(this.loadData(context, clientVersion, pm), this.deploymentMode, pm, packageOffset);
         }
     }
 
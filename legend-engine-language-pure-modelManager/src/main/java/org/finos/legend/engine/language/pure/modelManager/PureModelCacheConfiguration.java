@@ -0,0 +1,42 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import java.util.Collections;
+import java.util.List;
+
+public class PureModelCacheConfiguration
+{
+    // Bound on the estimated size of the cached models. A model is estimated at modelWeightInKB plus elementWeightInKB
+    // per element. These defaults are rough guesses, not measurements: compiled elements vary a lot in size (a mapping
+    // retains far more than an enumeration), so tune them against heap dumps of the models actually served.
+    public long maximumWeightInMB = 4096;
+    public int modelWeightInKB = 1024;
+    public int elementWeightInKB = 32;
+    public long expireAfterAccessInMinutes = 30;
+    // Models compiled and cached when the server starts. Only pointers which are cached (Pure SDLC) are accepted.
+    public List<PureModelCacheWarmUp> warmUp = Collections.emptyList();
+
+    public PureModelCacheConfiguration()
+    {
+        // DO NOT DELETE: this resets the default constructor for Jackson
+    }
+
+    public PureModelCacheConfiguration(long maximumWeightInMB, long expireAfterAccessInMinutes)
+    {
+        this.maximumWeightInMB = maximumWeightInMB;
+        this.expireAfterAccessInMinutes = expireAfterAccessInMinutes;
+    }
+}
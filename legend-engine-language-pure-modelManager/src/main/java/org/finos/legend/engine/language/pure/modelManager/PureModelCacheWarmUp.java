@@ -0,0 +1,35 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+
+public class PureModelCacheWarmUp
+{
+    // Protocol version the metadata is requested in, as a client would send it (e.g. vX_X_X)
+    public String clientVersion;
+    public PureModelContextPointer pointer;
+
+    public PureModelCacheWarmUp()
+    {
+        // DO NOT DELETE: this resets the default constructor for Jackson
+    }
+
+    public PureModelCacheWarmUp(String clientVersion, PureModelContextPointer pointer)
+    {
+        this.clientVersion = clientVersion;
+        this.pointer = pointer;
+    }
+}
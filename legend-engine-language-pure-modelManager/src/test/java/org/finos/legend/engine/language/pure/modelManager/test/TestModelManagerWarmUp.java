@@ -0,0 +1,128 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager.test;
+
+import io.opentracing.Span;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
+import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.pure.modelManager.PureModelCacheConfiguration;
+import org.finos.legend.engine.language.pure.modelManager.PureModelCacheWarmUp;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PackageableElementPointer;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PackageableElementType;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureSDLC;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pac4j.core.profile.CommonProfile;
+
+import java.util.Collections;
+
+public class TestModelManagerWarmUp
+{
+    @Test
+    public void testWarmUpLoadsWithClientVersionAndCaches()
+    {
+        PureModelContextPointer pointer = purePointer();
+        PureModelCacheConfiguration configuration = new PureModelCacheConfiguration();
+        configuration.warmUp = Collections.singletonList(new PureModelCacheWarmUp("vX_X_X", pointer));
+        CountingModelLoader loader = new CountingModelLoader();
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, configuration, loader);
+
+        manager.warmUp(Lists.mutable.empty());
+        Assert.assertEquals(1, loader.loads);
+        Assert.assertEquals("vX_X_X", loader.clientVersion);
+        Assert.assertEquals(1, manager.pureModelCache.size());
+
+        Assert.assertSame(manager.pureModelCache.getIfPresent(pointer), manager.loadModel(purePointer(), "vX_X_X", Lists.mutable.empty(), null));
+        Assert.assertEquals(1, loader.loads);
+    }
+
+    @Test
+    public void testWarmUpRejectsModelsWhichAreNotCached()
+    {
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = new AlloySDLC();
+        assertRejected(new PureModelCacheWarmUp("vX_X_X", pointer), "Only models which are cached can warm up the PureModel cache");
+        assertRejected(new PureModelCacheWarmUp(null, purePointer()), "Client version should be set for the models to warm up the PureModel cache with");
+    }
+
+    private static void assertRejected(PureModelCacheWarmUp warmUp, String message)
+    {
+        PureModelCacheConfiguration configuration = new PureModelCacheConfiguration();
+        configuration.warmUp = Collections.singletonList(warmUp);
+        try
+        {
+            new ModelManager(DeploymentMode.TEST, configuration, new CountingModelLoader());
+            Assert.fail("Expected the warm up configuration to be rejected");
+        }
+        catch (EngineException e)
+        {
+            Assert.assertEquals(message, e.getMessage());
+        }
+    }
+
+    private static PureModelContextPointer purePointer()
+    {
+        PureSDLC sdlc = new PureSDLC();
+        sdlc.packageableElementPointers = Collections.singletonList(new PackageableElementPointer(PackageableElementType.MAPPING, "meta::test::mapping"));
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+
+    private static class CountingModelLoader implements ModelLoader
+    {
+        private int loads;
+        private String clientVersion;
+
+        @Override
+        public boolean supports(PureModelContext context)
+        {
+            return context instanceof PureModelContextPointer;
+        }
+
+        @Override
+        public PureModelContextData load(MutableList<CommonProfile> profiles, PureModelContext context, String clientVersion, Span parentSpan)
+        {
+            this.loads++;
+            this.clientVersion = clientVersion;
+            return PureModelContextData.newPureModelContextData();
+        }
+
+        @Override
+        public void setModelManager(ModelManager modelManager)
+        {
+        }
+
+        @Override
+        public boolean shouldCache(PureModelContext context)
+        {
+            return this.supports(context) && ((PureModelContextPointer) context).sdlcInfo instanceof PureSDLC;
+        }
+
+        @Override
+        public PureModelContext cacheKey(PureModelContext context, MutableList<CommonProfile> pm)
+        {
+            return context;
+        }
+    }
+}
@@ -256,7 +256,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parse(parser, func);
     }
 
     private DatasourceSpecification parseDataSourceSpecification(DataSourceSpecificationSourceCode code, Function<DataSourceSpecificationParserGrammar, DatasourceSpecification> func)
@@ -271,7 +271,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parse(parser, func);
     }
 
     private Milestoning parseMilestoning(MilestoningSpecificationSourceCode code, Function<RelationalParserGrammar, Milestoning> func)
@@ -286,7 +286,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parse(parser, func);
     }
 
     private static SourceCodeParserInfo getRelationalParserInfo(SectionSourceCode sectionSourceCode)
@@ -299,7 +299,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         RelationalParserGrammar parser = new RelationalParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, RelationalParserGrammar::definition));
     }
 
     private static SourceCodeParserInfo getRelationalMappingElementParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -312,7 +312,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         RelationalParserGrammar parser = new RelationalParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        RelationalParserGrammar.MappingContext mappingContext = parser.mapping();
+        RelationalParserGrammar.MappingContext mappingContext = PureGrammarParserUtility.parse(parser, RelationalParserGrammar::mapping);
         ParserRuleContext associationMappingCtx = mappingContext.associationMapping();
         ParserRuleContext classMappingCtx = mappingContext.classMapping();
         return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, associationMappingCtx != null ? associationMappingCtx : classMappingCtx);
@@ -328,7 +328,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         RelationalDatabaseConnectionParserGrammar parser = new RelationalDatabaseConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parse(parser, RelationalDatabaseConnectionParserGrammar::definition));
     }
 
     public static RelationalOperationElement parseRelationalOperationElement(String code, boolean returnSourceInfo)
@@ -343,6 +343,6 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         RelationalParseTreeWalker walker = new RelationalParseTreeWalker(parseTreeWalkerSourceInformation);
-        return walker.visitOperation(parser.operation(), null);
+        return walker.visitOperation(PureGrammarParserUtility.parse(parser, RelationalParserGrammar::operation), null);
     }
 }
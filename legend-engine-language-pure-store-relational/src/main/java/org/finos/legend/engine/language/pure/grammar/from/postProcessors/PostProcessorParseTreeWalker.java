@@ -50,7 +50,7 @@ public class PostProcessorParseTreeWalker
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parse(parser, func);
     }
 
     public MapperPostProcessor visitMapperPostProcessor(PostProcessorSpecificationSourceCode code, PostProcessorParserGrammar.MapperPostProcessorContext ctx) {
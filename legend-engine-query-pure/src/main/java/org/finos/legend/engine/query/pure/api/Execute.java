@@ -37,6 +37,9 @@ import org.finos.legend.engine.plan.generation.transformers.PlanTransformer;
 import org.finos.legend.engine.plan.platform.PlanPlatform;
 import org.finos.legend.engine.protocol.pure.PureClientVersions;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.connection.Connection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.EngineRuntime;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.LegacyRuntime;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.Runtime;
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.Variable;
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.executionContext.ExecutionContext;
@@ -65,6 +68,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.util.List;
 
 import static org.finos.legend.engine.plan.execution.api.result.ResultManager.manageResult;
 import static org.finos.legend.engine.shared.core.operational.http.InflateInterceptor.APPLICATION_ZLIB;
@@ -75,6 +79,8 @@ import static org.finos.legend.engine.shared.core.operational.http.InflateInterc
 public class Execute
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
+    private static final String EXECUTE_PATH = "pure/v1/execution/execute";
+    private static final String GENERATE_PLAN_PATH = "pure/v1/execution/generatePlan";
     private final ModelManager modelManager;
     private final PlanExecutor planExecutor;
     private Function<PureModel, RichIterable<? extends Root_meta_pure_router_extension_RouterExtension>> extensions;
@@ -132,8 +138,10 @@ public class Execute
             org.finos.legend.pure.m3.coreinstance.meta.pure.runtime.Runtime runtime = HelperRuntimeBuilder.buildPureRuntime(executeInput.runtime, pureModel.getContext());
             org.finos.legend.pure.m3.coreinstance.meta.pure.runtime.ExecutionContext context = HelperValueSpecificationBuilder.processExecutionContext(executeInput.context, pureModel.getContext());
             String plan = PlanGenerator.generateExecutionPlanAsString(lambda, mapping, runtime, context, pureModel, clientVersion, PlanPlatform.JAVA, null, this.extensions.apply(pureModel), this.transformers);
-            LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_PLAN_GENERATION_STOP, (double)System.currentTimeMillis() - start).toString());
-            MetricsHandler.observe("generate plan", start, System.currentTimeMillis());
+            long end = System.currentTimeMillis();
+            LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_PLAN_GENERATION_STOP, (double)end - start).toString());
+            MetricsHandler.observe("generate plan", start, end);
+            MetricsHandler.PLAN_GENERATION_DURATION.observe(start, end, GENERATE_PLAN_PATH, storeType(executeInput.runtime));
             return Response.ok().type(MediaType.APPLICATION_JSON_TYPE).entity(plan).build();
         }
         catch (Exception ex)
@@ -162,8 +170,10 @@ public class Execute
                     this.transformers
             );
             Result result = planExecutor.execute(plan, Maps.mutable.empty(), user, pm);
-            LOGGER.info(new LogInfo(pm, LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double)System.currentTimeMillis() - start).toString());
-            MetricsHandler.observe("execute", start, System.currentTimeMillis());
+            long end = System.currentTimeMillis();
+            LOGGER.info(new LogInfo(pm, LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double)end - start).toString());
+            MetricsHandler.observe("execute", start, end);
+            MetricsHandler.EXECUTE_DURATION.observe(start, end, EXECUTE_PATH, storeType(runtime), format == null ? null : format.name());
             try (Scope scope = GlobalTracer.get().buildSpan("Manage Results").startActive(true))
             {
                 return manageResult(pm, result, format, LoggingEventType.EXECUTE_INTERACTIVE_ERROR);
@@ -176,4 +186,22 @@ public class Execute
             return ExceptionTool.exceptionManager(ex, LoggingEventType.EXECUTE_INTERACTIVE_ERROR, pm);
         }
     }
+
+    private static String storeType(Runtime runtime)
+    {
+        if (runtime instanceof LegacyRuntime)
+        {
+            List<Connection> connections = ((LegacyRuntime) runtime).connections;
+            return connections.isEmpty() ? null : connections.get(0).getClass().getSimpleName();
+        }
+        if (runtime instanceof EngineRuntime)
+        {
+            return ((EngineRuntime) runtime).connections.stream()
+                    .filter(storeConnections -> !storeConnections.storeConnections.isEmpty())
+                    .findFirst()
+                    .map(storeConnections -> storeConnections.storeConnections.get(0).connection.getClass().getSimpleName())
+                    .orElse(null);
+        }
+        return null;
+    }
 }
@@ -42,6 +42,7 @@ import org.finos.legend.engine.language.pure.grammar.api.grammarToJson.Transform
 import org.finos.legend.engine.language.pure.grammar.api.jsonToGrammar.TransformJsonToGrammar;
 import org.finos.legend.engine.language.pure.grammar.api.relationalOperationElement.TransformRelationalOperationElementGrammarToJson;
 import org.finos.legend.engine.language.pure.grammar.api.relationalOperationElement.TransformRelationalOperationElementJsonToGrammar;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.SDLCLoader;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
@@ -85,6 +86,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
 
 public class Server extends Application<ServerConfiguration>
 {
@@ -128,7 +130,14 @@ public class Server extends Application<ServerConfiguration>
         DeploymentStateAndVersions.DEPLOYMENT_MODE = serverConfiguration.deployment.mode;
 
         SDLCLoader sdlcLoader = new SDLCLoader(serverConfiguration.metadataserver, null);
-        ModelManager modelManager = new ModelManager(serverConfiguration.deployment.mode, sdlcLoader);
+        ForkJoinPool compilationPool = serverConfiguration.compilationParallelism > 0 ? new ForkJoinPool(serverConfiguration.compilationParallelism) : null;
+        ModelManager modelManager = new ModelManager(serverConfiguration.deployment.mode, serverConfiguration.pureModelCache, compilationPool, sdlcLoader);
+        if (!serverConfiguration.pureModelCache.warmUp.isEmpty())
+        {
+            Thread warmUp = new Thread(() -> modelManager.warmUp(Lists.mutable.empty()), "PureModel cache warm up");
+            warmUp.setDaemon(true);
+            warmUp.start();
+        }
 
         ChainFixingFilterHandler.apply(environment.getApplicationContext(), serverConfiguration.filterPriorities);
 
@@ -151,7 +160,8 @@ public class Server extends Application<ServerConfiguration>
         environment.jersey().register(new Memory());
 
         // Grammar
-        environment.jersey().register(new TransformGrammarToJson());
+        PureGrammarParser.warmUp();
+        environment.jersey().register(new TransformGrammarToJson(ForkJoinPool.commonPool()));
         environment.jersey().register(new TransformJsonToGrammar());
         environment.jersey().register(new TransformRelationalOperationElementGrammarToJson());
         environment.jersey().register(new TransformRelationalOperationElementJsonToGrammar());
@@ -16,6 +16,7 @@ package org.finos.legend.engine.server;
 
 import io.dropwizard.Configuration;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import org.finos.legend.engine.language.pure.modelManager.PureModelCacheConfiguration;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
@@ -35,6 +36,9 @@ public class ServerConfiguration extends Configuration
     public OpenTracingConfiguration opentracing;
     public Map<String, Integer> filterPriorities;
     public MetaDataServerConfiguration metadataserver;
+    public PureModelCacheConfiguration pureModelCache = new PureModelCacheConfiguration();
+    // Number of threads compiling the elements of a model concurrently, 0 to compile them sequentially
+    public int compilationParallelism = 0;
     public List<VaultConfiguration> vaults;
 
     public RelationalExecutionConfiguration relationalexecution;
@@ -16,6 +16,7 @@ package org.finos.legend.engine.shared.core.kerberos;
 
 import org.apache.http.auth.AuthScheme;
 import org.apache.http.auth.AuthSchemeFactory;
+import org.apache.http.auth.AuthSchemeProvider;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
 import org.apache.http.auth.KerberosCredentials;
@@ -24,10 +25,16 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.AuthSchemes;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.impl.auth.SPNegoScheme;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
 import org.ietf.jgss.GSSContext;
 import org.ietf.jgss.GSSCredential;
 import org.ietf.jgss.GSSException;
@@ -40,25 +47,50 @@ import java.security.Principal;
 
 public class HttpClientBuilder
 {
+    private static final AuthScope ANY_SCOPE = new AuthScope(AuthScope.ANY_HOST, AuthScope.ANY_PORT, AuthScope.ANY_REALM);
+    // SPNEGO gets the credentials from the current subject, so the credentials set on the client are empty
+    private static final Credentials NO_CREDENTIALS = new Credentials()
+    {
+        @Override
+        public String getPassword()
+        {
+            return null;
+        }
+
+        @Override
+        public Principal getUserPrincipal()
+        {
+            return null;
+        }
+    };
+
     public static HttpClient getHttpClient(CookieStore cookieStore)
     {
-        DefaultHttpClient httpclient = new DefaultHttpClient();
+        return configure(new DefaultHttpClient(), cookieStore);
+    }
+
+    /**
+     * Client keeping up to maxConnections connections alive, to be shared across requests. As the client is shared, a
+     * cookie store should be set per request (see HttpClientContext#COOKIE_STORE) rather than on the client.
+     */
+    public static CloseableHttpClient getPooledHttpClient(int maxConnections)
+    {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(ANY_SCOPE, NO_CREDENTIALS);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultAuthSchemeRegistry(RegistryBuilder.<AuthSchemeProvider>create().register(AuthSchemes.SPNEGO, new SPNegoWithDelegationSchemeFactory()).build())
+                .setDefaultCredentialsProvider(credentialsProvider)
+                .build();
+    }
+
+    private static HttpClient configure(DefaultHttpClient httpclient, CookieStore cookieStore)
+    {
         httpclient.getAuthSchemes().register(AuthSchemes.SPNEGO, new SPNegoWithDelegationSchemeFactory());
-        Credentials credentials = new Credentials()
-        {
-            @Override
-            public String getPassword()
-            {
-                return null;
-            }
-
-            @Override
-            public Principal getUserPrincipal()
-            {
-                return null;
-            }
-        };
-        httpclient.getCredentialsProvider().setCredentials(new AuthScope(AuthScope.ANY_HOST, AuthScope.ANY_PORT, AuthScope.ANY_REALM), credentials);
+        httpclient.getCredentialsProvider().setCredentials(ANY_SCOPE, NO_CREDENTIALS);
         httpclient.setCookieStore(cookieStore);
         return httpclient;
     }
@@ -72,13 +104,19 @@ public class HttpClientBuilder
         return cookieStore;
     }
 
-    private static class SPNegoWithDelegationSchemeFactory implements AuthSchemeFactory
+    private static class SPNegoWithDelegationSchemeFactory implements AuthSchemeFactory, AuthSchemeProvider
     {
         @Override
         public AuthScheme newInstance(HttpParams params)
         {
             return new SPNegoWithDelegationScheme();
         }
+
+        @Override
+        public AuthScheme create(HttpContext context)
+        {
+            return new SPNegoWithDelegationScheme();
+        }
     }
 
     private static class SPNegoWithDelegationScheme extends SPNegoScheme
@@ -0,0 +1,108 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.operational.prometheus;
+
+import io.prometheus.client.Histogram;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Duration histogram with a fixed set of labels. The children of the histogram are kept in a tree of concurrent maps
+ * (one level per label) so that, once a combination of label values has been seen, recording a duration neither
+ * locks nor allocates. Label values must come from a small, bounded set (paths, store types, formats...).
+ */
+public class LabeledHistogram
+{
+    static final String NO_VALUE = "none";
+    private static final double[] BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300};
+
+    private final Histogram histogram;
+    private final int labelCount;
+    private final Node root = new Node();
+
+    LabeledHistogram(String name, String help, String... labelNames)
+    {
+        this.histogram = Histogram.build().name(name).help(help).buckets(BUCKETS).labelNames(labelNames).register();
+        this.labelCount = labelNames.length;
+    }
+
+    public void observe(long startTime, long endTime, String value)
+    {
+        checkLabelCount(1);
+        Node leaf = next(this.root, value);
+        Histogram.Child child = leaf.child;
+        if (child == null)
+        {
+            child = leaf.child = this.histogram.labels(normalize(value));
+        }
+        child.observe(toSeconds(startTime, endTime));
+    }
+
+    public void observe(long startTime, long endTime, String value1, String value2)
+    {
+        checkLabelCount(2);
+        Node leaf = next(next(this.root, value1), value2);
+        Histogram.Child child = leaf.child;
+        if (child == null)
+        {
+            child = leaf.child = this.histogram.labels(normalize(value1), normalize(value2));
+        }
+        child.observe(toSeconds(startTime, endTime));
+    }
+
+    public void observe(long startTime, long endTime, String value1, String value2, String value3)
+    {
+        checkLabelCount(3);
+        Node leaf = next(next(next(this.root, value1), value2), value3);
+        Histogram.Child child = leaf.child;
+        if (child == null)
+        {
+            child = leaf.child = this.histogram.labels(normalize(value1), normalize(value2), normalize(value3));
+        }
+        child.observe(toSeconds(startTime, endTime));
+    }
+
+    private void checkLabelCount(int count)
+    {
+        if (count != this.labelCount)
+        {
+            throw new IllegalArgumentException("Expected " + this.labelCount + " label value(s), got " + count);
+        }
+    }
+
+    private static Node next(Node node, String value)
+    {
+        String key = normalize(value);
+        Node next = node.children.get(key);
+        return (next == null) ? node.children.computeIfAbsent(key, k -> new Node()) : next;
+    }
+
+    private static String normalize(String value)
+    {
+        return (value == null) ? NO_VALUE : value;
+    }
+
+    private static double toSeconds(long startTime, long endTime)
+    {
+        return (endTime - startTime) / 1000d;
+    }
+
+    private static class Node
+    {
+        private final ConcurrentHashMap<String, Node> children = new ConcurrentHashMap<>();
+        // Histogram#labels returns the same child for the same values, so racing to set this is harmless
+        private volatile Histogram.Child child;
+    }
+}
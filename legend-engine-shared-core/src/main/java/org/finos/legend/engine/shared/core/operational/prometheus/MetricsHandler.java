@@ -17,22 +17,31 @@ package org.finos.legend.engine.shared.core.operational.prometheus;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Summary;
-import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.impl.factory.Maps;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Metrics are looked up in concurrent maps: recording a value for a metric which already exists takes no lock, and
+ * metrics are created (and registered) exactly once, on first use.
+ */
 public class MetricsHandler
 {
     public static final String METRIC_PREFIX = "alloy_";
     private static final String[] empty  = new String[]{};
-    static MutableMap<String, Summary> serviceMetrics = Maps.mutable.empty();
-    static MutableMap<String, Gauge> serviceErrors = Maps.mutable.empty();
-    static MutableMap<String , Gauge> gauges = Maps.mutable.empty();
-    static MutableMap<String , Counter> errorCounters = Maps.mutable.empty();
+    static final ConcurrentMap<String, Summary> serviceMetrics = new ConcurrentHashMap<>();
+    static final ConcurrentMap<String, Gauge> serviceErrors = new ConcurrentHashMap<>();
+    static final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+    static final ConcurrentMap<String, Counter> errorCounters = new ConcurrentHashMap<>();
     static final Gauge allExecutions = Gauge.build().name("alloy_executions").help("Execution gauge metric ").register();
     static final Gauge allExecutionErrors = Gauge.build().name("alloy_executions_errors").help("Execution error gauge metric ").register();
 
+    public static final LabeledHistogram EXECUTE_DURATION = new LabeledHistogram(METRIC_PREFIX + "execute_duration_seconds", "Execution duration histogram", "path", "store_type", "serialization_format");
+    public static final LabeledHistogram PLAN_GENERATION_DURATION = new LabeledHistogram(METRIC_PREFIX + "plan_generation_duration_seconds", "Execution plan generation duration histogram", "path", "store_type");
+    public static final LabeledHistogram COMPILE_DURATION = new LabeledHistogram(METRIC_PREFIX + "compile_duration_seconds", "Pure model compilation duration histogram", "path", "model_type");
+    public static final LabeledHistogram JAVA_COMPILATION_DURATION = new LabeledHistogram(METRIC_PREFIX + "java_compilation_duration_seconds", "Java compilation duration histogram", "java_version");
+
     public static <T> void createMetrics(Class<T> c)
     {
         for (Method m : c.getMethods())
@@ -40,13 +49,9 @@ public class MetricsHandler
             if (m.isAnnotationPresent(Prometheus.class))
             {
                 Prometheus val = m.getAnnotation(Prometheus.class);
-                if (val.type() == Prometheus.Type.SUMMARY && (serviceMetrics.get(val.name()) ==null))
+                if (val.type() == Prometheus.Type.SUMMARY)
                 {
-                    Summary g = Summary.build().name(generateMetricName(val.name(), false))
-                                       .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
-                                       .help(val.doc())
-                                       .register();
-                    serviceMetrics.put(val.name(), g);
+                    serviceMetrics.computeIfAbsent(val.name(), name -> buildSummary(name, val.doc()));
                 }
             }
         }
@@ -62,89 +67,92 @@ public class MetricsHandler
         allExecutionErrors.inc();
     }
 
-    public static synchronized void observe(String name, long startTime, long endTime)
+    public static void observe(String name, long startTime, long endTime)
     {
-        if (serviceMetrics.get(name) == null)
-        {
-            Summary g = Summary.build().name(generateMetricName(name, false))
-                               .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
-                               .help(name + " duration metrics")
-                               .register();
-            serviceMetrics.put(name, g);
-            g.observe((endTime - startTime) / 1000F);
-        }
-        else
+        Summary summary = serviceMetrics.get(name);
+        if (summary == null)
         {
-            serviceMetrics.get(name).observe((endTime - startTime) / 1000F);
+            summary = serviceMetrics.computeIfAbsent(name, n -> buildSummary(n, n + " duration metrics"));
         }
+        summary.observe((endTime - startTime) / 1000F);
     }
 
-    public static synchronized void observeCount(String name) {
-        observeCount(name, empty,empty, false);
+    public static void observeCount(String name)
+    {
+        observeCount(name, empty, empty, false);
     }
 
-    public static synchronized void decrementCount(String name) {
-        observeCount(name, empty,empty, true);
+    public static void decrementCount(String name)
+    {
+        observeCount(name, empty, empty, true);
     }
 
-    public static synchronized void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
+    public static void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
     {
-        Gauge g;
-        if (gauges.get(name) == null)
+        Gauge g = gauges.get(name);
+        if (g == null)
         {
-            g = Gauge.build().name(generateMetricName(name,false))
-                    .help(name + " gauge metric")
-                    .labelNames(labelNames).register();
-            gauges.put(name, g);
-            if (decrement) {
-                g.labels(labelValues).dec();
-            } else {
-                g.labels(labelValues).inc();
+            g = gauges.computeIfAbsent(name, n -> Gauge.build().name(generateMetricName(n, false))
+                    .help(n + " gauge metric")
+                    .labelNames(labelNames).register());
+        }
+        Gauge.Child child = (labelValues.length == 0) ? null : g.labels(labelValues);
+        if (decrement)
+        {
+            if (child == null)
+            {
+                g.dec();
+            }
+            else
+            {
+                child.dec();
             }
         }
         else
         {
-           g = gauges.get(name);
-            if (decrement) {
-                g.labels(labelValues).dec();
-            } else {
-                g.labels(labelValues).inc();
+            if (child == null)
+            {
+                g.inc();
+            }
+            else
+            {
+                child.inc();
             }
         }
     }
 
-    public static synchronized void observeErrorCount(String name) {
-        observeErrorCount(name, empty,empty);
+    public static void observeErrorCount(String name)
+    {
+        observeErrorCount(name, empty, empty);
     }
 
-    public static synchronized void observeErrorCount(String name,  String[] labelNames, String[] labelValues)
+    public static void observeErrorCount(String name,  String[] labelNames, String[] labelValues)
     {
-        if (errorCounters.get(name) == null)
+        Counter c = errorCounters.get(name);
+        if (c == null)
         {
-            Counter c = Counter.build().name(generateMetricName(name,true))
-                    .help(name+" count metric")
-                    .labelNames(labelNames).register();
-            errorCounters.put(name, c);
-            c.labels(labelValues).inc();
+            c = errorCounters.computeIfAbsent(name, n -> Counter.build().name(generateMetricName(n, true))
+                    .help(n + " count metric")
+                    .labelNames(labelNames).register());
+        }
+        if (labelValues.length == 0)
+        {
+            c.inc();
         }
         else
         {
-            errorCounters.get(name).labels(labelValues).inc();
+            c.labels(labelValues).inc();
         }
     }
 
-    public static synchronized void observeError(String name)
+    public static void observeError(String name)
     {
-        if (serviceErrors.get(name) == null)
+        Gauge g = serviceErrors.get(name);
+        if (g == null)
         {
-           Gauge g = Gauge.build().name(generateMetricName(name, true)).help(name + "error gauge").register();
-            serviceErrors.put(name, g);
-            g.inc();
-        }
-        else
-        {
-            serviceErrors.get(name).inc();
+            g = serviceErrors.computeIfAbsent(name, n -> Gauge.build().name(generateMetricName(n, true)).help(n + "error gauge").register());
         }
+        g.inc();
     }
 
     public static String generateMetricName(String name, boolean isErrorMetric)
@@ -156,4 +164,12 @@ public class MetricsHandler
                 .replace("}", "")
                 .replaceAll(" ", "_") + (isErrorMetric ? "_errors" : "");
     }
+
+    private static Summary buildSummary(String name, String help)
+    {
+        return Summary.build().name(generateMetricName(name, false))
+                .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
+                .help(help)
+                .register();
+    }
 }
@@ -0,0 +1,83 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class ParallelTasks
+{
+    @FunctionalInterface
+    public interface IndexedTask<T, E extends Exception>
+    {
+        T run(int index) throws E;
+    }
+
+    /**
+     * Runs the tasks 0 to size - 1 concurrently in the pool and waits for all of them. The results are returned in
+     * index order and, if several tasks fail, the error of the first one (in index order) is thrown, as in a sequential
+     * run.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E extends Exception> List<T> collect(ForkJoinPool forkJoinPool, int size, IndexedTask<? extends T, E> task) throws E
+    {
+        Object[] results = new Object[size];
+        Exception[] errors = new Exception[size];
+        try
+        {
+            forkJoinPool.submit(() -> IntStream.range(0, size).parallel().forEach(i ->
+            {
+                try
+                {
+                    results[i] = task.run(i);
+                }
+                catch (Exception e)
+                {
+                    errors[i] = e;
+                }
+            })).get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        for (Exception error : errors)
+        {
+            if (error instanceof RuntimeException)
+            {
+                throw (RuntimeException) error;
+            }
+            if (error != null)
+            {
+                // Only the task can throw a checked exception, so it is an E
+                throw (E) error;
+            }
+        }
+        return (List<T>) Arrays.asList(results);
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.operational.prometheus;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TestMetricsHandler
+{
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    public void testConcurrentRecording() throws Exception
+    {
+        String[] stores = {"RelationalDatabaseConnection", "JsonModelConnection"};
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++)
+            {
+                String store = stores[t % stores.length];
+                futures.add(executor.submit(() ->
+                {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++)
+                    {
+                        MetricsHandler.observeCount("test concurrent count");
+                        MetricsHandler.observe("test concurrent summary", 0, i);
+                        MetricsHandler.EXECUTE_DURATION.observe(0, i, "test/path", store, "DEFAULT");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        CollectorRegistry registry = CollectorRegistry.defaultRegistry;
+        Assert.assertEquals(THREADS * ITERATIONS, registry.getSampleValue("alloy_test_concurrent_count"), 0);
+        Assert.assertEquals(THREADS * ITERATIONS, registry.getSampleValue("alloy_test_concurrent_summary_count"), 0);
+        String[] labelNames = {"path", "store_type", "serialization_format"};
+        Assert.assertEquals(THREADS * ITERATIONS / 2, registry.getSampleValue("alloy_execute_duration_seconds_count", labelNames, new String[]{"test/path", stores[0], "DEFAULT"}), 0);
+        Assert.assertEquals(THREADS * ITERATIONS / 2, registry.getSampleValue("alloy_execute_duration_seconds_count", labelNames, new String[]{"test/path", stores[1], "DEFAULT"}), 0);
+    }
+
+    @Test
+    public void testMissingLabelValues()
+    {
+        MetricsHandler.PLAN_GENERATION_DURATION.observe(0, 10, "test/missing", null);
+        Assert.assertEquals(1, CollectorRegistry.defaultRegistry.getSampleValue("alloy_plan_generation_duration_seconds_count", new String[]{"path", "store_type"}, new String[]{"test/missing", LabeledHistogram.NO_VALUE}), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongNumberOfLabelValues()
+    {
+        MetricsHandler.JAVA_COMPILATION_DURATION.observe(0, 10, "JAVA_8", "extra");
+    }
+}
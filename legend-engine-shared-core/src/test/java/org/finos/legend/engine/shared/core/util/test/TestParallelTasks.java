@@ -0,0 +1,96 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.util.test;
+
+import org.finos.legend.engine.shared.core.util.ParallelTasks;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestParallelTasks
+{
+    private static ForkJoinPool forkJoinPool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        forkJoinPool.shutdownNow();
+    }
+
+    @Test
+    public void resultsInIndexOrder()
+    {
+        List<String> results = ParallelTasks.collect(forkJoinPool, 100, i -> "task" + i);
+        Assert.assertEquals(IntStream.range(0, 100).mapToObj(i -> "task" + i).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void firstErrorInIndexOrder()
+    {
+        for (int run = 0; run < 10; run++)
+        {
+            try
+            {
+                ParallelTasks.collect(forkJoinPool, 100, i ->
+                {
+                    if (i % 10 == 3)
+                    {
+                        throw new IllegalStateException("task" + i);
+                    }
+                    return i;
+                });
+                Assert.fail("Expected an error");
+            }
+            catch (IllegalStateException e)
+            {
+                Assert.assertEquals("task3", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void checkedError()
+    {
+        try
+        {
+            ParallelTasks.collect(forkJoinPool, 10, i ->
+            {
+                if (i == 7)
+                {
+                    throw new IOException("task" + i);
+                }
+                return i;
+            });
+            Assert.fail("Expected an error");
+        }
+        catch (IOException e)
+        {
+            Assert.assertEquals("task7", e.getMessage());
+        }
+    }
+}
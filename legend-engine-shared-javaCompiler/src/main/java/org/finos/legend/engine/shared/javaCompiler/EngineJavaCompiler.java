@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.shared.javaCompiler;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.github.classgraph.ClassGraph;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
@@ -49,6 +50,8 @@ public class EngineJavaCompiler
         }
     };
 
+    private static volatile String classpath;
+
     private final javax.tools.JavaCompiler compiler;
     private final MemoryFileManager memoryFileManager;
     private final EngineJavaCompiler parent;
@@ -93,7 +96,9 @@ public class EngineJavaCompiler
     public EngineJavaCompiler compile(Iterable<? extends StringJavaSource> javaSources) throws JavaCompileException
     {
         MetricsHandler.observeCount("Java compilation");
+        long start = System.currentTimeMillis();
         compile(this.compiler, this.javaVersion, javaSources, this.memoryFileManager);
+        MetricsHandler.JAVA_COMPILATION_DURATION.observe(start, System.currentTimeMillis(), this.javaVersion.name());
         this.memoryClassLoader = parent == null ?
                 new MemoryClassLoader(this.memoryFileManager, Thread.currentThread().getContextClassLoader()) :
                 new MemoryClassLoader(this.memoryFileManager, parent.memoryClassLoader);
@@ -145,7 +150,7 @@ public class EngineJavaCompiler
         options.add("-source");
         options.add(javaVersion == JavaVersion.JAVA_7 ? "7" : "8");
         options.add("-classpath");
-        options.add(new ClassGraph().getClasspath());
+        options.add(getClasspath());
 
         DiagnosticCollector<JavaFileObject> diagnosticCollector = new DiagnosticCollector<>();
         javax.tools.JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnosticCollector, options, null, javaSources);
@@ -155,6 +160,36 @@ public class EngineJavaCompiler
         }
     }
 
+    /**
+     * The classpath handed to javac. Scanning it is expensive, so it is computed once and shared by all compilers
+     * until {@link #invalidateClasspath()} is called.
+     */
+    public static String getClasspath()
+    {
+        String result = classpath;
+        if (result == null)
+        {
+            synchronized (EngineJavaCompiler.class)
+            {
+                result = classpath;
+                if (result == null)
+                {
+                    long start = System.currentTimeMillis();
+                    result = new ClassGraph().getClasspath();
+                    MetricsHandler.observe("Java compilation classpath scan", start, System.currentTimeMillis());
+                    classpath = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    static void invalidateClasspath()
+    {
+        classpath = null;
+    }
+
     public void setFilteringEnabled(boolean enabled)
     {
         this.filterControl.enabled = enabled;
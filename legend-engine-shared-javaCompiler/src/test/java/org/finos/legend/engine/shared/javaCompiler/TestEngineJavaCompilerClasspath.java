@@ -0,0 +1,47 @@
+// Copyright 2020 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.javaCompiler;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestEngineJavaCompilerClasspath
+{
+    private final String code = "package engine.generated;" +
+            "public class Example" +
+            "{" +
+            "    public static String execute()\n" +
+            "    {\n" +
+            "       return \"ok\";" +
+            "    }\n" +
+            "}";
+
+    @Test
+    public void testClasspathIsComputedOnce() throws Exception
+    {
+        String classpath = EngineJavaCompiler.getClasspath();
+        Assert.assertSame(classpath, EngineJavaCompiler.getClasspath());
+
+        EngineJavaCompiler c = new EngineJavaCompiler();
+        c.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Assert.assertSame(classpath, EngineJavaCompiler.getClasspath());
+
+        EngineJavaCompiler.invalidateClasspath();
+        String recomputed = EngineJavaCompiler.getClasspath();
+        Assert.assertNotSame(classpath, recomputed);
+        Assert.assertEquals(classpath, recomputed);
+    }
+}
@@ -17,6 +17,8 @@ package org.finos.legend.engine.test.runner.mapping;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.core.JsonParser;
@@ -53,16 +55,19 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.m
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.modelToModel.mapping.ObjectInputType;
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lambda;
 import org.finos.legend.engine.shared.core.url.DataProtocolHandler;
+import org.finos.legend.engine.shared.core.util.ParallelTasks;
 import org.finos.legend.engine.test.runner.shared.ComparisonError;
 import org.finos.legend.engine.test.runner.shared.JsonNodeComparator;
 import org.finos.legend.pure.generated.Root_meta_pure_router_extension_RouterExtension;
 import org.finos.legend.pure.generated.Root_meta_pure_runtime_Runtime_Impl;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction;
+import org.slf4j.Logger;
 
 import javax.ws.rs.core.MediaType;
 
 public class MappingTestRunner
 {
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Legend Execution Server: Mapping Test Runner");
     private static final ObjectMapper objectMapper = new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES,true);
 
     private final PureModel pureModel;
@@ -151,7 +156,39 @@ public class MappingTestRunner
         return this.doRunTest();
     }
 
+    /**
+     * Sets up and runs the tests, concurrently on the given pool if not null. Each test has its own test connections,
+     * and so its own test database. The results are returned in the order of the runners.
+     */
+    public static List<RichMappingTestResult> setupAndRunTests(List<MappingTestRunner> runners, ForkJoinPool forkJoinPool)
+    {
+        long start = System.nanoTime();
+        List<RichMappingTestResult> results;
+        if (forkJoinPool == null || runners.size() < 2)
+        {
+            results = new ArrayList<>(runners.size());
+            for (MappingTestRunner runner : runners)
+            {
+                results.add(runner.setupAndRunTest());
+            }
+        }
+        else
+        {
+            results = ParallelTasks.collect(forkJoinPool, runners.size(), i -> runners.get(i).setupAndRunTest());
+        }
+        LOGGER.info("{} mapping test(s) run in {}ms", results.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return results;
+    }
+
     public RichMappingTestResult doRunTest()
+    {
+        long start = System.nanoTime();
+        RichMappingTestResult result = this.runTest();
+        result.setDuration(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private RichMappingTestResult runTest()
     {
         try
         {
@@ -27,6 +27,7 @@ public class RichMappingTestResult
     private Optional<String> expected;
     private Optional<String> actual;
     private TestResult result;
+    private long duration;
 
     public RichMappingTestResult()
     {
@@ -115,4 +116,17 @@ public class RichMappingTestResult
     {
         return result;
     }
+
+    /**
+     * Time (in milliseconds) taken to run the test.
+     */
+    public long getDuration()
+    {
+        return duration;
+    }
+
+    public void setDuration(long duration)
+    {
+        this.duration = duration;
+    }
 }
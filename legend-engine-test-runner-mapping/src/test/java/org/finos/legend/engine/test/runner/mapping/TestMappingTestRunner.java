@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 
@@ -278,12 +283,39 @@ public class TestMappingTestRunner
                 objectMapper.readValue(testResult.getActual().get(), JsonNode.class));
     }
 
+    @Test
+    public void testConcurrentTestExecution() throws IOException
+    {
+        List<MappingTestRunner> runners = new ArrayList<>();
+        for (String model : Arrays.asList("modelToModelMappingTests1.json", "modelToModelMappingTests2.json", "modelToModelMappingTests1.json"))
+        {
+            URL url = Objects.requireNonNull(getClass().getClassLoader().getResource(model));
+            PureModelContextData pureModelContextData = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(url, PureModelContextData.class);
+            runners.add(buildRunner(pureModelContextData, new PureModel(pureModelContextData, null, Thread.currentThread().getContextClassLoader(), DeploymentMode.PROD)));
+        }
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        try
+        {
+            List<RichMappingTestResult> testResults = MappingTestRunner.setupAndRunTests(runners, forkJoinPool);
+            assertEquals(Arrays.asList(TestResult.SUCCESS, TestResult.FAILURE, TestResult.SUCCESS), testResults.stream().map(RichMappingTestResult::getResult).collect(Collectors.toList()));
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+    }
+
     private RichMappingTestResult runTest(PureModelContextData pureModelContextData, PureModel pureModel)
+    {
+        return buildRunner(pureModelContextData, pureModel).setupAndRunTest();
+    }
+
+    private MappingTestRunner buildRunner(PureModelContextData pureModelContextData, PureModel pureModel)
     {
         Mapping mapping = pureModelContextData.getElementsOfType(Mapping.class).get(0);
         MappingTest mappingTest = mapping.tests.get(0);
-        MappingTestRunner mappingTestRunner = new MappingTestRunner(pureModel, mapping.getPath(), mappingTest, planExecutor, core_relational_relational_router_router_extension.Root_meta_pure_router_extension_defaultRelationalExtensions__RouterExtension_MANY_(pureModel.getExecutionSupport()), LegendPlanTransformers.transformers, "vX_X_X");
-        return mappingTestRunner.setupAndRunTest();
+        return new MappingTestRunner(pureModel, mapping.getPath(), mappingTest, planExecutor, core_relational_relational_router_router_extension.Root_meta_pure_router_extension_defaultRelationalExtensions__RouterExtension_MANY_(pureModel.getExecutionSupport()), LegendPlanTransformers.transformers, "vX_X_X");
     }
 
     @Test
@@ -17,6 +17,7 @@ package org.finos.legend.engine.test.runner.service;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
 import org.finos.legend.engine.test.runner.shared.TestResult;
 
+import java.util.Collections;
 import java.util.Map;
 
 public class RichServiceTestResult
@@ -27,6 +28,8 @@ public class RichServiceTestResult
     public final ExecutionPlan executionPlan;
     public final String javaCodeString;
     private String optionalMultiExecutionKey;
+    private Map<String, Long> testDurations = Collections.emptyMap();
+    private long duration;
 
 
     /**
@@ -78,4 +81,30 @@ public class RichServiceTestResult
         this.optionalMultiExecutionKey = optionalMultiExecutionKey;
     }
 
+    /**
+     * Time (in milliseconds) taken by each assert, keyed like {@link #getResults()}.
+     */
+    public Map<String, Long> getTestDurations()
+    {
+        return this.testDurations;
+    }
+
+    public void setTestDurations(Map<String, Long> testDurations)
+    {
+        this.testDurations = testDurations;
+    }
+
+    /**
+     * Time (in milliseconds) taken to run the asserts, including the set up of the test database.
+     */
+    public long getDuration()
+    {
+        return this.duration;
+    }
+
+    public void setDuration(long duration)
+    {
+        this.duration = duration;
+    }
+
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package org.finos.legend.engine.test.runner.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentracing.Scope;
+import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.list.MutableList;
@@ -65,6 +66,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.r
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.PureList;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.operational.Assert;
+import org.finos.legend.engine.shared.core.util.ParallelTasks;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
 import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
 import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
@@ -84,6 +86,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 public class ServiceTestRunner
 {
@@ -96,8 +100,19 @@ public class ServiceTestRunner
     private final RichIterable<? extends Root_meta_pure_router_extension_RouterExtension> extensions;
     private final MutableList<PlanTransformer> transformers;
     private final String pureVersion;
+    private final ForkJoinPool forkJoinPool;
 
     public ServiceTestRunner(Pair<Service, Root_meta_legend_service_metamodel_Service> pureServicePairs, Pair<PureModelContextData, PureModel> pureModelPairs, ObjectMapper objectMapper, PlanExecutor executor, RichIterable<? extends Root_meta_pure_router_extension_RouterExtension> extensions, MutableList<PlanTransformer> transformers, String pureVersion)
+    {
+        this(pureServicePairs, pureModelPairs, objectMapper, executor, extensions, transformers, pureVersion, null);
+    }
+
+    /**
+     * @param forkJoinPool pool used to run the keyed tests of a multi execution service concurrently, each with its own
+     *                     test database; null runs them one after another. Only the tests of this service run in
+     *                     parallel: single execution services have one test and are not affected
+     */
+    public ServiceTestRunner(Pair<Service, Root_meta_legend_service_metamodel_Service> pureServicePairs, Pair<PureModelContextData, PureModel> pureModelPairs, ObjectMapper objectMapper, PlanExecutor executor, RichIterable<? extends Root_meta_pure_router_extension_RouterExtension> extensions, MutableList<PlanTransformer> transformers, String pureVersion, ForkJoinPool forkJoinPool)
     {
         this.pureServicePairs = pureServicePairs;
         this.pureModelPairs = pureModelPairs;
@@ -106,14 +121,28 @@ public class ServiceTestRunner
         this.extensions = extensions;
         this.transformers = transformers;
         this.pureVersion = pureVersion;
+        this.forkJoinPool = forkJoinPool;
     }
 
     public ServiceTestRunner(Service service, Pair<PureModelContextData, PureModel> pureModelPairs, PlanExecutor executor, RichIterable<? extends Root_meta_pure_router_extension_RouterExtension> extensions, MutableList<PlanTransformer> transformers, String pureVersion)
     {
-        this(Tuples.pair(service,(Root_meta_legend_service_metamodel_Service) service.accept(new PackageableElementFirstPassBuilder(pureModelPairs.getTwo().getContext(service)))), pureModelPairs, ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports(), executor, extensions, transformers, pureVersion);
+        this(service, pureModelPairs, executor, extensions, transformers, pureVersion, null);
+    }
+
+    public ServiceTestRunner(Service service, Pair<PureModelContextData, PureModel> pureModelPairs, PlanExecutor executor, RichIterable<? extends Root_meta_pure_router_extension_RouterExtension> extensions, MutableList<PlanTransformer> transformers, String pureVersion, ForkJoinPool forkJoinPool)
+    {
+        this(Tuples.pair(service,(Root_meta_legend_service_metamodel_Service) service.accept(new PackageableElementFirstPassBuilder(pureModelPairs.getTwo().getContext(service)))), pureModelPairs, ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports(), executor, extensions, transformers, pureVersion, forkJoinPool);
     }
 
     public List<RichServiceTestResult> executeTests() throws IOException, JavaCompileException
+    {
+        long start = System.nanoTime();
+        List<RichServiceTestResult> results = this.doExecuteTests();
+        LOGGER.info("{} test(s) of {} run in {}ms", results.size(), this.pureServicePairs.getOne().getPath(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return results;
+    }
+
+    private List<RichServiceTestResult> doExecuteTests() throws IOException, JavaCompileException
     {
         Service service = pureServicePairs.getOne();
         Root_meta_legend_service_metamodel_Service pureService = pureServicePairs.getTwo();
@@ -122,7 +151,6 @@ public class ServiceTestRunner
         Execution serviceExecution = service.execution;
         if (serviceExecution instanceof PureMultiExecution)
         {
-            List<RichServiceTestResult> results = org.eclipse.collections.api.factory.Lists.mutable.empty();
             try (Scope scope = GlobalTracer.get().buildSpan("Generate Tests And Run For MultiExecution Service").startActive(true))
             {
                 Map<String, Runtime> runtimeMap = ServiceTestGenerationHelper.buildMultiExecutionTestRuntime((PureMultiExecution)serviceExecution, (MultiExecutionTest) service.test, pureModelContextData, pureModel);
@@ -142,16 +170,17 @@ public class ServiceTestRunner
                     JavaHelper.compilePlan(plan, null);
                 }
 
-                for (KeyedSingleExecutionTest es : ((MultiExecutionTest) service.test).tests)
+                List<KeyedSingleExecutionTest> tests = ((MultiExecutionTest) service.test).tests;
+                if (this.forkJoinPool == null || tests.size() < 2)
                 {
-                    SingleExecutionPlan executionPlan = plansByKey.get(es.key);
-                    List<TestContainer> asserts = es.asserts;
-                    RichIterable<? extends String> sqls = sqlStatementsByKey.get(es.key);
-                    RichServiceTestResult richServiceTestResult = executeTestAsserts(executionPlan, asserts, sqls, scope);
-                    richServiceTestResult.setOptionalMultiExecutionKey(es.key);
-                    results.add(richServiceTestResult);
+                    List<RichServiceTestResult> results = org.eclipse.collections.api.factory.Lists.mutable.empty();
+                    for (KeyedSingleExecutionTest es : tests)
+                    {
+                        results.add(executeKeyedTest(es, plansByKey, sqlStatementsByKey, scope));
+                    }
+                    return results;
                 }
-                return results;
+                return executeKeyedTestsConcurrently(tests, plansByKey, sqlStatementsByKey, scope);
             }
         }
         else if (serviceExecution instanceof PureSingleExecution)
@@ -183,6 +212,35 @@ public class ServiceTestRunner
         }
     }
 
+    private RichServiceTestResult executeKeyedTest(KeyedSingleExecutionTest es, Map<String, SingleExecutionPlan> plansByKey, Map<String, MutableList<String>> sqlStatementsByKey, Scope scope) throws IOException
+    {
+        SingleExecutionPlan executionPlan = plansByKey.get(es.key);
+        List<TestContainer> asserts = es.asserts;
+        RichIterable<? extends String> sqls = sqlStatementsByKey.get(es.key);
+        RichServiceTestResult richServiceTestResult = executeTestAsserts(executionPlan, asserts, sqls, scope);
+        richServiceTestResult.setOptionalMultiExecutionKey(es.key);
+        return richServiceTestResult;
+    }
+
+    /**
+     * Runs the tests of the service concurrently. Each test sets up its own test database and the plans, generated and
+     * compiled once per key, are shared. Scopes are thread bound, so each test traces under its own scope, a child of
+     * the service one. The results are returned in test order and, if several tests fail, the error of the first one is
+     * thrown, as in a sequential run.
+     */
+    private List<RichServiceTestResult> executeKeyedTestsConcurrently(List<KeyedSingleExecutionTest> tests, Map<String, SingleExecutionPlan> plansByKey, Map<String, MutableList<String>> sqlStatementsByKey, Scope scope) throws IOException
+    {
+        Span parentSpan = scope.span();
+        List<RichServiceTestResult> results = ParallelTasks.collect(this.forkJoinPool, tests.size(), i ->
+        {
+            try (Scope testScope = GlobalTracer.get().buildSpan("Run Test For Key " + tests.get(i).key).asChildOf(parentSpan).startActive(true))
+            {
+                return executeKeyedTest(tests.get(i), plansByKey, sqlStatementsByKey, testScope);
+            }
+        });
+        return Lists.mutable.withAll(results);
+    }
+
     private Pair<ExecutionPlan, RichIterable<? extends String>> getExtraServiceExecutionPlan(MutableList<ServiceExecutionExtension> extensions, Execution execution, String testData)
     {
         return extensions
@@ -237,6 +295,7 @@ public class ServiceTestRunner
 
             scope.span().log("Java asserts generated and compiled");
 
+            long start = System.nanoTime();
             TestExecutionScope execScope = null;
             try
             {
@@ -249,8 +308,10 @@ public class ServiceTestRunner
                 // Run tests
                 Map<String, org.finos.legend.engine.test.runner.shared.TestResult> results = org.eclipse.collections.api.factory.Maps.mutable.empty();
                 Map<String, Exception> assertExceptions = org.eclipse.collections.api.factory.Maps.mutable.empty();
+                Map<String, Long> testDurations = org.eclipse.collections.api.factory.Maps.mutable.empty();
                 for (Pair<TestContainer, Integer> tc : LazyIterate.zipWithIndex(asserts))
                 {
+                    long testStart = System.nanoTime();
                     // Build Param Map
                     Map<String, Result>  parameters = Maps.mutable.empty();
                     if (service.execution instanceof PureExecution)
@@ -292,9 +353,11 @@ public class ServiceTestRunner
                         scope.span().setTag(testName + "_assert", out.toString());
                     }
                     results.put(testName, testResult);
+                    testDurations.put(testName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - testStart));
                 }
 
                 testRun = new RichServiceTestResult(service.getPath(), results, assertExceptions, null, executionPlan, javaCode);
+                testRun.setTestDurations(testDurations);
                 scope.span().log("Finished running tests " + results);
             }
             catch (Exception e)
@@ -310,6 +373,7 @@ public class ServiceTestRunner
                 }
             }
 
+            testRun.setDuration(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             return testRun;
         }
         else
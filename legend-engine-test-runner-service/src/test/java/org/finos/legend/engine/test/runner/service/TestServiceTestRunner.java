@@ -19,6 +19,10 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.service.KeyedExecutionParameter;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.service.KeyedSingleExecutionTest;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.service.MultiExecutionTest;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.service.PureMultiExecution;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.service.Service;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
@@ -28,9 +32,13 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 public class TestServiceTestRunner
 {
@@ -85,4 +93,78 @@ public class TestServiceTestRunner
         test("legend-sdlc-test-services-multi-execution.json", "my::Service", TestResult.SUCCESS, true);
     }
 
+    @Test
+    public void testMultiExecutionServiceRunConcurrently() throws Exception
+    {
+        List<RichServiceTestResult> sequentialResults = this.runMultiExecutionTests(null);
+        List<RichServiceTestResult> concurrentResults;
+        ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        try
+        {
+            concurrentResults = this.runMultiExecutionTests(forkJoinPool);
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+
+        for (List<RichServiceTestResult> testResults : Arrays.asList(sequentialResults, concurrentResults))
+        {
+            Assert.assertEquals(Arrays.asList("Env1", "Env2", "Env3"), testResults.stream().map(RichServiceTestResult::getOptionalMultiExecutionKey).collect(Collectors.toList()));
+            for (RichServiceTestResult testResult : testResults)
+            {
+                Assert.assertEquals("my::Service", testResult.getServicePath());
+                Assert.assertEquals(Collections.emptyMap(), testResult.getAssertExceptions());
+                Assert.assertEquals(Collections.singletonMap("test0", TestResult.SUCCESS), testResult.getResults());
+            }
+        }
+    }
+
+    @Test
+    public void testTestDurations() throws Exception
+    {
+        for (RichServiceTestResult testResult : this.runMultiExecutionTests(null))
+        {
+            Assert.assertEquals(Collections.singleton("test0"), testResult.getTestDurations().keySet());
+            long assertDuration = testResult.getTestDurations().get("test0");
+            Assert.assertTrue(assertDuration >= 0);
+            Assert.assertTrue(testResult.getDuration() >= assertDuration);
+        }
+    }
+
+    // Runs the multi execution service with two more keys, each a copy of the first one with its own test data
+    private List<RichServiceTestResult> runMultiExecutionTests(ForkJoinPool forkJoinPool) throws Exception
+    {
+        URL url = Objects.requireNonNull(getClass().getClassLoader().getResource("legend-sdlc-test-services-multi-execution.json"));
+        PureModelContextData pureModelContextData = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(url, PureModelContextData.class);
+        Service service = pureModelContextData.getElementsOfType(Service.class).stream().filter(s -> s.getPath().equals("my::Service")).findFirst()
+                .orElseThrow(() -> new RuntimeException("Unable to find service with path 'my::Service'"));
+
+        PureMultiExecution execution = (PureMultiExecution) service.execution;
+        MultiExecutionTest test = (MultiExecutionTest) service.test;
+        KeyedExecutionParameter executionParameter = execution.executionParameters.get(0);
+        KeyedSingleExecutionTest keyedTest = test.tests.get(0);
+        execution.executionParameters = new ArrayList<>(execution.executionParameters);
+        test.tests = new ArrayList<>(test.tests);
+        for (String key : Arrays.asList("Env2", "Env3"))
+        {
+            KeyedExecutionParameter newExecutionParameter = new KeyedExecutionParameter();
+            newExecutionParameter.key = key;
+            newExecutionParameter.mapping = executionParameter.mapping;
+            newExecutionParameter.runtime = executionParameter.runtime;
+            newExecutionParameter.executionOptions = executionParameter.executionOptions;
+            execution.executionParameters.add(newExecutionParameter);
+
+            KeyedSingleExecutionTest newKeyedTest = new KeyedSingleExecutionTest();
+            newKeyedTest.key = key;
+            newKeyedTest.data = keyedTest.data.replace("Hello", key);
+            newKeyedTest.asserts = keyedTest.asserts;
+            test.tests.add(newKeyedTest);
+        }
+
+        PureModel pureModel = new PureModel(pureModelContextData, null, Thread.currentThread().getContextClassLoader(), DeploymentMode.PROD);
+        ServiceTestRunner serviceTestRunner = new ServiceTestRunner(service, Tuples.pair(pureModelContextData, pureModel), PlanExecutor.newPlanExecutorWithAvailableStoreExecutors(), core_relational_relational_router_router_extension.Root_meta_pure_router_extension_defaultRelationalExtensions__RouterExtension_MANY_(pureModel.getExecutionSupport()), LegendPlanTransformers.transformers, "vX_X_X", forkJoinPool);
+        return serviceTestRunner.executeTests();
+    }
+
 }